@@ -0,0 +1,93 @@
+#!/bin/sh
+# Builds Clusterle with a Class Data Sharing (CDS) archive and runs it (Linux).
+#
+#   ./cds(Linux).sh           compile, record the archive with a training run, then play
+#   ./cds(Linux).sh run       play with the existing archive
+#   ./cds(Linux).sh compare   time startup with the JDK's default CDS and with the app archive
+#   ./cds(Linux).sh record    play with a Flight Recorder recording (clusterle.jfc)
+#
+# JavaFX natives for Linux are not in lib/: point JAVAFX_LIB at the lib folder of the
+# Linux JavaFX SDK. libhunspell.so is bundled in lib/jhunspell-*.jar (linux-x86-64/) and
+# JNA loads it from the classpath; set HUNSPELL_NATIVE to a folder to use another build.
+# Startup phases are logged by StartupProfiler (-Dclusterle.profile=true).
+set -e
+cd "$(dirname "$0")"
+
+SRC=src
+OUT=out
+LIB=lib
+RES=resources
+MAIN=Clusterle
+JFXLIB="${JAVAFX_LIB:-$LIB}"
+MODULES=javafx.controls,javafx.fxml,javafx.graphics,javafx.base,javafx.media,javafx.web,javafx.swing
+ARCHIVE=cache/clusterle.jsa
+RECORDING=cache/clusterle.jfr
+
+# Hunspell native library folder (empty = the .so bundled in the jhunspell jar)
+HUNNATIVE="${HUNSPELL_NATIVE:-}"
+
+play() {
+  java \
+    ${HUNNATIVE:+-Djna.library.path="$HUNNATIVE"} \
+    --enable-native-access=ALL-UNNAMED \
+    --module-path "$JFXLIB" \
+    --add-modules "$MODULES" \
+    -cp "$LIB/*:$OUT" \
+    "$@" \
+    "$MAIN"
+}
+
+compile() {
+  echo "Compiling..."
+  rm -rf "$OUT"
+  mkdir -p "$OUT"
+  javac \
+    --module-path "$JFXLIB" \
+    --add-modules "$MODULES" \
+    -cp "$LIB/*" \
+    -d "$OUT" \
+    "$SRC"/*.java
+
+  echo "Copying resources..."
+  if [ -d "$RES" ]; then cp -r "$RES"/. "$OUT"/; fi
+}
+
+train() {
+  # Opens every screen once and exits; the JVM writes the classes it loaded
+  echo "Recording CDS archive..."
+  mkdir -p "$(dirname "$ARCHIVE")"
+  rm -f "$ARCHIVE"
+  play -XX:ArchiveClassesAtExit="$ARCHIVE" -Dclusterle.train=true
+}
+
+case "${1:-build}" in
+  build)
+    compile
+    train
+    echo "Running..."
+    play -XX:SharedArchiveFile="$ARCHIVE" -Dclusterle.profile=true
+    ;;
+  run)
+    if [ ! -f "$ARCHIVE" ]; then
+      echo "No archive at $ARCHIVE: run without arguments first."
+      exit 1
+    fi
+    play -XX:SharedArchiveFile="$ARCHIVE" -Dclusterle.profile=true
+    ;;
+  compare)
+    # Baseline is a default run (the JDK's own CDS archive), not -Xshare:off
+    echo "--- default ---"
+    play -Dclusterle.profile=true -Dclusterle.train=true
+    echo "--- with archive ---"
+    play -XX:SharedArchiveFile="$ARCHIVE" -Dclusterle.profile=true -Dclusterle.train=true
+    ;;
+  record)
+    mkdir -p "$(dirname "$RECORDING")"
+    play -XX:StartFlightRecording:settings=clusterle.jfc,filename="$RECORDING"
+    echo "Recording written to $RECORDING (jfr print --events 'clusterle.*' $RECORDING)"
+    ;;
+  *)
+    echo "Usage: $0 [build|run|compare|record]"
+    exit 1
+    ;;
+esac
@@ -0,0 +1,53 @@
+public class Absurdle {
+    private int letters;
+    private Language lang;
+
+    Absurdle(int letterCount, Language language, Terminal terminal) {
+        this.letters = letterCount;
+        this.lang = language;
+
+        AbsurdleLogic game = new AbsurdleLogic(letters, lang);
+        GameSession<AbsurdleLogic.TurnResult> session = GameSession.absurdle(game,
+                word -> HunspellChecker.isValidWord(lang.getLanguageCode(), word));
+
+        // Each turn is built into one frame and printed at once
+        ConsoleRenderer screen = terminal.screen();
+
+        screen.line("There is no secret word yet: every guess rules out as few words as possible.")
+                .line("Words to choose from: " + game.getCandidateCount())
+                .flush();
+
+        session.addListener(new GameSession.Listener<>() {
+            @Override
+            public void onTurn(AbsurdleLogic.TurnResult result) {
+                screen.text(" | ");
+                for (int i = 0; i < letters; i++) {
+                    screen.tile(result.getTiles()[i].ordinal(), result.getGuess().charAt(i));
+                }
+                screen.text(" | ");
+                screen.line(" Words left: " + result.getRemainingCandidates()).flush();
+            }
+
+            @Override
+            public void onRejected(String guess, String reason) {
+                terminal.println(reason);
+            }
+
+            @Override
+            public void onEnd(GameSession.State state) {
+                terminal.println("Congratulations! You found the word in " + game.getTries() + " guesses!");
+            }
+        });
+
+        terminal.play(session, n -> "Guess " + n + ": ");
+    }
+
+    // Accessor methods (required by your VisibilityModifier rule)
+    int getLetters() {
+        return letters;
+    }
+
+    Language getLang() {
+        return lang;
+    }
+}
@@ -0,0 +1,267 @@
+/**
+ * Adversarial Wordle ("Absurdle"): the host never picks a secret. It keeps every word
+ * that fits the feedback so far, and after each guess splits them by the feedback
+ * they would give ({@link WordleLogic#scorePacked}) and keeps the largest group.
+ * The player wins once the only words left are the guess itself. There is no
+ * guess limit; fewer guesses is better.
+ */
+public class AbsurdleLogic {
+
+    /** Latency of {@link #submitGuess}, for the metrics overlay. */
+    private static final LatencyHistogram SUBMIT_TIME = Metrics.submitGuess("absurdle");
+
+    public static class TurnResult {
+
+        /** Submitted guess (uppercase). */
+        private final String guess;
+
+        /** Feedback of the kept group, per letter. */
+        private final WordleLogic.Tile[] tiles;
+
+        /** Number of words still possible after this turn. */
+        private final int remainingCandidates;
+
+        /** Number of guesses used so far. */
+        private final int tries;
+
+        /** Whether the game is won after this turn. */
+        private final boolean gameWon;
+
+        TurnResult(String guessValue, WordleLogic.Tile[] tilesValue, int remainingCandidatesValue,
+                   int triesValue, boolean gameWonValue) {
+            this.guess = guessValue;
+            this.tiles = tilesValue;
+            this.remainingCandidates = remainingCandidatesValue;
+            this.tries = triesValue;
+            this.gameWon = gameWonValue;
+        }
+
+        public String getGuess() {
+            return guess;
+        }
+
+        public WordleLogic.Tile[] getTiles() {
+            return tiles;
+        }
+
+        public int getRemainingCandidates() {
+            return remainingCandidates;
+        }
+
+        public int getTries() {
+            return tries;
+        }
+
+        public boolean isGameWon() {
+            return gameWon;
+        }
+
+        public boolean isGameOver() {
+            return gameWon;
+        }
+    }
+
+    /** Number of letters per word. */
+    private final int letters;
+
+    /** All words of the list (uppercase). */
+    private final String[] words;
+
+    /** Indices of the words still possible; only the first candidateCount are used. */
+    private final int[] candidates;
+
+    /** Number of words still possible. */
+    private int candidateCount;
+
+    /** Feedback code of each candidate for the current guess (reused every turn). */
+    private final int[] codes;
+
+    /** Group size per feedback code (3^letters entries, reused every turn). */
+    private final int[] bucketCounts;
+
+    /** Feedback code of a fully green row. */
+    private final int allGreen;
+
+    /** Number of guesses used. */
+    private int tries;
+
+    /** Whether the game is won. */
+    private boolean won;
+
+    public AbsurdleLogic(int lettersValue, Language langValue) {
+        this(langValue.getWordList(lettersValue));
+    }
+
+    /**
+     * Plays against the given word list (all words must have the same length).
+     */
+    AbsurdleLogic(String[] wordList) {
+        if (wordList == null || wordList.length == 0) {
+            throw new IllegalArgumentException("At least one word required.");
+        }
+
+        this.letters = wordList[0].length();
+        this.words = new String[wordList.length];
+        this.candidates = new int[wordList.length];
+        for (int i = 0; i < wordList.length; i++) {
+            if (wordList[i].length() != letters) {
+                throw new IllegalArgumentException("All words must have same length.");
+            }
+            words[i] = wordList[i].toUpperCase();
+            candidates[i] = i;
+        }
+        this.candidateCount = wordList.length;
+
+        this.codes = new int[wordList.length];
+
+        int patterns = 1;
+        for (int i = 0; i < letters; i++) {
+            patterns *= 3;
+        }
+        this.bucketCounts = new int[patterns];
+        this.allGreen = patterns - 1;
+    }
+
+    public int getLetters() {
+        return letters;
+    }
+
+    public int getTries() {
+        return tries;
+    }
+
+    /**
+     * Number of words that still fit every feedback given so far.
+     */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * The words that still fit every feedback given so far.
+     */
+    public String[] getCandidates() {
+        String[] out = new String[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            out[i] = words[candidates[i]];
+        }
+        return out;
+    }
+
+    public boolean isGameWon() {
+        return won;
+    }
+
+    public boolean isGameOver() {
+        return won;
+    }
+
+    public TurnResult submitGuess(String guessRaw) {
+        GameEvents.Guess event = new GameEvents.Guess();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return playGuess(guessRaw);
+        } finally {
+            SUBMIT_TIME.recordSince(start);
+            event.mode = "absurdle";
+            event.guess = guessRaw;
+            event.commit();
+        }
+    }
+
+    private TurnResult playGuess(String guessRaw) {
+
+        // ----- If the game is already won, return a safe "empty" result -----
+        if (won) {
+            return new TurnResult("", toTiles(allGreen), candidateCount, tries, true);
+        }
+
+        // ----- Normalize and validate the guess -----
+        String guess = guessRaw.trim().toUpperCase();
+        if (guess.length() != letters) {
+            throw new IllegalArgumentException("Guess must be exactly " + letters + " letters.");
+        }
+        for (int i = 0; i < letters; i++) {
+            char c = guess.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                throw new IllegalArgumentException("Only letters A-Z allowed.");
+            }
+        }
+
+        tries++;
+
+        // ----- Partition the candidates by the feedback they would give -----
+        for (int i = 0; i < candidateCount; i++) {
+            int code = WordleLogic.scorePacked(words[candidates[i]], guess);
+            codes[i] = code;
+            bucketCounts[code]++;
+        }
+
+        // ----- Keep the largest group (and clear the histogram for the next turn) -----
+        int best = -1;
+        for (int i = 0; i < candidateCount; i++) {
+            int code = codes[i];
+            if (bucketCounts[code] > 0) {
+                if (best < 0 || isBetterBucket(code, best)) {
+                    best = code;
+                }
+            }
+        }
+        int kept = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (codes[i] == best) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            bucketCounts[codes[i]] = 0;
+        }
+        candidateCount = kept;
+
+        won = best == allGreen;
+        return new TurnResult(guess, toTiles(best), candidateCount, tries, won);
+    }
+
+    /**
+     * Whether the host prefers the group with feedback a over b: the larger group,
+     * then the one that reveals less (fewer greens and yellows), then the smaller code.
+     * The all-green group (a win for the player) only counts as size 0, so it is
+     * chosen only when nothing else is left.
+     */
+    private boolean isBetterBucket(int a, int b) {
+        int sizeA = (a == allGreen) ? 0 : bucketCounts[a];
+        int sizeB = (b == allGreen) ? 0 : bucketCounts[b];
+        if (sizeA != sizeB) {
+            return sizeA > sizeB;
+        }
+        int clueA = cluePoints(a);
+        int clueB = cluePoints(b);
+        if (clueA != clueB) {
+            return clueA < clueB;
+        }
+        return a < b;
+    }
+
+    /**
+     * Sum of the digits of a feedback code (green = 2, yellow = 1).
+     */
+    private int cluePoints(int code) {
+        int sum = 0;
+        for (int i = 0; i < letters; i++) {
+            sum += code % 3;
+            code /= 3;
+        }
+        return sum;
+    }
+
+    private WordleLogic.Tile[] toTiles(int code) {
+        WordleLogic.Tile[] values = WordleLogic.Tile.values();
+        WordleLogic.Tile[] tiles = new WordleLogic.Tile[letters];
+        for (int i = 0; i < letters; i++) {
+            tiles[i] = values[code % 3];
+            code /= 3;
+        }
+        return tiles;
+    }
+}
@@ -0,0 +1,374 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Plays games without a GUI or prompts: reads one game per line, plays its guesses
+ * through the logic classes (several games in parallel) and writes one result line
+ * per game, in input order. Used to replay recorded games and for load tests.
+ * <pre>
+ * java BatchRunner [input|-] [output]      (default: stdin to stdout)
+ * </pre>
+ * Input lines ({@code #} starts a comment):
+ * <pre>
+ * mode     lang size secret        guesses...
+ * wordle   en   2x5  42            CRANE SLATE
+ * xordle   en   5    =CRANE,MOIST  PLUMB
+ * verticle de   4    7             HAUS
+ * mathler  -    3    9             12+34-5
+ * </pre>
+ * size is letters (Wordle: {@code <words>x<letters>}, Mathler: amount of numbers).
+ * secret is a seed (the same seed always gives the same secret) or {@code =} and
+ * the secret word(s) themselves, which must match the size. Output lines:
+ * <pre>
+ * mode secret status tries feedback...
+ * wordle CRANE,SLATE won 2 ggggg,..g.g ggggg,ggggg
+ * </pre>
+ * status is won, lost or open (guesses ran out before the game ended). Feedback
+ * has one character per tile ({@code .} grey, {@code y} yellow, {@code g} green,
+ * {@code b} blue), one group per secret word, and {@code !} for a rejected guess.
+ * Guesses are not checked against the dictionary.
+ */
+public final class BatchRunner {
+
+    /** Feedback character per tile ordinal (GREY, YELLOW, GREEN, BLUE in every mode). */
+    private static final String TILE_CHARS = ".ygb";
+
+    /** Word lists per language code, shared by all games. */
+    private static final Map<String, Language> LANGUAGES = new ConcurrentHashMap<>();
+
+    private BatchRunner() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws IOException {
+        String input = (args.length > 0) ? args[0] : "-";
+
+        BufferedReader reader = "-".equals(input)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(input));
+        PrintStream out = (args.length > 1)
+                ? new PrintStream(Files.newOutputStream(Path.of(args[1])), false, StandardCharsets.UTF_8)
+                : new PrintStream(System.out, false, StandardCharsets.UTF_8);
+
+        LongAdder games = new LongAdder();
+        LongAdder won = new LongAdder();
+        long start = System.nanoTime();
+
+        try (reader; out) {
+            run(reader.lines(), line -> {
+                games.increment();
+                String[] fields = line.split(" ", 4);
+                if (fields.length > 2 && "won".equals(fields[2])) {
+                    won.increment();
+                }
+                out.println(line);
+            });
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("%d games, %d won, %.2f s (%.0f games/s)%n",
+                games.sum(), won.sum(), seconds, games.sum() / seconds);
+    }
+
+    /**
+     * Plays every game line in parallel and passes the result lines to the sink in input order.
+     * Blank and comment lines give no result.
+     */
+    static void run(Stream<String> lines, Consumer<String> sink) {
+        lines.parallel()
+                .map(BatchRunner::stripComment)
+                .filter(line -> !line.isEmpty())
+                .map(BatchRunner::playLine)
+                .forEachOrdered(sink);
+    }
+
+    /**
+     * Plays one game line. A malformed line gives {@code error <message>}.
+     */
+    static String playLine(String line) {
+        String[] parts = line.trim().split("\\s+");
+        try {
+            if (parts.length < 4) {
+                throw new IllegalArgumentException("Expected: mode lang size secret [guesses...]");
+            }
+
+            String mode = parts[0].toLowerCase();
+            StringBuilder result = new StringBuilder(mode);
+
+            switch (mode) {
+                case "wordle" -> playWordle(parts, result);
+                case "xordle" -> playXordle(parts, result);
+                case "verticle" -> playVerticle(parts, result);
+                case "mathler" -> playMathler(parts, result);
+                default -> throw new IllegalArgumentException("Unknown mode: " + parts[0]);
+            }
+            return result.toString();
+        } catch (IllegalArgumentException ex) {
+            return "error " + ex.getMessage();
+        }
+    }
+
+    // ----- Modes -----
+
+    private static void playWordle(String[] parts, StringBuilder result) {
+        String[] size = parts[2].split("x");
+        if (size.length != 2) {
+            throw new IllegalArgumentException("Wordle size must be <words>x<letters>: " + parts[2]);
+        }
+        int wordsCount = parseSize(size[0]);
+        int letters = parseSize(size[1]);
+
+        String[] secrets = isFixed(parts[3])
+                ? fixed(parts[3])
+                : pick(language(parts[1]).getWordList(letters), wordsCount, seed(parts[3]), false);
+        if (secrets.length != wordsCount) {
+            throw new IllegalArgumentException("Size " + parts[2] + " needs " + wordsCount + " secret words.");
+        }
+        checkLetters(secrets, letters);
+        WordleLogic game = new WordleLogic(secrets);
+
+        appendSecrets(result, game.getWords());
+        StringBuilder feedback = new StringBuilder();
+        int tries = 0;
+        for (int i = 4; i < parts.length && !game.isGameOver(); i++) {
+            feedback.append(' ');
+            try {
+                WordleLogic.Tile[][] tiles = game.submitGuess(parts[i]).getTilesByWord();
+                for (int w = 0; w < tiles.length; w++) {
+                    if (w > 0) {
+                        feedback.append(',');
+                    }
+                    appendTiles(feedback, tiles[w]);
+                }
+                tries++;
+            } catch (IllegalArgumentException ex) {
+                feedback.append('!');
+            }
+        }
+        appendStatus(result, game.isGameWon(), game.isGameOver(), tries, feedback);
+    }
+
+    private static void playXordle(String[] parts, StringBuilder result) {
+        int letters = parseSize(parts[2]);
+
+        String[] secrets = isFixed(parts[3])
+                ? fixed(parts[3])
+                : pick(language(parts[1]).getWordList(letters), 2, seed(parts[3]), true);
+        if (secrets.length != 2) {
+            throw new IllegalArgumentException("Xordle needs two secret words.");
+        }
+        checkLetters(secrets, letters);
+        XordleLogic game = new XordleLogic(secrets[0], secrets[1]);
+
+        appendSecrets(result, game.getWords());
+        StringBuilder feedback = new StringBuilder();
+        int tries = 0;
+        for (int i = 4; i < parts.length && !game.isGameOver(); i++) {
+            feedback.append(' ');
+            try {
+                appendTiles(feedback, game.submitGuess(parts[i]).getTiles());
+                tries++;
+            } catch (IllegalArgumentException ex) {
+                feedback.append('!');
+            }
+        }
+        appendStatus(result, game.isGameWon(), game.isGameOver(), tries, feedback);
+    }
+
+    private static void playVerticle(String[] parts, StringBuilder result) {
+        int letters = parseSize(parts[2]);
+
+        String secret = isFixed(parts[3])
+                ? parts[3].substring(1)
+                : pick(language(parts[1]).getWordList(letters), 1, seed(parts[3]), false)[0];
+        checkLetters(new String[]{secret}, letters);
+        VerticleLogic game = new VerticleLogic(secret);
+
+        result.append(' ').append(game.getWord());
+        StringBuilder feedback = new StringBuilder();
+        int tries = 0;
+        for (int i = 4; i < parts.length && !game.isGameOver(); i++) {
+            feedback.append(' ');
+            try {
+                appendTiles(feedback, game.submitGuess(parts[i]).getTiles());
+                tries++;
+            } catch (IllegalArgumentException ex) {
+                feedback.append('!');
+            }
+        }
+        appendStatus(result, game.isGameWon(), game.isGameOver(), tries, feedback);
+    }
+
+    private static void playMathler(String[] parts, StringBuilder result) {
+        int numbers = parseSize(parts[2]);
+
+        String equation = isFixed(parts[3])
+                ? parts[3].substring(1)
+                : MathlerLogic.generateEquation(numbers, new Random(seed(parts[3])));
+        if (countNumbers(equation) != numbers) {
+            throw new IllegalArgumentException("Equation " + equation + " does not have " + numbers + " numbers.");
+        }
+        MathlerLogic game = new MathlerLogic(equation);
+
+        result.append(' ').append(game.getEquation());
+        StringBuilder feedback = new StringBuilder();
+        int tries = 0;
+        for (int i = 4; i < parts.length && !game.isGameOver(); i++) {
+            feedback.append(' ');
+            try {
+                appendTiles(feedback, game.submitGuess(parts[i]).getTiles());
+                tries++;
+            } catch (IllegalArgumentException ex) {
+                feedback.append('!');
+            }
+        }
+        appendStatus(result, game.isGameWon(), game.isGameOver(), tries, feedback);
+    }
+
+    // ----- Helpers -----
+
+    /**
+     * Picks distinct words with a seeded random, so a seed always gives the same words.
+     * With disjoint, the words also share no letter (as Xordle requires).
+     */
+    static String[] pick(String[] list, int count, long seed, boolean disjoint) {
+        if (list.length < count) {
+            throw new IllegalArgumentException("Not enough words in the list.");
+        }
+
+        Random random = new Random(seed);
+        String[] picked = new String[count];
+        int usedLetters = 0;
+        int n = 0;
+        int attempts = 0;
+
+        while (n < count) {
+            if (++attempts > 1_000_000) {
+                throw new IllegalArgumentException("No fitting words found for seed " + seed);
+            }
+
+            String word = list[random.nextInt(list.length)];
+            int mask = letterMask(word);
+            if (disjoint && (usedLetters & mask) != 0) {
+                continue;
+            }
+            if (contains(picked, n, word)) {
+                continue;
+            }
+
+            picked[n++] = word;
+            usedLetters |= mask;
+        }
+        return picked;
+    }
+
+    private static boolean contains(String[] words, int n, String word) {
+        for (int i = 0; i < n; i++) {
+            if (words[i].equals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int letterMask(String word) {
+        int mask = 0;
+        for (int i = 0; i < word.length(); i++) {
+            mask |= 1 << (Character.toUpperCase(word.charAt(i)) - 'A');
+        }
+        return mask;
+    }
+
+    private static Language language(String code) {
+        return LANGUAGES.computeIfAbsent(code.toLowerCase(), Language::new);
+    }
+
+    private static boolean isFixed(String secret) {
+        return secret.startsWith("=");
+    }
+
+    private static String[] fixed(String secret) {
+        return secret.substring(1).split(",");
+    }
+
+    /**
+     * Rejects {@code =} secrets that do not match the size given on the line.
+     */
+    private static void checkLetters(String[] secrets, int letters) {
+        for (String secret : secrets) {
+            if (secret.length() != letters) {
+                throw new IllegalArgumentException("Secret " + secret + " is not " + letters + " letters.");
+            }
+        }
+    }
+
+    /**
+     * Number of numbers (digit runs) in an equation.
+     */
+    private static int countNumbers(String equation) {
+        int count = 0;
+        for (int i = 0; i < equation.length(); i++) {
+            boolean digit = Character.isDigit(equation.charAt(i));
+            if (digit && (i == 0 || !Character.isDigit(equation.charAt(i - 1)))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long seed(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Secret must be a seed or =WORD: " + value);
+        }
+    }
+
+    /**
+     * Parses a size field (words, letters or numbers), which must be at least 1.
+     */
+    private static int parseSize(String value) {
+        int size;
+        try {
+            size = Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Not a number: " + value);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be at least 1: " + value);
+        }
+        return size;
+    }
+
+    private static String stripComment(String line) {
+        int hash = line.indexOf('#');
+        return (hash >= 0 ? line.substring(0, hash) : line).trim();
+    }
+
+    private static void appendSecrets(StringBuilder result, String[] secrets) {
+        result.append(' ').append(String.join(",", secrets));
+    }
+
+    private static void appendTiles(StringBuilder sb, Enum<?>[] tiles) {
+        for (Enum<?> tile : tiles) {
+            sb.append(TILE_CHARS.charAt(tile.ordinal()));
+        }
+    }
+
+    private static void appendStatus(StringBuilder result, boolean won, boolean over, int tries,
+                                     CharSequence feedback) {
+        String status = won ? "won" : (over ? "lost" : "open");
+        result.append(' ').append(status).append(' ').append(tries).append(feedback);
+    }
+}
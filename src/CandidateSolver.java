@@ -0,0 +1,256 @@
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Generic word-list solver: keeps the secrets that are still consistent with
+ * every (guess, feedback) pair seen so far and proposes the guess that splits
+ * them into the smallest feedback buckets on average.
+ * The feedback rule is plugged in as a {@link Scorer}, so the same solver works
+ * for Wordle and Verticle (where the feedback also depends on the try index).
+ */
+public class CandidateSolver {
+
+    /**
+     * Packed feedback of one guess against one possible secret.
+     */
+    @FunctionalInterface
+    public interface Scorer {
+
+        /**
+         * @param secret possible secret word (uppercase)
+         * @param guess  guessed word (uppercase)
+         * @param turn   zero-based index of the guess in the game
+         * @return feedback packed into one int (equal feedback = equal code)
+         */
+        int score(String secret, String guess, int turn);
+    }
+
+    /** Largest number of (guess, secret) scorings spent on ranking one guess. */
+    private static final long RANKING_BUDGET = 4_000_000L;
+
+    /** Word list the secrets and guesses come from (uppercase). */
+    private final String[] words;
+
+    /** Feedback rule of the game mode. */
+    private final Scorer scorer;
+
+    /** Size of the feedback histogram (3^letters). */
+    private final int codeSpace;
+
+    /** Optional decisions shared between solvers, keyed by feedback history. */
+    private final Map<String, String> decisions;
+
+    /** Indices (into {@link #words}) of the secrets still possible. */
+    private int[] candidates;
+
+    /** Number of valid entries in {@link #candidates}. */
+    private int candidateCount;
+
+    /** Number of guesses applied so far. */
+    private int turn;
+
+    /** Feedback history, used as key into {@link #decisions}. */
+    private final StringBuilder history = new StringBuilder();
+
+    public CandidateSolver(String[] wordsValue, Scorer scorerValue) {
+        this(wordsValue, scorerValue, null);
+    }
+
+    /**
+     * @param decisionsValue shared cache of proposed guesses (may be null);
+     *                       lets batch runs over many secrets reuse the same decisions
+     */
+    CandidateSolver(String[] wordsValue, Scorer scorerValue, Map<String, String> decisionsValue) {
+        if (wordsValue == null || wordsValue.length == 0) {
+            throw new IllegalArgumentException("Word list must not be empty.");
+        }
+
+        this.words = wordsValue;
+        this.scorer = scorerValue;
+        this.decisions = decisionsValue;
+
+        int space = 1;
+        for (int i = 0; i < words[0].length(); i++) {
+            space *= 3;
+        }
+        this.codeSpace = space;
+
+        this.candidates = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            candidates[i] = i;
+        }
+        this.candidateCount = words.length;
+        this.turn = 0;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Returns the words that are still possible secrets.
+     */
+    public String[] getCandidates() {
+        String[] out = new String[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            out[i] = words[candidates[i]];
+        }
+        return out;
+    }
+
+    /**
+     * Keeps only the secrets that would have produced this feedback for this guess.
+     *
+     * @param code packed feedback, as produced by the {@link Scorer}
+     */
+    public void apply(String guess, int code) {
+        String g = guess.toUpperCase();
+
+        int kept = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int idx = candidates[i];
+            if (scorer.score(words[idx], g, turn) == code) {
+                candidates[kept++] = idx;
+            }
+        }
+        candidateCount = kept;
+
+        history.append(historyEntry(g, code));
+        turn++;
+    }
+
+    /**
+     * Puts the first guess and the second guesses of an opening book into a
+     * shared decisions cache, so the solvers using it skip ranking the first two turns.
+     */
+    static void addOpenings(Map<String, String> decisions, OpeningBook book) {
+        String first = book.firstGuess();
+        decisions.put("", first);
+        for (int code : book.getCodes()) {
+            decisions.put(historyEntry(first, code), book.secondGuess(first, code));
+        }
+    }
+
+    /**
+     * One turn of the feedback history, as used for {@link #decisions} keys.
+     */
+    private static String historyEntry(String guess, int code) {
+        return guess + ':' + code + '|';
+    }
+
+    /**
+     * Proposes the next guess.
+     * With one or two candidates left, a candidate is guessed directly.
+     * Otherwise every word of the list (or, for large candidate sets, every
+     * candidate) is ranked by the sum of squared feedback bucket sizes,
+     * which is proportional to the expected number of remaining candidates.
+     *
+     * @return the proposed guess, or null if no candidate is left
+     */
+    public String nextGuess() {
+        if (candidateCount == 0) {
+            return null;
+        }
+        if (candidateCount <= 2) {
+            return words[candidates[0]];
+        }
+
+        String key = (decisions != null) ? history.toString() : null;
+        if (key != null) {
+            String cached = decisions.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // ----- Guess pool: whole list if affordable, otherwise only the candidates -----
+        boolean wholeList = (long) words.length * candidateCount <= RANKING_BUDGET;
+        int[] pool = wholeList ? null : Arrays.copyOf(candidates, candidateCount);
+        int poolSize = wholeList ? words.length : candidateCount;
+
+        boolean[] isCandidate = new boolean[words.length];
+        for (int i = 0; i < candidateCount; i++) {
+            isCandidate[candidates[i]] = true;
+        }
+
+        // ----- Rank every guess in parallel -----
+        long[] cost = new long[poolSize];
+        IntStream.range(0, poolSize).parallel().forEach(p -> {
+            int guessIdx = (pool == null) ? p : pool[p];
+            cost[p] = rank(words[guessIdx], isCandidate[guessIdx]);
+        });
+
+        int best = 0;
+        for (int p = 1; p < poolSize; p++) {
+            if (cost[p] < cost[best]) {
+                best = p;
+            }
+        }
+
+        String guess = words[(pool == null) ? best : pool[best]];
+        if (key != null) {
+            decisions.put(key, guess);
+        }
+        return guess;
+    }
+
+    /**
+     * Fast alternative to {@link #nextGuess()} that needs no feedback scoring:
+     * the candidate sharing the most letters (and letters in place) with the
+     * other candidates, by {@link WordListStats#heuristicScore}. Linear in the
+     * number of candidates, so usable on every keystroke or on huge lists.
+     *
+     * @return the proposed guess, or null if no candidate is left
+     */
+    public String nextHeuristicGuess() {
+        if (candidateCount == 0) {
+            return null;
+        }
+
+        String[] remaining = getCandidates();
+        return WordListStats.of(remaining, words[0].length()).bestHeuristicGuess(remaining);
+    }
+
+    /**
+     * Cost of a guess: twice the sum of squared bucket sizes,
+     * minus one if the guess itself could be the secret (tie-break toward a possible win).
+     */
+    private long rank(String guess, boolean candidate) {
+        int[] histogram = new int[codeSpace];
+        for (int i = 0; i < candidateCount; i++) {
+            histogram[scorer.score(words[candidates[i]], guess, turn)]++;
+        }
+
+        long sum = 0;
+        for (int h : histogram) {
+            sum += (long) h * h;
+        }
+        return 2 * sum - (candidate ? 1 : 0);
+    }
+
+    /**
+     * Sum of squared bucket sizes of the given feedback codes
+     * (proportional to the expected number of remaining candidates).
+     * Sorts {@code codes} in place.
+     */
+    static long sumOfSquaredBuckets(int[] codes) {
+        Arrays.sort(codes);
+
+        long sum = 0;
+        int run = 1;
+        for (int i = 1; i <= codes.length; i++) {
+            if (i < codes.length && codes[i] == codes[i - 1]) {
+                run++;
+            } else {
+                sum += (long) run * run;
+                run = 1;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,251 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Per-board candidate words of a multi-word Wordle game, for live feedback
+ * while a guess is typed: how many words of each board still fit the feedback
+ * so far and start with the letters typed.
+ * <p>
+ * Each board keeps a bitset over the sorted words of a {@link PrefixTrie}.
+ * A turn only removes words, so it is applied once, to the words still set
+ * ({@link WordleLogic#scorePacked} against the board's feedback). The words
+ * starting with a prefix are one trie range, so a count is a popcount over
+ * that range of the bitset, not a scan of the list.
+ * <p>
+ * {@link #addTurn} is cheap and meant for the UI thread; turns are folded in
+ * by the next {@link #count}, which is meant for a background thread. Both
+ * are synchronized. The trie can be given as a supplier: it is then built by
+ * the first count, so a new game does not wait for it on the UI thread.
+ * {@link #suggest} proposes a guess: from the opening book for the first two
+ * guesses of a one-board game, otherwise with the heuristic solver mode, which
+ * needs no feedback matrix and so is quick enough for a click on any list size.
+ */
+public final class CandidateTracker {
+
+    /**
+     * Result of one {@link #count}.
+     *
+     * @param validPrefix whether any word of the list starts with the prefix
+     * @param counts      candidates per board (-1 for solved boards)
+     */
+    public record Counts(boolean validPrefix, int[] counts) {
+    }
+
+    /** Source of {@link #trie}, asked once by the first count. */
+    private final Supplier<PrefixTrie> trieSource;
+
+    /** Word list index (sorted words and prefix ranges); null until the first count. */
+    private PrefixTrie trie;
+
+    /** Candidates per board: bit i = {@code trie.getWord(i)} still fits (null until the first count). */
+    private long[][] alive;
+
+    /** Boards already solved. */
+    private final boolean[] solved;
+
+    /** Turns not folded into {@link #alive} yet. */
+    private final List<WordleLogic.TurnResult> pending = new ArrayList<>();
+
+    /** Turns folded into {@link #alive} so far. */
+    private int turns;
+
+    /** First guess of the game and its feedback code on board 0 (for the opening book). */
+    private String firstGuess;
+
+    /** See {@link #firstGuess}. */
+    private int firstCode;
+
+    CandidateTracker(PrefixTrie trieValue, int boards) {
+        this(() -> trieValue, boards);
+    }
+
+    /**
+     * @param trieSourceValue builds or looks up the trie; called once, by the first count
+     */
+    CandidateTracker(Supplier<PrefixTrie> trieSourceValue, int boards) {
+        this.trieSource = trieSourceValue;
+        this.solved = new boolean[boards];
+    }
+
+    /**
+     * Builds the trie and marks every word alive on every board, on first use.
+     */
+    private void index() {
+        if (trie != null) {
+            return;
+        }
+
+        trie = trieSource.get();
+        int words = trie.getWordsCount();
+        alive = new long[solved.length][(words + 63) >>> 6];
+        for (long[] bits : alive) {
+            for (int i = 0; i < words; i++) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Queues the feedback of a turn (applied by the next {@link #count}).
+     */
+    synchronized void addTurn(WordleLogic.TurnResult result) {
+        if (!result.getGuess().isEmpty()) {
+            pending.add(result);
+        }
+    }
+
+    /**
+     * Counts, per board, the candidates that start with the prefix.
+     */
+    synchronized Counts count(String prefix) {
+        index();
+        applyPending();
+
+        int node = trie.find(prefix);
+        int[] counts = new int[alive.length];
+        for (int b = 0; b < alive.length; b++) {
+            if (solved[b]) {
+                counts[b] = -1;
+            } else if (node >= 0) {
+                counts[b] = countRange(alive[b], trie.rangeStart(node), trie.rangeEnd(node));
+            }
+        }
+        return new Counts(node >= 0, counts);
+    }
+
+    /**
+     * Suggested guess, or null if every board is solved. A one-board game takes its
+     * first two guesses from the opening book if there is one; otherwise this is the
+     * heuristic guess ({@link CandidateSolver#nextHeuristicGuess}) for the unsolved
+     * board with the fewest candidates left.
+     *
+     * @param listStats statistics of the whole list ({@link Language#getStats}), used
+     *                  instead of a fresh pass while a board still has every word
+     * @param book      opening book of the list (may be null)
+     * @param hardMode  whether guesses must use the revealed hints; the book's second
+     *                  guess is then only taken if it still fits the feedback
+     */
+    synchronized String suggest(WordListStats listStats, OpeningBook book, boolean hardMode) {
+        index();
+        applyPending();
+
+        String opening = openingGuess(book, hardMode);
+        if (opening != null) {
+            return opening;
+        }
+
+        int best = -1;
+        int bestCount = Integer.MAX_VALUE;
+        for (int b = 0; b < alive.length; b++) {
+            int n = countRange(alive[b], 0, trie.getWordsCount());
+            if (!solved[b] && n > 0 && n < bestCount) {
+                best = b;
+                bestCount = n;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+
+        String[] left = new String[bestCount];
+        int k = 0;
+        long[] bits = alive[best];
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+            while (word != 0) {
+                left[k++] = trie.getWord((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+
+        if (bestCount == listStats.getWordCount()) {
+            return listStats.bestHeuristicGuess(left);
+        }
+        return new CandidateSolver(left, DifficultyRatings.scorer(DifficultyRatings.WORDLE)).nextHeuristicGuess();
+    }
+
+    /**
+     * The book's guess for turn 0 or 1 of a one-board game, or null.
+     */
+    private String openingGuess(OpeningBook book, boolean hardMode) {
+        if (book == null || alive.length != 1 || solved[0]) {
+            return null;
+        }
+        if (turns == 0) {
+            return book.firstGuess();
+        }
+        if (turns != 1) {
+            return null;
+        }
+
+        String second = book.secondGuess(firstGuess, firstCode);
+        if (second == null || !hardMode) {
+            return second;
+        }
+        int node = trie.find(second);
+        int w = (node >= 0) ? trie.rangeStart(node) : -1;
+        boolean fits = w >= 0 && trie.getWord(w).equals(second) && (alive[0][w >>> 6] & (1L << w)) != 0;
+        return fits ? second : null;
+    }
+
+    private void applyPending() {
+        for (WordleLogic.TurnResult result : pending) {
+            String guess = result.getGuess();
+            WordleLogic.Tile[][] tiles = result.getTilesByWord();
+
+            if (turns++ == 0) {
+                firstGuess = guess;
+                firstCode = WordleLogic.packTiles(tiles[0]);
+            }
+
+            for (int b = 0; b < alive.length; b++) {
+                if (solved[b]) {
+                    continue;
+                }
+                if (result.isSolved(b)) {
+                    solved[b] = true;
+                    continue;
+                }
+
+                int code = WordleLogic.packTiles(tiles[b]);
+                long[] bits = alive[b];
+                for (int i = 0; i < bits.length; i++) {
+                    long word = bits[i];
+                    while (word != 0) {
+                        int w = (i << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                        if (WordleLogic.scorePacked(trie.getWord(w), guess) != code) {
+                            bits[i] &= ~(1L << w);
+                        }
+                    }
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Number of set bits with index in [from, to).
+     */
+    static int countRange(long[] bits, int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+
+        if (first == last) {
+            return Long.bitCount(bits[first] & firstMask & lastMask);
+        }
+
+        int n = Long.bitCount(bits[first] & firstMask);
+        for (int i = first + 1; i < last; i++) {
+            n += Long.bitCount(bits[i]);
+        }
+        return n + Long.bitCount(bits[last] & lastMask);
+    }
+}
@@ -1,20 +1,60 @@
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 public class Clusterle extends Application {
 
+    @Override
+    public void init() {
+        // Called once the FX toolkit is up, before the first stage exists
+        StartupProfiler.mark("FX toolkit ready");
+    }
+
     @Override
     public void start(Stage stage) {
+        StartupProfiler.mark("start() on FX thread");
+
+        // Load dictionaries in the background while the start menu is shown
+        DictionaryWarmup.start();
+
         stage.setTitle("Clusterle");
 
+        long begin = StartupProfiler.begin();
         Navigator nav = new Navigator(stage);
         nav.goToStartMenu();
+        StartupProfiler.end("Navigator first scene", begin);
+
+        if (StartupProfiler.isEnabled() || StartupProfiler.isTraining()) {
+            nav.onNextFrame(() -> {
+                StartupProfiler.mark("first frame");
+                if (StartupProfiler.isTraining()) {
+                    // Load the classes of every screen once for the CDS class list, then quit
+                    Platform.runLater(() -> {
+                        nav.goToSettings("en", "Wordle");
+                        nav.goToWordle("en", 5, 1);
+                        nav.goToXordle("en", 5);
+                        nav.goToVerticle("en", 5);
+                        nav.goToMathler(3);
+                        nav.goToStartMenu();
+                        StartupProfiler.mark("training screens opened");
+                        DictionaryWarmup.start().whenComplete((_, _) -> Platform.exit());
+                    });
+                }
+            });
+        }
 
         stage.show();
+        StartupProfiler.mark("window shown");
+    }
+
+    @Override
+    public void stop() {
+        // Free the native dictionaries
+        HunspellChecker.unloadAll();
     }
 
     public static void main(String[] args) {
+        StartupProfiler.mark("main() entered");
         launch(args);
     }
 }
-
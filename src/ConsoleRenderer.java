@@ -0,0 +1,113 @@
+import java.io.PrintStream;
+
+/**
+ * Builds one frame of console output (e.g. everything a turn prints) in a reused
+ * buffer and writes it with a single call. Colour codes are only written when the
+ * colour changes: neighbouring tiles of the same colour form one coloured run
+ * instead of each tile switching its colour on and off.
+ * <pre>
+ * renderer.tile(ConsoleColors.GREEN_BACKGROUND, 'A').text(" | ").newline().flush();
+ * </pre>
+ */
+public final class ConsoleRenderer {
+
+    /** Where frames are written. */
+    private final PrintStream out;
+
+    /** Frame being built; reused for every frame (it grows to the largest frame). */
+    private final StringBuilder frame = new StringBuilder(256);
+
+    /** Background colour of the open run (null = none). */
+    private String runColor;
+
+    /** Whether the last tile still owes its trailing space. */
+    private boolean gapPending;
+
+    ConsoleRenderer(PrintStream outValue) {
+        this.out = outValue;
+    }
+
+    /**
+     * Colour of a tile status as used by the scoring code (2 = green, 1 = yellow, 0 = grey).
+     */
+    static String statusColor(int status) {
+        if (status == 2) {
+            return ConsoleColors.GREEN_BACKGROUND;
+        }
+        if (status == 1) {
+            return ConsoleColors.YELLOW_BACKGROUND;
+        }
+        return ConsoleColors.BLACK_BACKGROUND;
+    }
+
+    /**
+     * Adds one coloured tile followed by a space.
+     */
+    ConsoleRenderer tile(String color, char c) {
+        if (color.equals(runColor)) {
+            // Same colour as the previous tile: the space between them joins the run
+            frame.append(' ');
+        } else {
+            closeRun();
+            frame.append(color);
+            runColor = color;
+        }
+        frame.append(c);
+        gapPending = true;
+        return this;
+    }
+
+    /**
+     * Adds a tile coloured by its status (see {@link #statusColor}).
+     */
+    ConsoleRenderer tile(int status, char c) {
+        return tile(statusColor(status), c);
+    }
+
+    /**
+     * Adds uncoloured text.
+     */
+    ConsoleRenderer text(String s) {
+        closeRun();
+        frame.append(s);
+        return this;
+    }
+
+    ConsoleRenderer newline() {
+        closeRun();
+        frame.append(System.lineSeparator());
+        return this;
+    }
+
+    ConsoleRenderer line(String s) {
+        return text(s).newline();
+    }
+
+    /**
+     * Writes the frame in one call and starts a new one.
+     */
+    void flush() {
+        closeRun();
+        out.append(frame);
+        out.flush();
+        frame.setLength(0);
+    }
+
+    /**
+     * The frame built so far (for tests).
+     */
+    String peek() {
+        return frame.toString();
+    }
+
+    private void closeRun() {
+        if (runColor != null) {
+            frame.append(ConsoleColors.RESET);
+            runColor = null;
+        }
+        if (gapPending) {
+            frame.append(' ');
+            gapPending = false;
+        }
+    }
+}
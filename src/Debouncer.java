@@ -0,0 +1,61 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs work off the UI thread once input pauses, e.g. after keystrokes.
+ * <p>
+ * Each {@link #submit} waits for the delay on a virtual thread; if another
+ * submit (or {@link #cancel()}) comes in meanwhile, the older work is skipped,
+ * and an answer that arrives after a newer submit is dropped. Answers are
+ * handed back through the publisher (for JavaFX views: {@code Platform::runLater}),
+ * like {@link GuessValidator} does for dictionary checks.
+ * <p>
+ * {@link #submit} and {@link #cancel()} are meant to be called from the UI thread.
+ */
+public final class Debouncer {
+
+    /** Shared executor: one cheap virtual thread per piece of work. */
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Runs work on {@link #EXECUTOR} after the delay. */
+    private final Executor delayed;
+
+    /** Runs answer callbacks on the UI thread. */
+    private final Executor publisher;
+
+    /** Increased on every submit and cancel; work and answers of older tickets are dropped. */
+    private final AtomicLong ticket = new AtomicLong();
+
+    public Debouncer(long delayMillis, Executor publisherValue) {
+        this.delayed = CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, EXECUTOR);
+        this.publisher = publisherValue;
+    }
+
+    /**
+     * Runs the work after the delay unless something newer was submitted,
+     * then calls {@code onResult} on the UI thread with its answer.
+     */
+    public <T> void submit(Supplier<T> work, Consumer<T> onResult) {
+        long mine = ticket.incrementAndGet();
+
+        CompletableFuture.supplyAsync(() -> (ticket.get() == mine) ? work.get() : null, delayed)
+                .thenAcceptAsync(answer -> {
+                    if (answer != null && ticket.get() == mine) {
+                        onResult.accept(answer);
+                    }
+                }, publisher);
+    }
+
+    /**
+     * Drops the pending work and any answer still on its way.
+     */
+    public void cancel() {
+        ticket.incrementAndGet();
+    }
+}
@@ -0,0 +1,99 @@
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Startup subsystem that loads the Hunspell dictionary of every supported
+ * language in the background while the start menu is shown, then warms the
+ * native code up with a sample of words, so the first real guess neither
+ * loads a dictionary nor runs cold code. Load and warm-up times are logged.
+ */
+public final class DictionaryWarmup {
+
+    /** Languages offered by the start menu. */
+    static final String[] LANGUAGES = {"en", "de"};
+
+    /** Words checked per language to warm up the native code. */
+    private static final int SAMPLE_WORDS = 200;
+
+    /** Word length the warm-up sample is taken from. */
+    private static final int SAMPLE_LETTERS = 5;
+
+    /** Completes when every language is loaded and warmed up (or failed). */
+    private static CompletableFuture<Void> ready;
+
+    private DictionaryWarmup() {
+        // Utility class
+    }
+
+    /**
+     * Starts loading and warming up all dictionaries (once); returns immediately.
+     *
+     * @return a future that completes when all languages are done
+     */
+    static synchronized CompletableFuture<Void> start() {
+        if (ready != null) {
+            return ready;
+        }
+
+        CompletableFuture<?>[] all = new CompletableFuture<?>[LANGUAGES.length];
+        for (int i = 0; i < LANGUAGES.length; i++) {
+            all[i] = warmUp(LANGUAGES[i]);
+        }
+        ready = CompletableFuture.allOf(all);
+        return ready;
+    }
+
+    private static CompletableFuture<Void> warmUp(String code) {
+        long start = System.nanoTime();
+
+        return HunspellChecker.load(code).handle((dictionary, error) -> {
+            long loaded = System.nanoTime();
+            if (error != null) {
+                Throwable cause = (error.getCause() != null) ? error.getCause() : error;
+                IO.println("Dictionary " + code + " unavailable: " + cause.getMessage());
+                return null;
+            }
+
+            String[] words = new Language(code).getWordList(SAMPLE_LETTERS);
+            int step = Math.max(1, words.length / SAMPLE_WORDS);
+            int checked = 0;
+            for (int i = 0; i < words.length && checked < SAMPLE_WORDS; i += step) {
+                dictionary.spell(words[i]);
+                checked++;
+            }
+
+            IO.println("Dictionary " + code + " ready: loaded in " + millis(start, loaded)
+                    + " ms (~" + dictionary.getMemoryBytes() / (1024 * 1024) + " MB), "
+                    + checked + " warm-up checks in " + millis(loaded, System.nanoTime()) + " ms");
+            return null;
+        });
+    }
+
+    static boolean isReady(String code) {
+        return HunspellChecker.isReady(code);
+    }
+
+    /**
+     * Short readiness summary for the start menu, e.g. "Dictionaries ready: en (unavailable: de)".
+     */
+    static String describe() {
+        StringBuilder ready = new StringBuilder();
+        StringBuilder missing = new StringBuilder();
+        for (String code : LANGUAGES) {
+            StringBuilder target = isReady(code) ? ready : missing;
+            if (!target.isEmpty()) {
+                target.append(", ");
+            }
+            target.append(code);
+        }
+
+        String text = "Dictionaries ready: " + (ready.isEmpty() ? "none" : ready);
+        if (!missing.isEmpty()) {
+            text += " (unavailable: " + missing + ")";
+        }
+        return text;
+    }
+
+    private static long millis(long from, long to) {
+        return (to - from) / 1_000_000;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Range of difficulty ratings (number of guesses the solver needs) a secret may have.
+ * Used by the logic classes to pick secrets of a given difficulty.
+ */
+public final class DifficultyBand {
+
+    /** Solved in at most three guesses. */
+    public static final DifficultyBand EASY = new DifficultyBand(1, 3);
+
+    /** Solved in exactly four guesses. */
+    public static final DifficultyBand MEDIUM = new DifficultyBand(4, 4);
+
+    /** Needs five guesses or more. */
+    public static final DifficultyBand HARD = new DifficultyBand(5, Integer.MAX_VALUE);
+
+    /** Smallest rating in the band (inclusive). */
+    private final int minGuesses;
+
+    /** Largest rating in the band (inclusive). */
+    private final int maxGuesses;
+
+    public DifficultyBand(int minGuessesValue, int maxGuessesValue) {
+        if (minGuessesValue < 1 || maxGuessesValue < minGuessesValue) {
+            throw new IllegalArgumentException("Invalid difficulty band.");
+        }
+        this.minGuesses = minGuessesValue;
+        this.maxGuesses = maxGuessesValue;
+    }
+
+    public int getMinGuesses() {
+        return minGuesses;
+    }
+
+    public int getMaxGuesses() {
+        return maxGuesses;
+    }
+
+    public boolean contains(int rating) {
+        return rating >= minGuesses && rating <= maxGuesses;
+    }
+}
@@ -0,0 +1,552 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Batch pipeline that rates every possible secret by the number of guesses
+ * the solver needs to find it, and lookups used by the logic classes to pick
+ * secrets from a {@link DifficultyBand}.
+ * <p>
+ * Word ratings are stored in {@code cache/ratings/<mode>_<lang>_<letters>.bin}:
+ * a 16-byte header (magic, word count, list hash) followed by one byte per word,
+ * in word-list order. Xordle rates {@link #XORDLE_PAIRS} disjoint pairs spread
+ * evenly over the {@link XordlePairIndex} by playing them with {@link XordleSolver};
+ * their file has the same layout, one byte per sampled pair. Results are appended block by block, so an interrupted
+ * run resumes at the first unrated word. Mathler equations are rated into
+ * {@code mathler_<numbers>.txt}, one {@code equation<TAB>rating} line each.
+ * <p>
+ * Run with {@code java DifficultyRatings [languages...]} (default: en de).
+ */
+public final class DifficultyRatings {
+
+    /** Mode name of Wordle rating files. */
+    static final String WORDLE = "wordle";
+
+    /** Mode name of Verticle rating files. */
+    static final String VERTICLE = "verticle";
+
+    /** Mode name of Xordle pair rating files. */
+    static final String XORDLE = "xordle";
+
+    /** Magic number at the start of every rating file. */
+    private static final int MAGIC = 0x44524154;
+
+    /** Size of the rating file header in bytes. */
+    private static final int HEADER_BYTES = 16;
+
+    /** Words rated in parallel before the block is appended to the file. */
+    private static final int BLOCK = 256;
+
+    /** Equations rated in parallel before the block is appended to the file. */
+    private static final int MATHLER_BLOCK = 16;
+
+    /** Rating stored when the solver gives up on a Wordle or Mathler game (fits in one byte). */
+    private static final int MAX_GUESSES = 100;
+
+    /** Number of equations rated per Mathler numbers count. */
+    static final int MATHLER_EQUATIONS = 500;
+
+    /** Xordle pairs rated per list (fewer if the list has fewer disjoint pairs). */
+    static final int XORDLE_PAIRS = 1000;
+
+    /**
+     * Guesses subtracted from a solver-rated Xordle pair before it is compared to a band:
+     * a pair needs two winning guesses instead of one and the solver takes about two
+     * more guesses than on a single word, so this puts pairs on the Wordle scale.
+     */
+    static final int XORDLE_EXTRA_GUESSES = 2;
+
+    /** Xordle pairs rated in parallel before the block is appended to the file. */
+    private static final int PAIR_BLOCK = 16;
+
+    /** Random pairs tried before giving up on the Xordle band. */
+    private static final int PAIR_ATTEMPTS = 2000;
+
+    /** Loaded rating files by path (empty array = missing or stale). */
+    private static final Map<String, byte[]> LOADED = new ConcurrentHashMap<>();
+
+    /** Loaded Mathler ratings by numbers count. */
+    private static final Map<Integer, List<String>> LOADED_EQUATIONS = new ConcurrentHashMap<>();
+
+    private DifficultyRatings() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws IOException {
+        String[] languages = (args.length > 0) ? args : new String[]{"en", "de"};
+
+        for (String code : languages) {
+            Language language = new Language(code);
+            for (int letters = 4; letters <= 7; letters++) {
+                if (language.getWordList(letters).length == 0) {
+                    continue;
+                }
+                rateWords(WORDLE, language, letters);
+                rateWords(VERTICLE, language, letters);
+                rateXordlePairs(language, letters);
+            }
+        }
+
+        for (int numbers = 2; numbers <= 4; numbers++) {
+            rateEquations(numbers);
+        }
+    }
+
+    // ----- Word modes -----
+
+    /**
+     * Packed feedback rule of a word mode.
+     */
+    static CandidateSolver.Scorer scorer(String mode) {
+        if (VERTICLE.equals(mode)) {
+            return VerticleLogic::scorePacked;
+        }
+        return (secret, guess, _) -> WordleLogic.scorePacked(secret, guess);
+    }
+
+    /**
+     * Rates every word of one list, resuming an earlier interrupted run.
+     */
+    static void rateWords(String mode, Language lang, int letters) throws IOException {
+        String[] words = lang.getWordList(letters);
+        Path file = ratingFile(mode, lang, letters);
+        long hash = DiskCache.listHash(words);
+
+        if (ratedSoFar(file, words.length, hash) == words.length) {
+            IO.println(file.getFileName() + ": up to date");
+            return;
+        }
+
+        CandidateSolver.Scorer scorer = scorer(mode);
+        int maxGuesses = maxGuesses(mode, letters);
+        Map<String, String> decisions = new ConcurrentHashMap<>();
+        OpeningBook book = OpeningBook.load(mode, lang, letters);
+        if (book != null) {
+            CandidateSolver.addOpenings(decisions, book);
+        }
+
+        // Rank the opening once, so the parallel workers don't all rank it at the same time
+        new CandidateSolver(words, scorer, decisions).nextGuess();
+
+        rateInto(file, words.length, hash, BLOCK, i -> rateWord(words, scorer, maxGuesses, decisions, i));
+    }
+
+    /**
+     * Appends ratings to a rating file block by block (each block rated in parallel),
+     * starting after the ones an earlier interrupted run already wrote.
+     */
+    private static void rateInto(Path file, int count, long hash, int block, IntUnaryOperator rate)
+            throws IOException {
+        int done = ratedSoFar(file, count, hash);
+        if (done < 0) {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+                out.writeInt(MAGIC);
+                out.writeInt(count);
+                out.writeLong(hash);
+            }
+            done = 0;
+        }
+
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.APPEND)) {
+            for (int start = done; start < count; start += block) {
+                int end = Math.min(start + block, count);
+
+                int[] ratings = IntStream.range(start, end)
+                        .parallel()
+                        .map(rate)
+                        .toArray();
+
+                byte[] bytes = new byte[ratings.length];
+                for (int i = 0; i < ratings.length; i++) {
+                    bytes[i] = (byte) ratings[i];
+                }
+                out.write(bytes);
+                out.flush();
+
+                IO.println(file.getFileName() + ": " + end + "/" + count);
+            }
+        }
+
+        LOADED.remove(file.toString());
+    }
+
+    /**
+     * Guesses the solver may use in one rated game: as many as Verticle has
+     * columns (its feedback is only defined for those), otherwise up to the give-up rating.
+     */
+    static int maxGuesses(String mode, int letters) {
+        return VERTICLE.equals(mode) ? letters : MAX_GUESSES - 1;
+    }
+
+    /**
+     * Plays one game with the solver and returns the number of guesses it needed,
+     * or {@code maxGuesses + 1} if it did not find the secret within {@code maxGuesses}.
+     */
+    static int rateWord(String[] words, CandidateSolver.Scorer scorer, int maxGuesses,
+                        Map<String, String> decisions, int secretIndex) {
+        CandidateSolver solver = new CandidateSolver(words, scorer, decisions);
+        String secret = words[secretIndex];
+
+        for (int guesses = 1; guesses <= maxGuesses; guesses++) {
+            String guess = solver.nextGuess();
+            if (guess == null) {
+                break;
+            }
+            if (guess.equals(secret)) {
+                return guesses;
+            }
+            solver.apply(guess, scorer.score(secret, guess, solver.getTurn()));
+        }
+
+        return maxGuesses + 1;
+    }
+
+    /**
+     * Number of words already rated in the file, or -1 if it must be (re)started.
+     */
+    private static int ratedSoFar(Path file, int count, long hash) throws IOException {
+        if (!Files.exists(file) || Files.size(file) < HEADER_BYTES) {
+            return -1;
+        }
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != MAGIC || in.readInt() != count || in.readLong() != hash) {
+                return -1;
+            }
+        }
+
+        long rated = Files.size(file) - HEADER_BYTES;
+        return (rated > count) ? -1 : (int) rated;
+    }
+
+    static Path ratingFile(String mode, Language lang, int letters) throws IOException {
+        return DiskCache.dir("ratings").resolve(mode + "_" + lang.getLanguageCode() + "_" + letters + ".bin");
+    }
+
+    /**
+     * Returns the ratings of one word list (index = word index; for Xordle:
+     * index = sampled pair, see {@link #sampledPair}), or null if the list has
+     * not been fully rated yet.
+     */
+    static byte[] load(String mode, Language lang, int letters) {
+        String[] words = lang.getWordList(letters);
+
+        Path file;
+        try {
+            file = ratingFile(mode, lang, letters);
+        } catch (IOException e) {
+            return null;
+        }
+
+        byte[] ratings = LOADED.computeIfAbsent(file.toString(), _ -> {
+            int count = XORDLE.equals(mode) ? xordlePairsRated(XordlePairIndex.get(lang, letters)) : words.length;
+            return read(file, count, DiskCache.listHash(words));
+        });
+        return (ratings.length == 0) ? null : ratings;
+    }
+
+    private static byte[] read(Path file, int count, long hash) {
+        try {
+            if (count == 0 || ratedSoFar(file, count, hash) != count) {
+                return new byte[0];
+            }
+            try (InputStream in = Files.newInputStream(file)) {
+                in.skipNBytes(HEADER_BYTES);
+                return in.readNBytes(count);
+            }
+        } catch (IOException e) {
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Indices of the words whose rating lies in the band.
+     * Falls back to every index if there is no band, no rating file,
+     * or fewer than {@code needed} words match.
+     */
+    static int[] pool(String mode, Language lang, int letters, DifficultyBand band, int needed) {
+        int size = lang.getWordList(letters).length;
+
+        if (band != null) {
+            byte[] ratings = load(mode, lang, letters);
+            if (ratings != null) {
+                int[] matching = new int[size];
+                int count = 0;
+                for (int i = 0; i < size; i++) {
+                    if (band.contains(ratings[i])) {
+                        matching[count++] = i;
+                    }
+                }
+                if (count >= needed) {
+                    return Arrays.copyOf(matching, count);
+                }
+            }
+        }
+
+        int[] all = new int[size];
+        for (int i = 0; i < size; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+    // ----- Xordle -----
+
+    /**
+     * Rates {@link #XORDLE_PAIRS} sampled pairs of one list by playing them with
+     * the Xordle solver, resuming an earlier interrupted run.
+     */
+    static void rateXordlePairs(Language lang, int letters) throws IOException {
+        String[] words = lang.getWordList(letters);
+        XordlePairIndex index = XordlePairIndex.get(lang, letters);
+        int count = xordlePairsRated(index);
+        if (count == 0) {
+            return;
+        }
+
+        Path file = ratingFile(XORDLE, lang, letters);
+        long hash = DiskCache.listHash(words);
+        if (ratedSoFar(file, count, hash) == count) {
+            IO.println(file.getFileName() + ": up to date");
+            return;
+        }
+
+        rateInto(file, count, hash, PAIR_BLOCK, i -> {
+            int k = sampledPair(index, count, i);
+            return rateXordlePair(new XordleSolver(lang, letters), words[index.first(k)], words[index.second(k)]);
+        });
+    }
+
+    /**
+     * Number of pairs rated for a pair index.
+     */
+    static int xordlePairsRated(XordlePairIndex index) {
+        return Math.min(XORDLE_PAIRS, index.getPairCount());
+    }
+
+    /**
+     * Pair index (into the {@link XordlePairIndex}) of the i-th rated pair:
+     * the rated pairs are spread evenly over the whole index.
+     */
+    static int sampledPair(XordlePairIndex index, int count, int i) {
+        return (int) ((long) i * index.getPairCount() / count);
+    }
+
+    /**
+     * Plays one Xordle game with the solver and returns the number of guesses
+     * it needed, or the game's chances + 1 if it lost.
+     */
+    static int rateXordlePair(XordleSolver solver, String first, String second) {
+        XordleLogic game = new XordleLogic(first, second);
+
+        int guesses = 0;
+        while (!game.isGameOver()) {
+            String guess = solver.nextGuess();
+            if (guess == null) {
+                break;
+            }
+            solver.apply(game.submitGuess(guess));
+            guesses++;
+        }
+
+        return game.isGameWon() ? guesses : game.getChances() + 1;
+    }
+
+    /**
+     * Rough rating of a Xordle pair from the Wordle ratings of both words, used
+     * only while the pairs of a list are not rated: the harder word plus one
+     * guess, since the easier one has to be solved as well.
+     */
+    static int xordleRating(int firstRating, int secondRating) {
+        return Math.max(firstRating, secondRating) + 1;
+    }
+
+    /**
+     * Picks two words that share no letter and whose pair rating lies in the band.
+     * With rated pairs ({@link #rateXordlePairs}), a rated pair whose rating minus
+     * {@link #XORDLE_EXTRA_GUESSES} lies in the band is drawn; otherwise random
+     * pairs are tried against {@link #xordleRating}.
+     * Falls back to any disjoint pair if there is no band, no rating file, or no
+     * matching pair is found, and to two random different words if the list has
+     * no disjoint pair at all.
+     */
+    static int[] xordlePair(Language lang, int letters, DifficultyBand band) {
+        XordlePairIndex index = XordlePairIndex.get(lang, letters);
+        int[] pair = index.sample();
+
+        if (pair == null) {
+            int size = lang.getWordList(letters).length;
+            int first = (int) (Math.random() * size);
+            int second;
+            do {
+                second = (int) (Math.random() * size);
+            } while (second == first);
+            return new int[]{first, second};
+        }
+        if (band == null) {
+            return pair;
+        }
+
+        byte[] pairRatings = load(XORDLE, lang, letters);
+        if (pairRatings != null) {
+            int[] matching = new int[pairRatings.length];
+            int count = 0;
+            for (int i = 0; i < pairRatings.length; i++) {
+                if (band.contains(pairRatings[i] - XORDLE_EXTRA_GUESSES)) {
+                    matching[count++] = i;
+                }
+            }
+            if (count > 0) {
+                int k = sampledPair(index, pairRatings.length, matching[(int) (Math.random() * count)]);
+                return (Math.random() < 0.5)
+                        ? new int[]{index.first(k), index.second(k)}
+                        : new int[]{index.second(k), index.first(k)};
+            }
+            return pair;
+        }
+
+        byte[] ratings = load(WORDLE, lang, letters);
+        if (ratings == null) {
+            return pair;
+        }
+
+        int attempts = 1;
+        while (attempts < PAIR_ATTEMPTS && !band.contains(xordleRating(ratings[pair[0]], ratings[pair[1]]))) {
+            pair = index.sample();
+            attempts++;
+        }
+
+        return pair;
+    }
+
+    // ----- Mathler -----
+
+    /**
+     * Rates {@link #MATHLER_EQUATIONS} generated equations, resuming an earlier interrupted run.
+     */
+    static void rateEquations(int numbers) throws IOException {
+        Path file = equationFile(numbers);
+
+        // Keep only complete lines: a run killed mid-write may leave a partial one
+        List<String> valid = new ArrayList<>();
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (parseRating(line) > 0) {
+                    valid.add(line);
+                }
+            }
+        }
+        Files.write(file, valid, StandardCharsets.UTF_8);
+
+        for (int done = valid.size(); done < MATHLER_EQUATIONS; done += MATHLER_BLOCK) {
+            int count = Math.min(MATHLER_BLOCK, MATHLER_EQUATIONS - done);
+
+            List<String> lines = IntStream.range(0, count)
+                    .parallel()
+                    .mapToObj(_ -> {
+                        String eq = MathlerLogic.generateEquation(numbers);
+                        return eq + "\t" + rateEquation(numbers, eq);
+                    })
+                    .toList();
+
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            IO.println(file.getFileName() + ": " + (done + count) + "/" + MATHLER_EQUATIONS);
+        }
+
+        LOADED_EQUATIONS.remove(numbers);
+    }
+
+    /**
+     * Plays one game with the Mathler solver and returns the number of guesses it needed.
+     */
+    static int rateEquation(int numbers, String equation) {
+        MathlerLogic game = new MathlerLogic(equation);
+        MathlerSolver solver = new MathlerSolver(numbers, equation.length(), game.getTarget());
+
+        char[] secret = equation.toCharArray();
+        for (int guesses = 1; guesses < MAX_GUESSES; guesses++) {
+            String guess = solver.nextGuess();
+            if (guess == null) {
+                break;
+            }
+            if (guess.equals(equation)) {
+                return guesses;
+            }
+
+            // Unpack the feedback instead of playing the game, which would stop at its chance limit
+            int code = MathlerLogic.scorePacked(secret, guess.toCharArray(), secret.length);
+            MathlerLogic.Tile[] tiles = new MathlerLogic.Tile[secret.length];
+            for (int i = 0; i < tiles.length; i++) {
+                tiles[i] = MathlerLogic.Tile.values()[code % 3];
+                code /= 3;
+            }
+            solver.apply(guess, tiles);
+        }
+
+        return MAX_GUESSES;
+    }
+
+    /**
+     * Picks a rated equation whose rating lies in the band,
+     * or null if there is no band, no rating file or no match.
+     */
+    static String mathlerEquation(int numbers, DifficultyBand band) {
+        if (band == null) {
+            return null;
+        }
+
+        List<String> lines = LOADED_EQUATIONS.computeIfAbsent(numbers, n -> {
+            try {
+                Path file = equationFile(n);
+                return Files.exists(file) ? Files.readAllLines(file, StandardCharsets.UTF_8) : List.of();
+            } catch (IOException e) {
+                return List.of();
+            }
+        });
+
+        List<String> matching = new ArrayList<>();
+        for (String line : lines) {
+            int rating = parseRating(line);
+            if (rating > 0 && band.contains(rating)) {
+                matching.add(line.substring(0, line.indexOf('\t')));
+            }
+        }
+
+        if (matching.isEmpty()) {
+            return null;
+        }
+        return matching.get((int) (Math.random() * matching.size()));
+    }
+
+    private static Path equationFile(int numbers) throws IOException {
+        return DiskCache.dir("ratings").resolve("mathler_" + numbers + ".txt");
+    }
+
+    /**
+     * Rating of an {@code equation<TAB>rating} line, or -1 if the line is malformed.
+     */
+    private static int parseRating(String line) {
+        int tab = line.indexOf('\t');
+        if (tab <= 0) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(line.substring(tab + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
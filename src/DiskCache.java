@@ -0,0 +1,41 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Utility class for files that are expensive to compute and are kept
+ * between runs in the {@code cache/} folder of the working directory.
+ */
+public final class DiskCache {
+
+    private DiskCache() {
+        // Utility class
+    }
+
+    /**
+     * Returns (and creates if needed) the cache sub folder with the given name.
+     */
+    static Path dir(String name) throws IOException {
+        Path dir = Paths.get(System.getProperty("user.dir"), "cache", name);
+        Files.createDirectories(dir);
+        return dir;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of a word list, stored in cache headers so a cache
+     * built for an older version of the list is detected and rebuilt.
+     */
+    static long listHash(String[] words) {
+        long hash = 0xcbf29ce484222325L;
+        for (String w : words) {
+            for (int i = 0; i < w.length(); i++) {
+                hash ^= w.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= '\n';
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
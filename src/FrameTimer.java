@@ -0,0 +1,101 @@
+import javafx.scene.Scene;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Measures how long a keystroke takes to reach the screen: from the start of
+ * the key handler to the end of the layout pass of the next pulse (the frame
+ * that shows the change). Enabled with {@code -Dclusterle.frameTiming=true},
+ * which logs every keystroke over the 16 ms frame budget, or by installing a
+ * listener (e.g. for an overlay or a test).
+ */
+public final class FrameTimer {
+
+    /** Frame budget at 60 Hz in nanoseconds. */
+    static final long BUDGET_NANOS = 16_000_000L;
+
+    /** Whether keystrokes over budget are logged. */
+    private static final boolean LOGGING = Boolean.getBoolean("clusterle.frameTiming");
+
+    /** Called with the frame time (nanos) of every measured keystroke (null = none). */
+    private static volatile LongConsumer listener;
+
+    /** Keystrokes measured so far. */
+    private static long count;
+
+    /** Keystrokes over {@link #BUDGET_NANOS}. */
+    private static long overBudget;
+
+    /** Slowest keystroke so far (nanos). */
+    private static long maxNanos;
+
+    private FrameTimer() {
+        // Utility class
+    }
+
+    /**
+     * Sets the listener for frame times (null removes it).
+     */
+    static void setListener(LongConsumer value) {
+        listener = value;
+    }
+
+    /**
+     * Starts measuring a keystroke; call first thing in the key handler (FX thread).
+     * Does nothing when timing is off.
+     */
+    static void keystroke(Scene scene) {
+        if (scene == null || (!LOGGING && listener == null)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Runnable[] done = new Runnable[1];
+        done[0] = () -> {
+            scene.removePostLayoutPulseListener(done[0]);
+            record(System.nanoTime() - start);
+        };
+        scene.addPostLayoutPulseListener(done[0]);
+    }
+
+    /**
+     * Adds one measured frame time to the stats, logs it if over budget and tells the listener.
+     */
+    static synchronized void record(long nanos) {
+        count++;
+        maxNanos = Math.max(maxNanos, nanos);
+        if (nanos > BUDGET_NANOS) {
+            overBudget++;
+            if (LOGGING) {
+                IO.println(String.format("Keystroke frame took %.1f ms (budget %d ms)",
+                        nanos / 1e6, BUDGET_NANOS / 1_000_000));
+            }
+        }
+
+        LongConsumer l = listener;
+        if (l != null) {
+            l.accept(nanos);
+        }
+    }
+
+    static synchronized long getCount() {
+        return count;
+    }
+
+    static synchronized long getOverBudget() {
+        return overBudget;
+    }
+
+    static synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Clears the stats (e.g. when a new game starts).
+     */
+    static synchronized void reset() {
+        count = 0;
+        overBudget = 0;
+        maxNanos = 0;
+    }
+}
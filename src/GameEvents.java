@@ -0,0 +1,79 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder events of the game. They cost (almost) nothing unless a
+ * recording enables them, e.g. with the profile in {@code clusterle.jfc}:
+ * <pre>
+ * java -XX:StartFlightRecording:settings=clusterle.jfc,filename=cache/clusterle.jfr ... Clusterle
+ * </pre>
+ * The recording also holds GC pauses, so slow frames can be matched against them
+ * in JDK Mission Control or with {@code jfr print --events clusterle.* cache/clusterle.jfr}.
+ */
+public final class GameEvents {
+
+    private GameEvents() {
+        // Utility class
+    }
+
+    @Name("clusterle.Guess")
+    @Label("Guess")
+    @Category({"Clusterle", "Game"})
+    @Description("One submitGuess call of a game mode")
+    public static final class Guess extends Event {
+
+        @Label("Mode")
+        String mode;
+
+        @Label("Guess")
+        String guess;
+    }
+
+    @Name("clusterle.Validation")
+    @Label("Dictionary Validation")
+    @Category({"Clusterle", "Dictionary"})
+    @Description("One Hunspell word check, including loading the dictionary if needed")
+    public static final class Validation extends Event {
+
+        @Label("Language")
+        String language;
+
+        @Label("Word")
+        String word;
+
+        @Label("Valid")
+        boolean valid;
+    }
+
+    @Name("clusterle.WordListLoad")
+    @Label("Word List Load")
+    @Category({"Clusterle", "Dictionary"})
+    @Description("Reading one word list from the resources")
+    public static final class WordListLoad extends Event {
+
+        @Label("Language")
+        String language;
+
+        @Label("Letters")
+        int letters;
+
+        @Label("Words")
+        int words;
+    }
+
+    @Name("clusterle.Paint")
+    @Label("Paint")
+    @Category({"Clusterle", "Rendering"})
+    @Description("Painting the feedback of one guess into a view")
+    public static final class Paint extends Event {
+
+        @Label("View")
+        String view;
+
+        @Label("Tiles")
+        int tiles;
+    }
+}
@@ -0,0 +1,202 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * State machine of one game, shared by the console games and the JavaFX views.
+ * It never waits for input: a front-end feeds it events ({@link #submit},
+ * {@link #giveUp}) whenever the player acts, and hears back through its
+ * {@link Listener}s. The rules and scoring stay in the logic classes
+ * ({@link WordleLogic}, {@link XordleLogic}, {@link VerticleLogic}, {@link MathlerLogic},
+ * {@link AbsurdleLogic});
+ * the session adds input checks and the PLAYING → WON / LOST / GAVE_UP states.
+ *
+ * @param <R> turn result type of the game mode (e.g. {@link WordleLogic.TurnResult})
+ */
+public final class GameSession<R> {
+
+    /** Rejected guesses of every session, for the metrics overlay. */
+    private static final Metrics.Counter REJECTED = Metrics.counter(Metrics.GUESS_REJECTED);
+
+    public enum State {
+        /** Waiting for the next guess. */
+        PLAYING,
+        /** Every secret was found. */
+        WON,
+        /** Out of guesses. */
+        LOST,
+        /** The player gave up. */
+        GAVE_UP
+    }
+
+    /**
+     * Receives the events of a session. All methods are optional.
+     */
+    public interface Listener<R> {
+
+        /** A guess was played. */
+        default void onTurn(R result) {
+        }
+
+        /** A guess was refused; no try was used. */
+        default void onRejected(String guess, String reason) {
+        }
+
+        /** The game ended (called once, after the last {@link #onTurn}). */
+        default void onEnd(State state) {
+        }
+    }
+
+    /** Scores a guess with the logic class (throws IllegalArgumentException if it refuses it). */
+    private final Function<String, R> play;
+
+    /** Whether the logic reports the game as won. */
+    private final BooleanSupplier won;
+
+    /** Whether the logic reports the game as over. */
+    private final BooleanSupplier over;
+
+    /** Required guess length. */
+    private final int length;
+
+    /** What a guess consists of, for messages ("letters", "characters"). */
+    private final String unit;
+
+    /** Dictionary check of guesses (null = none). */
+    private final Predicate<String> dictionary;
+
+    /** Registered listeners. */
+    private final List<Listener<R>> listeners = new ArrayList<>();
+
+    /** Current state. */
+    private State state = State.PLAYING;
+
+    /** Number of guesses played. */
+    private int turns;
+
+    GameSession(Function<String, R> playValue, BooleanSupplier wonValue, BooleanSupplier overValue,
+                int lengthValue, String unitValue, Predicate<String> dictionaryValue) {
+        this.play = playValue;
+        this.won = wonValue;
+        this.over = overValue;
+        this.length = lengthValue;
+        this.unit = unitValue;
+        this.dictionary = dictionaryValue;
+    }
+
+    // ----- Factories per mode -----
+
+    static GameSession<WordleLogic.TurnResult> wordle(WordleLogic game, Predicate<String> dictionary) {
+        return new GameSession<>(game::submitGuess, game::isGameWon, game::isGameOver,
+                game.getLetters(), "letters", dictionary);
+    }
+
+    static GameSession<XordleLogic.TurnResult> xordle(XordleLogic game, Predicate<String> dictionary) {
+        return new GameSession<>(game::submitGuess, game::isGameWon, game::isGameOver,
+                game.getLetters(), "letters", dictionary);
+    }
+
+    static GameSession<VerticleLogic.TurnResult> verticle(VerticleLogic game, Predicate<String> dictionary) {
+        return new GameSession<>(game::submitGuess, game::isGameWon, game::isGameOver,
+                game.getLetters(), "letters", dictionary);
+    }
+
+    static GameSession<AbsurdleLogic.TurnResult> absurdle(AbsurdleLogic game, Predicate<String> dictionary) {
+        return new GameSession<>(game::submitGuess, game::isGameWon, game::isGameOver,
+                game.getLetters(), "letters", dictionary);
+    }
+
+    /**
+     * Mathler guesses are equations, so there is no dictionary check.
+     */
+    static GameSession<MathlerLogic.TurnResult> mathler(MathlerLogic game) {
+        return new GameSession<>(game::submitGuess, game::isGameWon, game::isGameOver,
+                game.getEquationLength(), "characters", null);
+    }
+
+    // ----- Events -----
+
+    void addListener(Listener<R> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Plays a guess: checks its length and the dictionary, scores it and ends the
+     * game if it was the last one.
+     *
+     * @return the turn result, or null if the guess was rejected
+     */
+    R submit(String guessRaw) {
+        if (state != State.PLAYING) {
+            return reject(guessRaw, "The game is over.");
+        }
+
+        String guess = guessRaw.trim();
+        if (guess.length() != length) {
+            return reject(guess, "Your guess must be " + length + " " + unit + " long.");
+        }
+        if (dictionary != null && !dictionary.test(guess)) {
+            return reject(guess, "Not a valid word.");
+        }
+
+        R result;
+        try {
+            result = play.apply(guess);
+        } catch (IllegalArgumentException ex) {
+            return reject(guess, ex.getMessage());
+        }
+        turns++;
+
+        for (Listener<R> l : listeners) {
+            l.onTurn(result);
+        }
+
+        if (won.getAsBoolean()) {
+            end(State.WON);
+        } else if (over.getAsBoolean()) {
+            end(State.LOST);
+        }
+        return result;
+    }
+
+    /**
+     * Ends a running game as given up (ignored once the game is over).
+     */
+    void giveUp() {
+        if (state == State.PLAYING) {
+            end(State.GAVE_UP);
+        }
+    }
+
+    State getState() {
+        return state;
+    }
+
+    boolean isPlaying() {
+        return state == State.PLAYING;
+    }
+
+    /**
+     * Number of guesses played so far.
+     */
+    int getTurns() {
+        return turns;
+    }
+
+    private R reject(String guess, String reason) {
+        REJECTED.increment();
+        for (Listener<R> l : listeners) {
+            l.onRejected(guess, reason);
+        }
+        return null;
+    }
+
+    private void end(State endState) {
+        state = endState;
+        for (Listener<R> l : listeners) {
+            l.onEnd(endState);
+        }
+    }
+}
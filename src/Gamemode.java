@@ -2,14 +2,12 @@ public class Gamemode {
     private final String game;
     private final Language lang;
 
-    Gamemode(String gameMode, Language language) {
+    Gamemode(String gameMode, Language language, Terminal terminal) {
         this.game = gameMode;
         this.lang = language;
 
         if (this.game.equals("wordle")) {
-            int wordsInput = Integer.parseInt(
-                    IO.readln("How many mystery words do you want to guess? (1, 2, 4, 8, 16, 32) ")
-            );
+            int wordsInput = terminal.readInt("How many mystery words do you want to guess? (1, 2, 4, 8, 16, 32) ");
 
             while ((wordsInput != 1)
                     && (wordsInput != 2)
@@ -17,64 +15,62 @@ public class Gamemode {
                     && (wordsInput != 8)
                     && (wordsInput != 16)
                     && (wordsInput != 32)) {
-                wordsInput = Integer.parseInt(
-                        IO.readln("Please select one of the possible options: ")
-                );
+                wordsInput = terminal.readInt("Please select one of the possible options: ");
             }
 
-            int letterInput = Integer.parseInt(
-                    IO.readln("How many letters should the mystery word have? ")
-            );
+            int letterInput = terminal.readInt("How many letters should the mystery word have? ");
 
             while (letterInput < 4 || letterInput > 8) {
-                letterInput = Integer.parseInt(
-                        IO.readln("It is only possible for the word to have between 4 and 8 letters. ")
-                );
+                letterInput = terminal.readInt("It is only possible for the word to have between 4 and 8 letters. ");
             }
 
-            new Wordle(wordsInput, letterInput, lang);
+            new Wordle(wordsInput, letterInput, lang, askHardMode(terminal), terminal);
 
         } else if (this.game.equals("xordle")) {
-            int letterInput = Integer.parseInt(
-                    IO.readln("How many letters should the mystery words have? ")
-            );
+            int letterInput = terminal.readInt("How many letters should the mystery words have? ");
 
             while (letterInput < 4 || letterInput > 5) {
-                letterInput = Integer.parseInt(
-                        IO.readln("It is only possible for the word to have 4 or 5 letters. ")
-                );
+                letterInput = terminal.readInt("It is only possible for the word to have 4 or 5 letters. ");
             }
 
-            new Xordle(letterInput, lang);
+            new Xordle(letterInput, lang, askHardMode(terminal), terminal);
 
         } else if (this.game.equals("verticle")) {
-            int letterInput = Integer.parseInt(
-                    IO.readln("How many letters should the mystery words have? ")
-            );
+            int letterInput = terminal.readInt("How many letters should the mystery words have? ");
 
             while (letterInput < 4 || letterInput > 5) {
-                letterInput = Integer.parseInt(
-                        IO.readln("It is only possible for the word to have 4 or 5 letters. ")
-                );
+                letterInput = terminal.readInt("It is only possible for the word to have 4 or 5 letters. ");
             }
 
-            new Verticle(letterInput, lang);
+            new Verticle(letterInput, lang, askHardMode(terminal), terminal);
+
+        } else if (this.game.equals("absurdle")) {
+            int letterInput = terminal.readInt("How many letters should the words have? ");
+
+            while (lang.getWordList(letterInput).length == 0) {
+                letterInput = terminal.readInt("There are no words of that length. Please choose another one: ");
+            }
+
+            new Absurdle(letterInput, lang, terminal);
 
         } else if (this.game.equals("mathler")) {
-            int length = Integer.parseInt(
-                    IO.readln("How many numbers would you like the equation to have? (2 - 4) ")
-            );
+            int length = terminal.readInt("How many numbers would you like the equation to have? (2 - 4) ");
 
             while (length < 2 || length > 4) {
-                length = Integer.parseInt(
-                        IO.readln("Please choose between 2 and 4: ")
-                );
+                length = terminal.readInt("Please choose between 2 and 4: ");
             }
 
-            new Mathler(length);
+            new Mathler(length, terminal);
         }
     }
 
+    /**
+     * Asks whether revealed hints must be used in every guess.
+     */
+    private static boolean askHardMode(Terminal terminal) {
+        return terminal.readln("Do you want to play in hard mode? (y/n) ").trim().equalsIgnoreCase("y");
+    }
+
     String getGame() {
         return game;
     }
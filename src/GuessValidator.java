@@ -0,0 +1,141 @@
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Runs dictionary checks off the UI thread.
+ * <p>
+ * Each check runs on a virtual thread; the answer is handed back through the
+ * given publisher (for JavaFX views: {@code Platform::runLater}), so the UI
+ * thread never waits on the native dictionary. Requests for the word that is
+ * already being checked join that check instead of starting a new one, and
+ * {@link #cancel()} (called when the user keeps typing) interrupts the check
+ * and drops any answer still on its way. Answers are remembered per word.
+ * <p>
+ * All methods except the checks themselves are meant to be called from the UI thread.
+ */
+public final class GuessValidator {
+
+    /** Checks answered from {@link #known}, for the metrics overlay. */
+    private static final Metrics.Counter CACHE_HITS = Metrics.counter(Metrics.VALIDATION_CACHE_HIT);
+
+    /** Checks that had to run the checker. */
+    private static final Metrics.Counter CACHE_MISSES = Metrics.counter(Metrics.VALIDATION_CACHE_MISS);
+
+    /** Shared executor: one cheap virtual thread per check. */
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Dictionary check, e.g. {@code HunspellChecker::isValidWord}. */
+    private final Predicate<String> checker;
+
+    /** Runs answer callbacks on the UI thread. */
+    private final Executor publisher;
+
+    /** Answers already known (uppercase word -> valid). */
+    private final Map<String, Boolean> known = new ConcurrentHashMap<>();
+
+    /** Increased on every request and cancel; callbacks of older tickets are dropped. */
+    private final AtomicLong ticket = new AtomicLong();
+
+    /** Word currently being checked (null if none). */
+    private String inFlightWord;
+
+    /** Answer of the check in flight. */
+    private CompletableFuture<Boolean> inFlight;
+
+    /** Task of the check in flight (cancelled with interruption). */
+    private Future<?> inFlightTask;
+
+    public GuessValidator(Predicate<String> checkerValue, Executor publisherValue) {
+        this.checker = checkerValue;
+        this.publisher = publisherValue;
+    }
+
+    /**
+     * Starts checking a word ahead of time (e.g. as soon as a row is full),
+     * so a later {@link #validate} usually finds the answer ready.
+     */
+    public void prefetch(String word) {
+        request(word.toUpperCase());
+    }
+
+    /**
+     * Checks a word and calls {@code onResult} on the UI thread with the answer,
+     * unless {@link #cancel()} or another {@code validate} is called first.
+     */
+    public void validate(String word, Consumer<Boolean> onResult) {
+        CompletableFuture<Boolean> answer = request(word.toUpperCase());
+        long mine = ticket.incrementAndGet();
+
+        answer.thenAcceptAsync(valid -> {
+            if (ticket.get() == mine) {
+                onResult.accept(valid);
+            }
+        }, publisher);
+    }
+
+    /**
+     * Drops any pending answer and interrupts the check in flight.
+     */
+    public void cancel() {
+        ticket.incrementAndGet();
+
+        if (inFlightTask != null && !inFlight.isDone()) {
+            inFlightTask.cancel(true);
+            inFlight.cancel(false);
+        }
+        inFlightWord = null;
+        inFlight = null;
+        inFlightTask = null;
+    }
+
+    private CompletableFuture<Boolean> request(String word) {
+        Boolean answer = known.get(word);
+        if (answer != null) {
+            CACHE_HITS.increment();
+            return CompletableFuture.completedFuture(answer);
+        }
+
+        // Same word already being checked: join it
+        if (word.equals(inFlightWord) && !inFlight.isCancelled()) {
+            return inFlight;
+        }
+
+        cancel();
+        CACHE_MISSES.increment();
+
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        inFlightWord = word;
+        inFlight = result;
+        inFlightTask = EXECUTOR.submit(() -> {
+            if (Thread.currentThread().isInterrupted()) {
+                result.cancel(false);
+                return;
+            }
+            try {
+                boolean valid = checker.test(word);
+                if (Thread.currentThread().isInterrupted()) {
+                    // The check may have been cut short: never remember its answer
+                    result.cancel(false);
+                    return;
+                }
+                known.put(word, valid);
+                result.complete(valid);
+            } catch (CancellationException ex) {
+                result.cancel(false);
+            } catch (RuntimeException ex) {
+                // Fail-safe like HunspellChecker: a broken dictionary must not block the game
+                result.complete(true);
+            }
+        });
+        return result;
+    }
+}
@@ -1,32 +1,110 @@
-import com.nikialeksey.hunspell.Hunspell;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Utility class responsible for loading and using Hunspell dictionaries
  * to validate words for different languages.
+ * Keeps one {@link HunspellDictionary} per language, loaded lazily in the
+ * background: {@link #load} starts loading and returns at once, and only a
+ * word check waits for its dictionary. Several languages can be used at the
+ * same time (e.g. by different players), and each can be unloaded again.
  */
 public final class HunspellChecker {
 
     /**
-     * Singleton Hunspell instance used for spell checking.
+     * Native instances per dictionary. In {@code HunspellBenchmark} serialised access
+     * to one instance beat a pool of four (270k vs 187k checks/s with 4 threads on one
+     * core): a check takes a few microseconds, so the lock is rarely contended, while
+     * every extra instance costs the dictionary memory again.
      */
-    private static Hunspell hunspell;
+    static final int POOL_SIZE = 1;
+
+    /**
+     * Loads dictionaries off the calling thread.
+     */
+    private static final ExecutorService LOADER = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Dictionary per language code (loading or loaded).
+     */
+    private static final Map<String, CompletableFuture<HunspellDictionary>> DICTIONARIES = new ConcurrentHashMap<>();
+
+    /**
+     * Language used by {@link #isValidWord(String)} (null = init was never called).
+     */
+    private static volatile String language;
 
     private HunspellChecker() {
         // Utility class
     }
 
-    static void init(String language) {
-        // Avoid reloading if init is called multiple times
-        if (hunspell != null) {
-            return;
+    /**
+     * Selects the language used for word checks and starts loading its dictionary.
+     * Does not wait for the dictionary: the first check does, if it is not ready yet.
+     */
+    static void init(String languageValue) {
+        language = languageValue;
+        load(languageValue);
+    }
+
+    /**
+     * Starts loading the dictionary of a language (once) without waiting for it.
+     */
+    static CompletableFuture<HunspellDictionary> load(String languageValue) {
+        return DICTIONARIES.computeIfAbsent(languageValue,
+                code -> CompletableFuture.supplyAsync(() -> open(code), LOADER));
+    }
+
+    /**
+     * Whether the dictionary of a language finished loading successfully.
+     */
+    static boolean isReady(String languageValue) {
+        CompletableFuture<HunspellDictionary> f = DICTIONARIES.get(languageValue);
+        return f != null && f.isDone() && !f.isCompletedExceptionally();
+    }
+
+    /**
+     * Approximate memory of a loaded dictionary in bytes, or -1 if it is not loaded.
+     */
+    static long memoryBytes(String languageValue) {
+        if (!isReady(languageValue)) {
+            return -1;
+        }
+        return DICTIONARIES.get(languageValue).join().getMemoryBytes();
+    }
+
+    /**
+     * Closes the dictionary of a language and frees its native memory.
+     * It is loaded again on the next check in that language.
+     */
+    static void unload(String languageValue) {
+        CompletableFuture<HunspellDictionary> f = DICTIONARIES.remove(languageValue);
+        if (f != null) {
+            f.thenAccept(HunspellDictionary::close);
+        }
+    }
+
+    /**
+     * Closes every loaded dictionary (e.g. on shutdown).
+     */
+    static void unloadAll() {
+        for (String code : DICTIONARIES.keySet()) {
+            unload(code);
         }
+    }
 
+    private static HunspellDictionary open(String code) {
         String base = System.getProperty("user.dir") + "/resources/hunspell/";
 
         String dicPath;
         String affPath;
 
-        if ("de".equals(language)) {
+        if ("de".equals(code)) {
             dicPath = base + "de_DE.dic";
             affPath = base + "de_DE.aff";
         } else {
@@ -34,16 +112,61 @@ public final class HunspellChecker {
             affPath = base + "en_US.aff";
         }
 
-        // DIC first, then AFF (this fixes the 'the'/'and'/'house' false problem)
-        hunspell = new Hunspell(dicPath, affPath);
+        long begin = StartupProfiler.begin();
+        HunspellDictionary dictionary = HunspellDictionary.open(code, dicPath, affPath, POOL_SIZE);
+        StartupProfiler.end("Hunspell " + code + " init", begin);
+        return dictionary;
     }
 
+    /**
+     * Checks a word in the language selected with {@link #init}.
+     */
     static boolean isValidWord(String word) {
-        if (hunspell == null) {
+        String code = language;
+        if (code == null) {
             return true; // fail-safe if init wasn't called
         }
-        return hunspell.spell(word)
-                || hunspell.spell(word.toLowerCase())
-                || hunspell.spell(word.toUpperCase());
+        return isValidWord(code, word);
+    }
+
+    /**
+     * Checks a word in the given language, loading its dictionary if needed.
+     *
+     * @throws CancellationException if the calling thread was interrupted
+     */
+    static boolean isValidWord(String languageValue, String word) {
+        GameEvents.Validation event = new GameEvents.Validation();
+        event.begin();
+
+        boolean valid = check(languageValue, word);
+
+        event.language = languageValue;
+        event.word = word;
+        event.valid = valid;
+        event.commit();
+        return valid;
+    }
+
+    private static boolean check(String languageValue, String word) {
+        // Retry once if the dictionary was unloaded between lookup and check
+        for (int attempt = 0; attempt < 2; attempt++) {
+            HunspellDictionary dictionary;
+            try {
+                dictionary = load(languageValue).join();
+            } catch (CompletionException ex) {
+                return true; // fail-safe if the dictionary could not be loaded
+            }
+
+            if (!dictionary.isClosed()) {
+                try {
+                    return dictionary.spell(word);
+                } catch (CancellationException ex) {
+                    throw ex; // interrupted: there is no answer (extends IllegalStateException)
+                } catch (IllegalStateException ex) {
+                    // closed while waiting: load again
+                }
+            }
+        }
+        return true;
     }
 }
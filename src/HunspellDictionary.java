@@ -0,0 +1,196 @@
+import com.nikialeksey.hunspell.Hunspell;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Hunspell dictionary of one language.
+ * <p>
+ * A native Hunspell instance is not thread-safe, so checks borrow an instance
+ * from a small pool and give it back afterwards. With a pool of one, checks
+ * are simply serialised; {@code HunspellBenchmark} compares both options.
+ */
+public final class HunspellDictionary implements AutoCloseable {
+
+    /** Latency of {@link #spell} (including the wait for a free instance). */
+    private static final LatencyHistogram LOOKUP_TIME = Metrics.histogram(Metrics.HUNSPELL_LOOKUP);
+
+    /** Language code (e.g., "en", "de"). */
+    private final String language;
+
+    /** All native instances, for closing. */
+    private final Hunspell[] instances;
+
+    /** Instances not in use right now. */
+    private final Queue<Hunspell> idle = new ConcurrentLinkedQueue<>();
+
+    /**
+     * One permit per idle instance. {@link #close()} takes them all, and gives them
+     * back afterwards so that checks still waiting wake up and see the closed flag.
+     */
+    private final Semaphore permits;
+
+    /** Approximate memory used by the loaded instances (bytes). */
+    private final long memoryBytes;
+
+    /** Set once {@link #close()} started; no new checks are accepted. */
+    private volatile boolean closed;
+
+    private HunspellDictionary(String languageValue, Hunspell[] instancesValue, long memoryBytesValue) {
+        this.language = languageValue;
+        this.instances = instancesValue;
+        for (Hunspell h : instancesValue) {
+            idle.add(h);
+        }
+        this.permits = new Semaphore(instancesValue.length);
+        this.memoryBytes = memoryBytesValue;
+    }
+
+    /**
+     * Loads {@code poolSize} native instances of one dictionary.
+     *
+     * @throws IllegalStateException if a dictionary file is missing
+     */
+    static HunspellDictionary open(String language, String dicPath, String affPath, int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1.");
+        }
+
+        // Hunspell silently rejects every word when a file is missing
+        Path dic = Paths.get(dicPath);
+        Path aff = Paths.get(affPath);
+        if (!Files.exists(dic) || !Files.exists(aff)) {
+            throw new IllegalStateException("Missing dictionary files for '" + language + "': " + dicPath);
+        }
+
+        long before = residentBytes();
+        Hunspell[] instances = new Hunspell[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            // DIC first, then AFF (this fixes the 'the'/'and'/'house' false problem)
+            instances[i] = new Hunspell(dicPath, affPath);
+        }
+        long after = residentBytes();
+
+        // Native memory is invisible to the Java heap: use the process size change when
+        // the OS reports it, otherwise the file sizes (a lower bound of the loaded tables)
+        long memory = after - before;
+        if (before < 0 || after < 0 || memory <= 0) {
+            try {
+                memory = (Files.size(dic) + Files.size(aff)) * poolSize;
+            } catch (IOException e) {
+                memory = 0;
+            }
+        }
+
+        return new HunspellDictionary(language, instances, memory);
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public int getPoolSize() {
+        return instances.length;
+    }
+
+    /**
+     * Approximate memory held by this dictionary's native instances, in bytes:
+     * the growth of the process while loading them (Linux), otherwise the file sizes.
+     * May under-count when the load reuses memory freed by an unloaded dictionary.
+     */
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Checks one word (as typed, lowercase and uppercase), waiting for a free instance if needed.
+     *
+     * @throws IllegalStateException if the dictionary was closed
+     * @throws CancellationException if the calling thread was interrupted while waiting
+     */
+    public boolean spell(String word) {
+        long start = System.nanoTime();
+        Hunspell h = borrow();
+        try {
+            return h.spell(word)
+                    || h.spell(word.toLowerCase())
+                    || h.spell(word.toUpperCase());
+        } finally {
+            giveBack(h);
+            LOOKUP_TIME.recordSince(start);
+        }
+    }
+
+    /**
+     * Takes an idle instance, waiting for one if needed; must be given back with {@link #giveBack}.
+     *
+     * @throws IllegalStateException if the dictionary is or gets closed
+     * @throws CancellationException if the calling thread was interrupted while waiting
+     */
+    Hunspell borrow() {
+        if (closed) {
+            throw new IllegalStateException("Dictionary " + language + " is closed.");
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for dictionary " + language);
+        }
+        if (closed) {
+            permits.release();
+            throw new IllegalStateException("Dictionary " + language + " is closed.");
+        }
+        return idle.poll();
+    }
+
+    void giveBack(Hunspell h) {
+        idle.add(h);
+        permits.release();
+    }
+
+    /**
+     * Frees the native instances once the checks in progress are finished.
+     * Checks waiting for an instance fail with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        try {
+            permits.acquire(instances.length);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        for (Hunspell h : instances) {
+            h.close();
+        }
+        idle.clear();
+
+        // Wake the checks still waiting: they see the closed flag and give the permit back
+        permits.release(instances.length);
+    }
+
+    /**
+     * Resident set size of this process (Linux only), or -1 if unknown.
+     */
+    private static long residentBytes() {
+        try {
+            String[] statm = Files.readString(Paths.get("/proc/self/statm")).trim().split("\\s+");
+            return Long.parseLong(statm[1]) * 4096L;
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+}
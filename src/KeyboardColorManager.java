@@ -14,10 +14,27 @@ public class KeyboardColorManager {
      */
     private final Map<Character, Integer> keyRank = new HashMap<>();
 
+    /**
+     * Style each key had when it was registered (restored by {@link #reset()}).
+     */
+    private final Map<Character, String> baseStyle = new HashMap<>();
+
     public void registerKey(char ch, Button button) {
         ch = Character.toUpperCase(ch);
         keyButtons.put(ch, button);
         keyRank.put(ch, 0);
+        baseStyle.put(ch, button.getStyle());
+    }
+
+    /**
+     * Puts every key back to its registered style (e.g. when a view is reused for a new game).
+     */
+    public void reset() {
+        for (Map.Entry<Character, Button> e : keyButtons.entrySet()) {
+            if (keyRank.put(e.getKey(), 0) != 0) {
+                e.getValue().setStyle(baseStyle.get(e.getKey()));
+            }
+        }
     }
 
     public void promoteKey(char ch, int newRank) {
@@ -4,6 +4,10 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 
 public class Language {
+
+    /** Time to read one word list, for the metrics overlay. */
+    private static final LatencyHistogram LOAD_TIME = Metrics.histogram(Metrics.WORD_LIST_LOAD);
+
     private String languageCode;
 
     // Cache: index = letters, stores loaded list (null = not loaded yet)
@@ -13,7 +17,16 @@ public class Language {
         this.languageCode = languageCodeInput.toLowerCase();
     }
 
-    String[] getWordList(int letters) {
+    String getLanguageCode() {
+        return languageCode;
+    }
+
+    /**
+     * Returns the words of a length (uppercase), loading them on first use.
+     * Synchronized because one Language is shared by the FX thread and
+     * background game preparation.
+     */
+    synchronized String[] getWordList(int letters) {
         if (letters < 1 || letters >= cache.length) {
             return new String[0];
         }
@@ -25,14 +38,33 @@ public class Language {
 
         String fileName = "words/" + languageCode + "_" + letters + ".txt";
 
+        long begin = StartupProfiler.begin();
+        long start = System.nanoTime();
+        GameEvents.WordListLoad event = new GameEvents.WordListLoad();
+        event.begin();
+
         String[] loaded = loadWordsFromResource(fileName, letters);
 
+        event.language = languageCode;
+        event.letters = letters;
+        event.words = loaded.length;
+        event.commit();
+        LOAD_TIME.recordSince(start);
+        StartupProfiler.end("word list " + languageCode + "_" + letters + " (" + loaded.length + " words)", begin);
+
         // Cache it (even if empty) so we don't try again every time
         cache[letters] = loaded;
 
         return loaded;
     }
 
+    /**
+     * Letter statistics of a word list (computed once, then cached on disk).
+     */
+    WordListStats getStats(int letters) {
+        return WordListStats.get(this, letters);
+    }
+
     private String[] loadWordsFromResource(String fileName, int letters) {
         InputStream in = Language.class.getClassLoader().getResourceAsStream(fileName);
         if (in == null) {
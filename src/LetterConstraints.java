@@ -0,0 +1,163 @@
+/**
+ * What the feedback so far says about one secret word: fixed letters per
+ * position, the least number of copies of a letter and letters that are not
+ * in the word at all. The logic classes add each turn once, so checking a guess
+ * ({@link #check}) costs O(letters) however long the game is, instead of
+ * replaying every earlier turn. Used for hard mode and for the hint letters
+ * of the board.
+ */
+public final class LetterConstraints {
+
+    /** Known letter per position (0 = unknown). */
+    private final char[] fixed;
+
+    /** Least number of copies per letter (index = letter - 'A'). */
+    private final int[] minCount = new int[26];
+
+    /** Letters with a minimum count, so checks only visit those; the first requiredCount are used. */
+    private final char[] required;
+
+    /** Number of entries used in {@link #required}. */
+    private int requiredCount;
+
+    /** Letters known to be absent (bit = letter - 'A'). */
+    private int excluded;
+
+    LetterConstraints(int letters) {
+        this.fixed = new char[letters];
+        this.required = new char[letters];
+    }
+
+    // ----- Adding feedback -----
+
+    /**
+     * Records that the word has this letter at this position.
+     */
+    void fix(int position, char c) {
+        fixed[position] = c;
+    }
+
+    /**
+     * Records the letters a guess revealed, from its feedback packed as in
+     * {@link WordleLogic#scorePacked} (digit i: 0 = grey, 1 = yellow, 2 = green).
+     * Every green or yellow copy of a letter is one copy the word has at least;
+     * a letter with only grey copies is not in the word. Positions are not
+     * fixed here, because in Verticle a green does not mean "this position".
+     */
+    void addPresence(String guess, int code) {
+        int[] seen = new int[26];
+        int grey = 0;
+
+        for (int i = 0; i < guess.length(); i++) {
+            int letter = index(guess.charAt(i));
+            if (letter >= 0 && code % 3 == 0) {
+                grey |= 1 << letter;
+            } else if (letter >= 0) {
+                seen[letter]++;
+            }
+            code /= 3;
+        }
+
+        for (int i = 0; i < guess.length(); i++) {
+            char c = guess.charAt(i);
+            int letter = index(c);
+            if (letter < 0 || seen[letter] == 0) {
+                continue;
+            }
+            if (minCount[letter] == 0) {
+                required[requiredCount++] = c;
+            }
+            minCount[letter] = Math.max(minCount[letter], seen[letter]);
+        }
+
+        for (int letter = 0; letter < 26; letter++) {
+            if ((grey & (1 << letter)) != 0 && seen[letter] == 0) {
+                excluded |= 1 << letter;
+            }
+        }
+    }
+
+    /**
+     * Records that a letter is not in the word.
+     */
+    void exclude(char c) {
+        int letter = index(c);
+        if (letter >= 0) {
+            excluded |= 1 << letter;
+        }
+    }
+
+    // ----- Queries -----
+
+    /**
+     * Known letter at a position, or 0 if it is not known yet.
+     */
+    char getFixed(int position) {
+        return fixed[position];
+    }
+
+    /**
+     * Least number of copies of a letter in the word (0 = nothing known).
+     */
+    int getMinCount(char c) {
+        int letter = index(c);
+        return (letter < 0) ? 0 : minCount[letter];
+    }
+
+    boolean isExcluded(char c) {
+        int letter = index(c);
+        return letter >= 0 && (excluded & (1 << letter)) != 0;
+    }
+
+    /**
+     * Checks that a guess (uppercase) uses every revealed letter: the fixed
+     * letters in their places and at least the known number of copies of every
+     * other revealed letter.
+     *
+     * @return null if the guess uses them all, otherwise why not
+     */
+    String check(String guess) {
+        for (int i = 0; i < fixed.length; i++) {
+            if (fixed[i] != 0 && guess.charAt(i) != fixed[i]) {
+                return "Letter " + (i + 1) + " must be " + fixed[i] + ".";
+            }
+        }
+
+        int[] copies = new int[26];
+        for (int i = 0; i < guess.length(); i++) {
+            int letter = index(guess.charAt(i));
+            if (letter >= 0) {
+                copies[letter]++;
+            }
+        }
+        for (int r = 0; r < requiredCount; r++) {
+            char c = required[r];
+            int min = minCount[c - 'A'];
+            if (copies[c - 'A'] < min) {
+                return "Your guess must contain " + c + ((min > 1) ? " " + min + " times." : ".");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that a guess uses none of the excluded letters.
+     *
+     * @return null if it uses none, otherwise why not
+     */
+    String checkExcluded(String guess) {
+        for (int i = 0; i < guess.length(); i++) {
+            if (isExcluded(guess.charAt(i))) {
+                return guess.charAt(i) + " was already ruled out.";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Index of an uppercase letter A-Z, or -1 for any other character (never constrained).
+     */
+    private static int index(char c) {
+        return (c >= 'A' && c <= 'Z') ? c - 'A' : -1;
+    }
+}
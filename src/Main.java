@@ -1,36 +1,50 @@
+import java.util.function.Function;
+
 public final class Main {
 
     private Main() { }
 
     public static void main(String[] args) {
-        String language = IO.readln("Which language do you prefer? (en/de): ")
+        play(Terminal.system(), Language::new);
+    }
+
+    /**
+     * Asks for language and game mode and plays one console game.
+     * Used for the local console and for every {@link TerminalServer} connection.
+     *
+     * @param languages gives the word lists of a language code (may share them between players)
+     */
+    static void play(Terminal terminal, Function<String, Language> languages) {
+        String language = terminal.readln("Which language do you prefer? (en/de): ")
                 .toLowerCase();
 
-        while (!language.equals("en") && !language.equals("de")) language = IO.readln(
+        while (!language.equals("en") && !language.equals("de")) language = terminal.readln(
                 "That option doesn't exist. Please make sure you typed one of the options.\n"
         ).toLowerCase();
 
-        Language lang = new Language(language);
-        HunspellChecker.init(language);
+        Language lang = languages.apply(language);
+        HunspellChecker.load(language);
 
 
-        String gamemode = IO.readln(
+        String gamemode = terminal.readln(
                 """
                         Which game do you want to play?
-                        Wordle   Xordle   Verticle   Mathler
+                        Wordle   Xordle   Verticle   Mathler   Absurdle
                         """
         ).toLowerCase();
 
         while (!gamemode.equals("wordle")
                 && !gamemode.equals("xordle")
                 && !gamemode.equals("verticle")
-                && !gamemode.equals("mathler")) {
+                && !gamemode.equals("mathler")
+                && !gamemode.equals("absurdle")) {
 
-            gamemode = IO.readln(
+            gamemode = terminal.readln(
                     "That option doesn't exist. Please make sure you typed it correctly.\n"
             ).toLowerCase();
         }
 
-        Gamemode game = new Gamemode(gamemode, lang);
+        Gamemode game = new Gamemode(gamemode, lang, terminal);
+        terminal.flush();
     }
 }
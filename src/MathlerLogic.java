@@ -1,8 +1,13 @@
 import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 
 public class MathlerLogic {
 
+    /** Latency of {@link #submitGuess}, for the metrics overlay. */
+    private static final LatencyHistogram SUBMIT_TIME = Metrics.submitGuess("mathler");
+
     public enum Tile {
         /** Incorrect character. */
         GREY,
@@ -97,57 +102,121 @@ public class MathlerLogic {
         // first fold */ then apply +-
         // This assumes expr is a valid sequence of numbers/operators without parentheses.
         // (Good enough for unit tests, since you control the input.)
-        java.util.ArrayList<Integer> nums = new java.util.ArrayList<>();
-        java.util.ArrayList<Character> ops = new java.util.ArrayList<>();
+        int result = evaluate(expr.toCharArray(), expr.length());
+        if (result == INVALID) {
+            throw new IllegalArgumentException("Invalid equation format.");
+        }
+        return result;
+    }
+
+    /** Returned by {@link #evaluate} when the expression is malformed or divides by zero. */
+    static final int INVALID = Integer.MIN_VALUE;
+
+    /**
+     * Evaluates an expression made of numbers and + - * / without allocating anything.
+     * Uses the same precedence as the generator: * and / are folded left to right first,
+     * then + and - are applied. Only the first {@code length} characters are read,
+     * so solvers can evaluate a reusable char buffer.
+     *
+     * @return the integer value, or {@link #INVALID} if the expression is malformed
+     */
+    static int evaluate(char[] expr, int length) {
+        if (length <= 0) {
+            return INVALID;
+        }
+
+        int sum = 0;       // everything before the current * / segment
+        int sign = 1;      // sign of the current segment (+ or -)
+        int term = 0;      // value of the current * / segment
+        char pending = 0;  // operator in front of the number being parsed (0 = first number)
 
         int i = 0;
-        while (i < expr.length()) {
-            // parse number (can be multi-digit)
+        while (i < length) {
+            // ----- Parse one (possibly multi-digit) number -----
             int val = 0;
-            boolean hasDigit = false;
-            while (i < expr.length() && Character.isDigit(expr.charAt(i))) {
-                hasDigit = true;
-                val = val * 10 + (expr.charAt(i) - '0');
+            int start = i;
+            while (i < length && expr[i] >= '0' && expr[i] <= '9') {
+                val = val * 10 + (expr[i] - '0');
                 i++;
             }
-            if (!hasDigit) {
-                throw new IllegalArgumentException("Invalid equation format.");
+            if (i == start) {
+                return INVALID;
             }
-            nums.add(val);
 
-            if (i < expr.length()) {
-                char op = expr.charAt(i);
-                ops.add(op);
+            // ----- Fold it into the running segment -----
+            if (pending == 0) {
+                term = val;
+            } else if (pending == '*') {
+                term *= val;
+            } else if (pending == '/') {
+                if (val == 0) {
+                    return INVALID;
+                }
+                term /= val;
+            } else {
+                sum += sign * term;
+                sign = (pending == '+') ? 1 : -1;
+                term = val;
+            }
+
+            // ----- Read the operator after the number (if any) -----
+            if (i < length) {
+                char op = expr[i];
+                if (op != '+' && op != '-' && op != '*' && op != '/') {
+                    return INVALID;
+                }
+                pending = op;
                 i++;
+                if (i == length) {
+                    return INVALID; // trailing operator
+                }
             }
         }
 
-        // fold */ into nums2/ops2
-        java.util.ArrayList<Integer> nums2 = new java.util.ArrayList<>();
-        java.util.ArrayList<Character> ops2 = new java.util.ArrayList<>();
-        nums2.add(nums.getFirst());
+        return sum + sign * term;
+    }
+
+
+    /**
+     * Allocation-free version of the Wordle-style scoring in {@link #submitGuess}.
+     * Packs the feedback into one int: digit i (base 3) is the tile at position i
+     * (0 = grey, 1 = yellow, 2 = green). Used by solvers to bucket candidates.
+     */
+    static int scorePacked(char[] equation, char[] guess, int length) {
+        int code = 0;
+        int pow = 1;
 
-        for (int k = 0; k < ops.size(); k++) {
-            char op = ops.get(k);
-            int right = nums.get(k + 1);
+        for (int i = 0; i < length; i++) {
+            char c = guess[i];
+            int tile = 0;
 
-            if (op == '*' || op == '/') {
-                int left = nums2.getLast();
-                int folded = (op == '*') ? (left * right) : (left / right);
-                nums2.set(nums2.size() - 1, folded);
+            if (c == equation[i]) {
+                tile = 2;
             } else {
-                ops2.add(op);
-                nums2.add(right);
+                // Unmatched copies of c in the equation...
+                int available = 0;
+                for (int j = 0; j < length; j++) {
+                    if (equation[j] == c && guess[j] != c) {
+                        available++;
+                    }
+                }
+                // ...minus the ones already used by earlier non-green copies in the guess
+                int usedBefore = 0;
+                for (int j = 0; j < i; j++) {
+                    if (guess[j] == c && equation[j] != c) {
+                        usedBefore++;
+                    }
+                }
+                if (usedBefore < available) {
+                    tile = 1;
+                }
             }
-        }
 
-        int result = nums2.getFirst();
-        for (int k = 0; k < ops2.size(); k++) {
-            char op = ops2.get(k);
-            int right = nums2.get(k + 1);
-            result = (op == '+') ? (result + right) : (result - right);
+            code += tile * pow;
+            pow *= 3;
         }
-        return result;
+
+        return code;
     }
 
 
@@ -167,6 +236,36 @@ public class MathlerLogic {
     private boolean solved = false;
 
     public MathlerLogic(int numbersCountValue) {
+        this(numbersCountValue, null);
+    }
+
+    /**
+     * Picks the equation among the rated equations whose difficulty lies in the band.
+     * Falls back to a freshly generated equation if no ratings exist or none matches.
+     */
+    public MathlerLogic(int numbersCountValue, DifficultyBand band) {
+        String eq = DifficultyRatings.mathlerEquation(numbersCountValue, band);
+        if (eq == null) {
+            eq = generateEquation(numbersCountValue);
+        }
+
+        this.equation = eq;
+        this.target = evalSimpleExpression(eq);
+        this.chances = equation.length() + 2;
+    }
+
+    /**
+     * Generates a random equation with the given amount of numbers and a non-negative result.
+     */
+    static String generateEquation(int numbersCountValue) {
+        return generateEquation(numbersCountValue, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Same as {@link #generateEquation(int)} with the given random source
+     * (a seeded one gives the same equation every time).
+     */
+    static String generateEquation(int numbersCountValue, RandomGenerator random) {
 
         char[] operators = {'+', '-', '*', '/'};
         int result;
@@ -176,19 +275,19 @@ public class MathlerLogic {
             int[] numbers = new int[numbersCountValue];
             char[] ops = new char[numbersCountValue - 1];
 
-            numbers[0] = 1 + (int) (Math.random() * 99);
+            numbers[0] = 1 + random.nextInt(99);
 
             int running = numbers[0];
 
             for (int i = 0; i < ops.length; i++) {
-                char op = operators[(int) (Math.random() * operators.length)];
+                char op = operators[random.nextInt(operators.length)];
                 ops[i] = op;
 
                 if (op == '+' || op == '-') {
-                    numbers[i + 1] = 1 + (int) (Math.random() * 199);
+                    numbers[i + 1] = 1 + random.nextInt(199);
                     running = numbers[i + 1];
                 } else if (op == '*') {
-                    int factor = 2 + (int) (Math.random() * 10);
+                    int factor = 2 + random.nextInt(10);
                     numbers[i + 1] = factor;
                     running *= factor;
                 } else {
@@ -205,7 +304,7 @@ public class MathlerLogic {
                     if (count == 0) {
                         divisor = 1;
                     } else {
-                        divisor = divisors[(int) (Math.random() * count)];
+                        divisor = divisors[random.nextInt(count)];
                     }
 
                     numbers[i + 1] = divisor;
@@ -258,9 +357,7 @@ public class MathlerLogic {
 
         } while (result < 0);
 
-        this.target = result;
-        this.equation = eq;
-        this.chances = equation.length() + 2;
+        return eq;
     }
 
     public int getTarget() {
@@ -299,6 +396,20 @@ public class MathlerLogic {
      * - GREY   = character not present (or already fully used)
      */
     public TurnResult submitGuess(String guessRaw) {
+        GameEvents.Guess event = new GameEvents.Guess();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return playGuess(guessRaw);
+        } finally {
+            SUBMIT_TIME.recordSince(start);
+            event.mode = "mathler";
+            event.guess = guessRaw;
+            event.commit();
+        }
+    }
+
+    private TurnResult playGuess(String guessRaw) {
 
         // ----- If the game is already finished, return a safe "empty" result -----
         if (isGameOver()) {
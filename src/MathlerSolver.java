@@ -0,0 +1,701 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Automatic Mathler solver used for the in-game hint and for difficulty rating.
+ * It keeps, for every position, a bitmask of the characters that are still possible
+ * and, for every character, a lower and upper bound on how often it occurs.
+ * Only equations that fit these constraints are enumerated, using the same operand
+ * ranges {@link MathlerLogic} uses when it generates a secret equation.
+ */
+public class MathlerSolver {
+
+    /** All characters an equation can contain (index = bit in the position masks). */
+    static final String SYMBOLS = "0123456789+-*/";
+
+    /** Operators in the same order the generator picks them. */
+    private static final char[] OPERATORS = {'+', '-', '*', '/'};
+
+    /** Upper bound of candidates collected per search (keeps early hints fast). */
+    private static final int MAX_CANDIDATES = 2000;
+
+    /** First share of {@link #MAX_CANDIDATES} per first number, so a capped result stays spread out. */
+    private static final int MAX_PER_FIRST_NUMBER = MAX_CANDIDATES / 99 + 1;
+
+    /** Searches per candidates call at most (the first plus re-runs with the unused budget). */
+    private static final int MAX_SEARCH_ROUNDS = 4;
+
+    /** Upper bound of candidates that are ranked as possible guesses. */
+    private static final int MAX_GUESSES_RANKED = 150;
+
+    /** Upper bound of candidates used as the sample when ranking a guess. */
+    private static final int MAX_SECRETS_SAMPLED = 600;
+
+    /** Operand range after + or - (and for the last number). */
+    private static final int RANGE_ADD = 0;
+
+    /** Operand range after *. */
+    private static final int RANGE_MUL = 1;
+
+    /** Operand range after /. */
+    private static final int RANGE_DIV = 2;
+
+    /** Number of numbers in the secret equation. */
+    private final int numbersCount;
+
+    /** Length of the secret equation in characters. */
+    private final int length;
+
+    /** Value the secret equation evaluates to. */
+    private final int target;
+
+    /** Allowed characters per position, as bits over {@link #SYMBOLS}. */
+    private final int[] allowed;
+
+    /** Minimum number of occurrences per symbol. */
+    private final int[] minCount;
+
+    /** Maximum number of occurrences per symbol. */
+    private final int[] maxCount;
+
+    /** Guesses already submitted (never proposed again). */
+    private final Set<String> guessed = new HashSet<>();
+
+    /** Whether the last {@link #candidates()} call returned only a sample. */
+    private boolean sampled;
+
+    /** Time one candidate search may take once it found enough to rank (0 = no limit). */
+    private long budgetNanos;
+
+    /**
+     * Numbers whose digits fit the position masks, by [start position][range].
+     * Rebuilt for every search because the masks change after each guess.
+     */
+    private int[][][] operands;
+
+    public MathlerSolver(int numbersCountValue, int lengthValue, int targetValue) {
+        if (numbersCountValue < 2) {
+            throw new IllegalArgumentException("At least two numbers required.");
+        }
+
+        this.numbersCount = numbersCountValue;
+        this.length = lengthValue;
+        this.target = targetValue;
+
+        this.allowed = new int[length];
+        Arrays.fill(allowed, (1 << SYMBOLS.length()) - 1);
+
+        this.minCount = new int[SYMBOLS.length()];
+        this.maxCount = new int[SYMBOLS.length()];
+        Arrays.fill(maxCount, length);
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * Limits the time of one candidate search, for interactive hints: once the
+     * limit is reached and at least {@link #MAX_GUESSES_RANKED} equations were found,
+     * the search stops and the result is a sample. 0 (the default) means no limit,
+     * which keeps results repeatable (e.g. for difficulty ratings).
+     */
+    public void setTimeBudget(long millis) {
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Tightens the constraints with the feedback of one submitted guess.
+     */
+    public void apply(MathlerLogic.TurnResult result) {
+        apply(result.getGuess(), result.getTiles());
+    }
+
+    void apply(String guess, MathlerLogic.Tile[] tiles) {
+        if (guess.length() != length) {
+            return;
+        }
+
+        guessed.add(guess);
+
+        int[] hits = new int[SYMBOLS.length()];
+        boolean[] missed = new boolean[SYMBOLS.length()];
+
+        // ----- Position masks: green fixes a position, anything else excludes the symbol there -----
+        for (int i = 0; i < length; i++) {
+            int sym = SYMBOLS.indexOf(guess.charAt(i));
+            if (sym < 0) {
+                continue;
+            }
+
+            if (tiles[i] == MathlerLogic.Tile.GREEN) {
+                allowed[i] = 1 << sym;
+                hits[sym]++;
+            } else {
+                allowed[i] &= ~(1 << sym);
+                if (tiles[i] == MathlerLogic.Tile.YELLOW) {
+                    hits[sym]++;
+                } else {
+                    missed[sym] = true;
+                }
+            }
+        }
+
+        // ----- Count bounds: green+yellow is a minimum, a grey makes it exact -----
+        for (int sym = 0; sym < SYMBOLS.length(); sym++) {
+            minCount[sym] = Math.max(minCount[sym], hits[sym]);
+            if (missed[sym]) {
+                maxCount[sym] = Math.min(maxCount[sym], hits[sym]);
+            }
+        }
+    }
+
+    /**
+     * Returns equations that are still consistent with all feedback so far.
+     * Without a {@link #setTimeBudget time budget} the result and its order are
+     * the same for the same feedback; with one, a capped search may stop early,
+     * so which equations are found depends on timing ({@link #isSampled()} tells).
+     * <p>
+     * The search runs in parallel over the first number of the equation, each
+     * first number with a share of {@link #MAX_CANDIDATES}. First numbers that hit
+     * their share are searched again with the budget the others left unused, so
+     * a set that fits in {@link #MAX_CANDIDATES} is found completely unless it is
+     * very unevenly spread. Larger sets (early in the game) are sampled: a capped
+     * search walks its operators and operands from a random offset, so the sample
+     * is spread over the whole space, not the first equations in search order.
+     * Every call searches the space again, so an equation left out of one sample
+     * can still be found after the next guess.
+     */
+    public List<String> candidates() {
+        operands = buildOperands();
+
+        long deadline = (budgetNanos > 0) ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        AtomicInteger total = new AtomicInteger();
+        List<Search> searches = new ArrayList<>(IntStream.rangeClosed(1, 99)
+                .parallel()
+                .mapToObj(first -> searchFrom(first, MAX_PER_FIRST_NUMBER, deadline, total))
+                .toList());
+        List<List<String>> parts = new ArrayList<>();
+        boolean timedOut = false;
+        for (Search search : searches) {
+            parts.add(search.found);
+            timedOut |= search.timedOut;
+        }
+
+        // ----- Re-run the capped first numbers with the budget the others left -----
+        int cap = MAX_PER_FIRST_NUMBER;
+        for (int round = 1; round < MAX_SEARCH_ROUNDS && !timedOut && System.nanoTime() < deadline; round++) {
+            int used = 0;
+            List<Integer> capped = new ArrayList<>();
+            for (int i = 0; i < parts.size(); i++) {
+                if (parts.get(i).size() >= cap) {
+                    capped.add(i);
+                } else {
+                    used += parts.get(i).size();
+                }
+            }
+            if (capped.isEmpty()) {
+                break;
+            }
+
+            int nextCap = (MAX_CANDIDATES - used) / capped.size();
+            if (nextCap <= cap) {
+                break;
+            }
+            cap = nextCap;
+
+            int share = cap;
+            List<Search> rerun = capped.parallelStream()
+                    .map(i -> searchFrom(i + 1, share, deadline, total))
+                    .toList();
+            for (int k = 0; k < capped.size(); k++) {
+                parts.set(capped.get(k), rerun.get(k).found);
+                timedOut |= rerun.get(k).timedOut;
+            }
+        }
+
+        List<String> out = new ArrayList<>();
+        sampled = timedOut;
+        for (List<String> part : parts) {
+            sampled |= part.size() >= cap;
+            for (String eq : part) {
+                if (out.size() == MAX_CANDIDATES) {
+                    sampled = true;
+                    return out;
+                }
+                out.add(eq);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Whether the last {@link #candidates()} call returned a sample
+     * instead of every consistent equation.
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    /**
+     * Proposes the next guess: the candidate that leaves the fewest candidates
+     * on average, judged by the feedback it would produce against a sample.
+     *
+     * @return the proposed guess, or null if no equation fits the feedback
+     */
+    public String nextGuess() {
+        List<String> cands = candidates();
+        if (cands.isEmpty()) {
+            return null;
+        }
+        if (cands.size() <= 2 && !sampled) {
+            return cands.getFirst();
+        }
+
+        char[][] secrets = spread(cands, MAX_SECRETS_SAMPLED);
+        char[][] guesses = spread(cands, MAX_GUESSES_RANKED);
+
+        // ----- Score every ranked guess against the sample (parallel) -----
+        long[] cost = new long[guesses.length];
+        IntStream.range(0, guesses.length).parallel().forEach(g -> {
+            int[] codes = new int[secrets.length];
+            for (int s = 0; s < secrets.length; s++) {
+                codes[s] = MathlerLogic.scorePacked(secrets[s], guesses[g], length);
+            }
+            cost[g] = CandidateSolver.sumOfSquaredBuckets(codes);
+        });
+
+        int best = 0;
+        for (int g = 1; g < guesses.length; g++) {
+            if (cost[g] < cost[best]) {
+                best = g;
+            }
+        }
+        return new String(guesses[best]);
+    }
+
+    /**
+     * Picks up to {@code max} evenly spaced entries, as char arrays.
+     */
+    private static char[][] spread(List<String> list, int max) {
+        int n = Math.min(list.size(), max);
+        char[][] out = new char[n][];
+        for (int i = 0; i < n; i++) {
+            out[i] = list.get((int) ((long) i * list.size() / n)).toCharArray();
+        }
+        return out;
+    }
+
+    // ---------- Search ----------
+
+    /**
+     * Per-thread search state: the equation buffer and the symbol counts used so far.
+     */
+    private static final class Search {
+        private final char[] buf;
+        private final int[] counts = new int[SYMBOLS.length()];
+        private final List<String> found = new ArrayList<>();
+
+        /** Number of equations collected at most. */
+        private final int cap;
+
+        /** Picks the offset each loop starts at (seeded, so results are repeatable). */
+        private final Random random;
+
+        /** {@link System#nanoTime()} after which the search may stop early. */
+        private final long deadline;
+
+        /** Equations found by all searches of one candidates call. */
+        private final AtomicInteger total;
+
+        /** Calls of {@link #outOfTime()} so far (the clock is read every 256th). */
+        private int calls;
+
+        /** Whether the search stopped at the deadline. */
+        private boolean timedOut;
+
+        Search(int len, int capValue, long seed, long deadlineValue, AtomicInteger totalValue) {
+            this.buf = new char[len];
+            this.cap = capValue;
+            this.random = new Random(seed);
+            this.deadline = deadlineValue;
+            this.total = totalValue;
+        }
+
+        /**
+         * Whether the deadline passed and enough equations were found to rank guesses.
+         */
+        boolean outOfTime() {
+            if (!timedOut && (++calls & 255) == 0 && total.get() >= MAX_GUESSES_RANKED) {
+                timedOut = System.nanoTime() > deadline;
+            }
+            return timedOut;
+        }
+
+        /**
+         * Random start offset for a loop over {@code size} entries; the loop wraps around.
+         */
+        int offset(int size) {
+            return (size > 1) ? random.nextInt(size) : 0;
+        }
+    }
+
+    /**
+     * Collects, for every start position, the operands whose digits are all
+     * allowed there. This drops most of the search space before recursing.
+     */
+    private int[][][] buildOperands() {
+        int[][][] out = new int[length][3][];
+        char[] digits = new char[3];
+
+        for (int pos = 0; pos < length; pos++) {
+            int[][] lists = new int[3][200];
+            int[] sizes = new int[3];
+
+            for (int n = 1; n <= 199; n++) {
+                int len = n >= 100 ? 3 : (n >= 10 ? 2 : 1);
+                if (pos + len > length) {
+                    continue;
+                }
+
+                int v = n;
+                boolean ok = true;
+                for (int k = len - 1; k >= 0; k--) {
+                    digits[k] = (char) ('0' + v % 10);
+                    v /= 10;
+                }
+                for (int k = 0; k < len && ok; k++) {
+                    ok = (allowed[pos + k] & (1 << (digits[k] - '0'))) != 0;
+                }
+                if (!ok) {
+                    continue;
+                }
+
+                lists[RANGE_ADD][sizes[RANGE_ADD]++] = n;
+                if (n >= 2 && n <= 11) {
+                    lists[RANGE_MUL][sizes[RANGE_MUL]++] = n;
+                }
+                if (n <= 20) {
+                    lists[RANGE_DIV][sizes[RANGE_DIV]++] = n;
+                }
+            }
+
+            for (int r = 0; r < 3; r++) {
+                out[pos][r] = Arrays.copyOf(lists[r], sizes[r]);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Conservative check whether the target can still be reached.
+     * The current segment can only grow by a factor of 11 per remaining number,
+     * and a new segment contributes at most 199 * 11^(m-1) for m numbers.
+     */
+    private boolean reachable(int sum, int sign, int term, int numbersLeft) {
+        long[] b = bounds(sum, sign * term, numbersLeft);
+        return target >= b[0] && target <= b[1];
+    }
+
+    /**
+     * Lowest and highest final value reachable from a state (see {@link #reachable}).
+     *
+     * @param cur signed value of the current * / segment
+     */
+    private static long[] bounds(int sum, long cur, int numbersLeft) {
+        long lo = Long.MAX_VALUE;
+        long hi = Long.MIN_VALUE;
+
+        for (int j = 0; j <= numbersLeft; j++) {
+            long grow = pow11(j);
+            long fresh = (numbersLeft - j == 0) ? 0 : 199L * pow11(numbersLeft - j - 1);
+
+            long curMax = (j == 0) ? cur : Math.max(cur * grow, 0);
+            long curMin = (j == 0) ? cur : Math.min(cur * grow, 0);
+
+            hi = Math.max(hi, sum + curMax + fresh);
+            lo = Math.min(lo, sum + curMin - fresh);
+        }
+        return new long[]{lo, hi};
+    }
+
+    /**
+     * Binary search for the first index whose value satisfies a predicate that
+     * is false for a prefix of the sorted list and true for the rest.
+     */
+    private static int firstIndex(int[] sorted, IntPredicate test) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (test.test(sorted[mid])) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private static long pow11(int exp) {
+        long v = 1;
+        for (int i = 0; i < exp; i++) {
+            v *= 11;
+        }
+        return v;
+    }
+
+    /**
+     * Enumerates up to {@code cap} candidates starting with the given first number.
+     */
+    private Search searchFrom(int first, int cap, long deadline, AtomicInteger total) {
+        long seed = ((long) target * 131 + guessed.size()) * 211 + first;
+        Search s = new Search(length, cap, seed, deadline, total);
+        if (Arrays.binarySearch(operands[0][RANGE_ADD], first) < 0) {
+            return s;
+        }
+
+        int pos = place(s, 0, first);
+        if (pos < 0) {
+            return s;
+        }
+        if (fits(pos, 1)) {
+            extend(s, pos, 1, 0, 1, first);
+        }
+        unplace(s, 0, pos);
+        return s;
+    }
+
+    /**
+     * Adds an operator and the next number at {@code pos}.
+     *
+     * @param index index of the number being added (1-based count of numbers placed so far)
+     * @param sum   value of all finished + - segments
+     * @param sign  sign of the current * / segment
+     * @param term  value of the current * / segment ("running" in the generator)
+     */
+    private void extend(Search s, int pos, int index, int sum, int sign, int term) {
+        if (s.found.size() >= s.cap || s.outOfTime()) {
+            return;
+        }
+
+        boolean last = index == numbersCount - 1;
+
+        int opStart = s.offset(OPERATORS.length);
+        for (int o = 0; o < OPERATORS.length; o++) {
+            char op = OPERATORS[(opStart + o) % OPERATORS.length];
+            int opPos = place(s, pos, op);
+            if (opPos < 0) {
+                continue;
+            }
+
+            if (last) {
+                finish(s, opPos, op, sum, sign, term);
+            } else if (op == '+' || op == '-') {
+                int nextSum = sum + sign * term;
+                int nextSign = (op == '+') ? 1 : -1;
+                int[] list = operands[opPos][RANGE_ADD];
+                int numbersLeft = numbersCount - index - 1;
+
+                // Both reachability bounds move in one direction as n grows,
+                // so the operands worth trying form one slice of the sorted list.
+                int from;
+                int to;
+                if (nextSign > 0) {
+                    from = firstIndex(list, n -> bounds(nextSum, n, numbersLeft)[1] >= target);
+                    to = firstIndex(list, n -> bounds(nextSum, n, numbersLeft)[0] > target);
+                } else {
+                    from = firstIndex(list, n -> bounds(nextSum, -n, numbersLeft)[0] <= target);
+                    to = firstIndex(list, n -> bounds(nextSum, -n, numbersLeft)[1] < target);
+                }
+
+                int start = s.offset(to - from);
+                for (int k = 0; k < to - from; k++) {
+                    int n = list[from + (start + k) % (to - from)];
+                    tryNext(s, opPos, index, n, nextSum, nextSign, n);
+                }
+            } else if (op == '*') {
+                int[] list = operands[opPos][RANGE_MUL];
+                int start = s.offset(list.length);
+                for (int k = 0; k < list.length; k++) {
+                    int n = list[(start + k) % list.length];
+                    tryNext(s, opPos, index, n, sum, sign, term * n);
+                }
+            } else {
+                int[] list = operands[opPos][RANGE_DIV];
+                int start = s.offset(list.length);
+                for (int k = 0; k < list.length; k++) {
+                    int d = list[(start + k) % list.length];
+                    if (isDivisor(term, d)) {
+                        tryNext(s, opPos, index, d, sum, sign, term / d);
+                    }
+                }
+            }
+
+            unplace(s, pos, opPos);
+        }
+    }
+
+    private void tryNext(Search s, int pos, int index, int number, int sum, int sign, int term) {
+        if (!reachable(sum, sign, term, numbersCount - index - 1)) {
+            return;
+        }
+
+        int next = place(s, pos, number);
+        if (next < 0) {
+            return;
+        }
+        if (fits(next, index + 1)) {
+            extend(s, next, index + 1, sum, sign, term);
+        }
+        unplace(s, pos, next);
+    }
+
+    /**
+     * Places the last number. For + and - it is solved from the target directly,
+     * for * and / the few possible operands are tried.
+     */
+    private void finish(Search s, int pos, char op, int sum, int sign, int term) {
+        if (op == '+' || op == '-') {
+            int before = sum + sign * term;
+            int n = (op == '+') ? target - before : before - target;
+            if (n >= 1 && n <= 199) {
+                tryLast(s, pos, n);
+            }
+        } else if (op == '*') {
+            for (int n : operands[pos][RANGE_MUL]) {
+                tryLast(s, pos, n);
+            }
+        } else {
+            for (int d : operands[pos][RANGE_DIV]) {
+                if (isDivisor(term, d)) {
+                    tryLast(s, pos, d);
+                }
+            }
+        }
+    }
+
+    private void tryLast(Search s, int pos, int number) {
+        int end = place(s, pos, number);
+        if (end < 0) {
+            return;
+        }
+
+        if (end == length && meetsMinimums(s.counts)
+                && MathlerLogic.evaluate(s.buf, length) == target) {
+            String eq = new String(s.buf);
+            if (!guessed.contains(eq)) {
+                s.found.add(eq);
+                s.total.incrementAndGet();
+            }
+        }
+        unplace(s, pos, end);
+    }
+
+    /**
+     * Whether the generator may pick {@code d} as divisor for the running value:
+     * any of 2..20 that divides it, or 1 if none of them does.
+     */
+    private static boolean isDivisor(int running, int d) {
+        if (d > 1) {
+            return running % d == 0;
+        }
+        for (int k = 2; k <= 20; k++) {
+            if (running % k == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the remaining positions can still hold the remaining numbers
+     * (each needs an operator plus one to three digits).
+     */
+    private boolean fits(int pos, int placedNumbers) {
+        int left = length - pos;
+        int numbersLeft = numbersCount - placedNumbers;
+        return left >= 2 * numbersLeft && left <= 4 * numbersLeft;
+    }
+
+    private boolean meetsMinimums(int[] counts) {
+        for (int sym = 0; sym < counts.length; sym++) {
+            if (counts[sym] < minCount[sym]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a number at {@code pos} if every digit is allowed there.
+     *
+     * @return the position after the number, or -1 if it does not fit
+     */
+    private int place(Search s, int pos, int number) {
+        int digits = number >= 100 ? 3 : (number >= 10 ? 2 : 1);
+        if (pos + digits > length) {
+            return -1;
+        }
+
+        int n = number;
+        for (int k = digits - 1; k >= 0; k--) {
+            s.buf[pos + k] = (char) ('0' + n % 10);
+            n /= 10;
+        }
+
+        for (int k = 0; k < digits; k++) {
+            if (!take(s, pos + k)) {
+                unplace(s, pos, pos + k);
+                return -1;
+            }
+        }
+        return pos + digits;
+    }
+
+    /**
+     * Writes an operator at {@code pos} if it is allowed there.
+     *
+     * @return the position after the operator, or -1 if it does not fit
+     */
+    private int place(Search s, int pos, char op) {
+        if (pos >= length) {
+            return -1;
+        }
+        s.buf[pos] = op;
+        return take(s, pos) ? pos + 1 : -1;
+    }
+
+    /**
+     * Counts the symbol at {@code pos} if the masks and upper bounds allow it.
+     */
+    private boolean take(Search s, int pos) {
+        int sym = SYMBOLS.indexOf(s.buf[pos]);
+        if ((allowed[pos] & (1 << sym)) == 0 || s.counts[sym] >= maxCount[sym]) {
+            return false;
+        }
+        s.counts[sym]++;
+        return true;
+    }
+
+    /**
+     * Releases the symbols in [from, to) again.
+     */
+    private static void unplace(Search s, int from, int to) {
+        for (int p = from; p < to; p++) {
+            s.counts[SYMBOLS.indexOf(s.buf[p])]--;
+        }
+    }
+}
@@ -10,6 +10,10 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public class MathlerView extends BorderPane {
 
     /**
@@ -18,9 +22,31 @@ public class MathlerView extends BorderPane {
     private final Navigator nav;
 
     /**
-     * Game logic for Mathler.
+     * Game logic for Mathler (replaced by {@link #reset}).
+     */
+    private MathlerLogic game;
+
+    /** Session the guesses are played through (game state and input checks). */
+    private GameSession<MathlerLogic.TurnResult> session;
+
+    /** Time a hint search may take before it ranks the candidates found so far. */
+    private static final long HINT_BUDGET_MS = 60;
+
+    /**
+     * Feedback of this game so far, replayed into a fresh solver for every hint,
+     * so the hint search never shares state with the UI thread.
+     */
+    private final List<MathlerLogic.TurnResult> turns = new ArrayList<>();
+
+    /**
+     * Runs hint searches on a virtual thread; a newer request or a finished turn drops an older answer.
+     */
+    private final Debouncer hints = new Debouncer(0, Platform::runLater);
+
+    /**
+     * Amount of numbers in the equation.
      */
-    private final MathlerLogic game;
+    private final int numbersCount;
 
     /**
      * Required length of an equation guess.
@@ -72,6 +98,31 @@ public class MathlerView extends BorderPane {
      */
     private final KeyboardColorManager keyboardColors = new KeyboardColorManager();
 
+    /**
+     * Label showing the target result.
+     */
+    private final Label target;
+
+    /**
+     * Scroll pane around the board (the center while a game is running).
+     */
+    private final ScrollPane boardScroll;
+
+    /**
+     * Back button (shown after the game ends).
+     */
+    private final Button backBtn;
+
+    /**
+     * Play again button (shown after the game ends).
+     */
+    private final Button playAgainBtn;
+
+    /**
+     * Give up button.
+     */
+    private final Button giveUpBtn;
+
     /**
      * Action executed when ENTER is pressed.
      */
@@ -82,9 +133,15 @@ public class MathlerView extends BorderPane {
      */
     private boolean uiLocked = false;
 
-    public MathlerView(Navigator navigator, int numbersCount) {
+    public MathlerView(Navigator navigator, int numbersCountValue) {
+        this(navigator, numbersCountValue, new MathlerLogic(numbersCountValue));
+    }
+
+    public MathlerView(Navigator navigator, int numbersCountValue, MathlerLogic gameValue) {
         this.nav = navigator;
-        this.game = new MathlerLogic(numbersCount);
+        this.numbersCount = numbersCountValue;
+        this.game = gameValue;
+        this.session = startSession(gameValue);
 
         this.len = game.getEquationLength();
         this.chances = game.getChances();
@@ -99,7 +156,7 @@ public class MathlerView extends BorderPane {
         BorderPane.setAlignment(title, Pos.CENTER);
         BorderPane.setMargin(title, new Insets(20, 0, 10, 0));
 
-        Label target = new Label("Target result: " + game.getTarget());
+        this.target = new Label("Target result: " + game.getTarget());
         target.setStyle("-fx-font-size: 24px;");
 
         VBox top = new VBox(8, title, target);
@@ -127,15 +184,15 @@ public class MathlerView extends BorderPane {
 
         addRowToGrid(0);
 
-        ScrollPane centerScroll = new ScrollPane(grid);
-        centerScroll.setFitToWidth(true);
-        centerScroll.setFitToHeight(true);
-        centerScroll.setPannable(true);
-        centerScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        centerScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        setCenter(centerScroll);
+        this.boardScroll = new ScrollPane(grid);
+        boardScroll.setFitToWidth(true);
+        boardScroll.setFitToHeight(true);
+        boardScroll.setPannable(true);
+        boardScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        boardScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        setCenter(boardScroll);
 
-        Button backBtn = new Button("Back");
+        this.backBtn = new Button("Back");
         backBtn.setPrefWidth(140);
         backBtn.setPrefHeight(44);
         backBtn.getStyleClass().add("big");
@@ -143,18 +200,33 @@ public class MathlerView extends BorderPane {
         backBtn.setVisible(false);
         backBtn.setManaged(false);
 
-        Button giveUpBtn = new Button("Give up");
+        this.playAgainBtn = new Button("Play again");
+        playAgainBtn.setPrefWidth(160);
+        playAgainBtn.setPrefHeight(44);
+        playAgainBtn.getStyleClass().add("big");
+        playAgainBtn.setFocusTraversable(false);
+        playAgainBtn.setVisible(false);
+        playAgainBtn.setManaged(false);
+
+        this.giveUpBtn = new Button("Give up");
         giveUpBtn.setPrefWidth(160);
         giveUpBtn.setPrefHeight(44);
         giveUpBtn.getStyleClass().add("big");
         giveUpBtn.setFocusTraversable(false);
 
+        Button hintBtn = new Button("Hint");
+        hintBtn.setPrefWidth(160);
+        hintBtn.setPrefHeight(44);
+        hintBtn.getStyleClass().add("big");
+        hintBtn.setFocusTraversable(false);
+        hintBtn.setOnAction(_ -> showHint());
+
         KeyboardPane keyboard = buildMathKeyboard();
 
-        HBox topActions = new HBox(12, backBtn);
+        HBox topActions = new HBox(12, backBtn, playAgainBtn);
         topActions.setAlignment(Pos.CENTER);
 
-        HBox giveUpRow = new HBox(giveUpBtn);
+        HBox giveUpRow = new HBox(12, hintBtn, giveUpBtn);
         giveUpRow.setAlignment(Pos.CENTER);
 
         VBox bottom = new VBox(10, topActions, remaining, message, keyboard, giveUpRow);
@@ -166,6 +238,8 @@ public class MathlerView extends BorderPane {
 
         giveUpBtn.setOnAction(_ -> {
             uiLocked = true;
+            hints.cancel();
+            session.giveUp();
             showStandardLose(backBtn, giveUpBtn, "You gave up.");
         });
 
@@ -198,16 +272,19 @@ public class MathlerView extends BorderPane {
             // Build guess from typed buffer
             String guess = new String(current);
 
-            // Submit guess to logic (may throw if invalid characters/length)
-            MathlerLogic.TurnResult r;
-            try {
-                r = game.submitGuess(guess);
-            } catch (IllegalArgumentException ex) {
-                message.setText(ex.getMessage());
+            // Submit guess through the session (null if rejected, e.g. invalid characters)
+            MathlerLogic.TurnResult r = session.submit(guess);
+            if (r == null) {
                 return;
             }
 
+            // Remember the feedback for hints; a hint for the previous row is stale now
+            turns.add(r);
+            hints.cancel();
+
             // Paint the current row with green/yellow/grey feedback
+            GameEvents.Paint event = new GameEvents.Paint();
+            event.begin();
             for (int c = 0; c < len; c++) {
                 Label t = tiles[rowIndex][c];
                 char ch = r.getGuess().charAt(c);
@@ -223,6 +300,9 @@ public class MathlerView extends BorderPane {
                 // Update keyboard key colors (never downgrade)
                 keyboardColors.promoteKey(ch, rankForMathTile(r.getTiles()[c]));
             }
+            event.view = "mathler";
+            event.tiles = len;
+            event.commit();
 
             // Update remaining guesses label and clear error/status message
             remaining.setText("Guesses left: " + r.getRemainingGuesses());
@@ -417,6 +497,130 @@ public class MathlerView extends BorderPane {
         });
     }
 
+    /**
+     * Whether a game has the same shape as this view (numbers, equation length),
+     * so {@link #reset} can reuse the board.
+     */
+    boolean fits(int numbersCountValue, MathlerLogic other) {
+        return numbersCountValue == numbersCount && other.getEquationLength() == len;
+    }
+
+    /**
+     * Starts the session for a game.
+     */
+    private GameSession<MathlerLogic.TurnResult> startSession(MathlerLogic logic) {
+        GameSession<MathlerLogic.TurnResult> s = GameSession.mathler(logic);
+        s.addListener(new GameSession.Listener<>() {
+            @Override
+            public void onRejected(String guess, String reason) {
+                message.setText(reason);
+            }
+        });
+        return s;
+    }
+
+    /**
+     * Starts a new game in this view, reusing its node graph (tiles, keyboard)
+     * instead of building a new view.
+     *
+     * @throws IllegalArgumentException if the game does not {@link #fits fit} this view
+     */
+    void reset(MathlerLogic newGame) {
+        if (!fits(numbersCount, newGame)) {
+            throw new IllegalArgumentException("Game does not fit this view.");
+        }
+
+        game = newGame;
+        session = startSession(newGame);
+        turns.clear();
+        hints.cancel();
+        target.setText("Target result: " + game.getTarget());
+
+        rowIndex = 0;
+        colIndex = 0;
+        for (int i = 0; i < len; i++) {
+            current[i] = 0;
+        }
+
+        grid.getChildren().clear();
+        for (int r = 0; r < chances; r++) {
+            for (int c = 0; c < len; c++) {
+                tiles[r][c].setText(" ");
+                tiles[r][c].setStyle(GameStyles.tileBase() + GameStyles.tileEmpty());
+            }
+        }
+        addRowToGrid(0);
+
+        keyboardColors.reset();
+
+        remaining.setText("Guesses left: " + chances);
+        message.setStyle(GameStyles.MSG_RED);
+        message.setText("");
+
+        uiLocked = false;
+        giveUpBtn.setVisible(true);
+        giveUpBtn.setManaged(true);
+        backBtn.setVisible(false);
+        backBtn.setManaged(false);
+        playAgainBtn.setVisible(false);
+        playAgainBtn.setManaged(false);
+        setCenter(boardScroll);
+
+        requestFocus();
+    }
+
+    /**
+     * Asks the solver for the best next guess on a virtual thread;
+     * {@link #showHint(String)} types it in once it is found.
+     */
+    private void showHint() {
+        if (uiLocked || game.isGameOver()) {
+            return;
+        }
+
+        List<MathlerLogic.TurnResult> feedback = List.copyOf(turns);
+        int targetValue = game.getTarget();
+
+        message.setStyle(GameStyles.MSG_RED);
+        message.setText("Looking for a hint...");
+        requestFocus();
+
+        // "" = no hint (the debouncer drops null answers)
+        hints.submit(() -> {
+            MathlerSolver solver = new MathlerSolver(numbersCount, len, targetValue);
+            solver.setTimeBudget(HINT_BUDGET_MS);
+            for (MathlerLogic.TurnResult r : feedback) {
+                solver.apply(r);
+            }
+            String hint = solver.nextGuess();
+            return (hint != null) ? hint : "";
+        }, this::showHint);
+    }
+
+    /**
+     * Types a hint found by {@link #showHint()} into the current row.
+     */
+    private void showHint(String hint) {
+        if (uiLocked || game.isGameOver()) {
+            return;
+        }
+        if (hint.isEmpty()) {
+            message.setText("No hint available.");
+            requestFocus();
+            return;
+        }
+
+        while (colIndex > 0) {
+            backspace();
+        }
+        for (int i = 0; i < hint.length(); i++) {
+            typeChar(hint.charAt(i));
+        }
+
+        message.setText("Hint: " + hint);
+        requestFocus();
+    }
+
     /**
      * Adds one row of tiles to the grid at the given row index.
      */
@@ -531,6 +735,7 @@ public class MathlerView extends BorderPane {
         giveUpBtn.setManaged(false);
         backBtn.setVisible(true);
         backBtn.setManaged(true);
+        offerPlayAgain();
 
         requestFocus();
     }
@@ -566,10 +771,33 @@ public class MathlerView extends BorderPane {
         giveUpBtn.setManaged(false);
         backBtn.setVisible(true);
         backBtn.setManaged(true);
+        offerPlayAgain();
 
         requestFocus();
     }
 
+    /**
+     * Shows "Play again" and starts picking the next game in the background
+     * while the end screen shows, so the button only has to swap it in.
+     */
+    private void offerPlayAgain() {
+        CompletableFuture<MathlerLogic> next = nav.prepareMathler(numbersCount);
+
+        playAgainBtn.setDisable(false);
+        playAgainBtn.setOnAction(_ -> {
+            playAgainBtn.setDisable(true);
+            next.whenCompleteAsync((nextGame, error) -> {
+                if (error != null) {
+                    message.setText("Could not start a new game.");
+                    return;
+                }
+                nav.showMathler(numbersCount, nextGame);
+            }, Platform::runLater);
+        });
+        playAgainBtn.setVisible(true);
+        playAgainBtn.setManaged(true);
+    }
+
     /**
      * Builds the on-screen Mathler keyboard and wires it to:
      * ENTER -> enterAction, ⌫ -> backspace, keys -> typeChar.
@@ -0,0 +1,175 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of hot-path metrics: named counters and {@link LatencyHistogram}s.
+ * Looking a metric up by name costs a map lookup, so hot paths keep the returned
+ * object in a static field and only record into it:
+ * <pre>
+ * private static final LatencyHistogram SUBMIT_TIME = Metrics.histogram("submitGuess.wordle");
+ * </pre>
+ * {@link #dump()} renders everything as text (shown by {@link MetricsOverlay},
+ * and written to a file with F4).
+ */
+public final class Metrics {
+
+    /** Time to read one word list from resources. */
+    static final String WORD_LIST_LOAD = "wordList.load";
+
+    /** Time of one Hunspell spell check. */
+    static final String HUNSPELL_LOOKUP = "hunspell.lookup";
+
+    /** CSS and layout time of one FX pulse. */
+    static final String FX_PULSE = "fx.pulse";
+
+    /** Guesses a {@link GameSession} turned down (length, dictionary or game rules). */
+    static final String GUESS_REJECTED = "guess.rejected";
+
+    /** Dictionary checks answered from {@link GuessValidator}'s memory. */
+    static final String VALIDATION_CACHE_HIT = "validation.cacheHit";
+
+    /** Dictionary checks that had to ask Hunspell. */
+    static final String VALIDATION_CACHE_MISS = "validation.cacheMiss";
+
+    /** Histograms by name. */
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    /** Counters by name. */
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    /** Time of the last {@link #allocationRate()} call. */
+    private static long lastAllocTime;
+
+    /** Allocated bytes at the last {@link #allocationRate()} call (-1 = none yet). */
+    private static long lastAllocBytes = -1;
+
+    private Metrics() {
+        // Utility class
+    }
+
+    /**
+     * Lock-free counter.
+     */
+    public static final class Counter {
+
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long n) {
+            value.add(n);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /**
+     * Returns the histogram with this name, creating it on first use.
+     */
+    static LatencyHistogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, _ -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the counter with this name, creating it on first use.
+     */
+    static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, _ -> new Counter());
+    }
+
+    /**
+     * Histogram of {@code submitGuess} latency for a game mode (e.g. "wordle").
+     */
+    static LatencyHistogram submitGuess(String mode) {
+        return histogram("submitGuess." + mode);
+    }
+
+    /**
+     * Bytes allocated by all threads so far, or -1 if the JVM cannot tell.
+     */
+    static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Allocation rate in bytes per second since the previous call (-1 on the first call
+     * or if the JVM cannot tell).
+     */
+    static synchronized double allocationRate() {
+        long now = System.nanoTime();
+        long bytes = allocatedBytes();
+
+        double rate = -1;
+        if (bytes >= 0 && lastAllocBytes >= 0 && now > lastAllocTime) {
+            rate = (bytes - lastAllocBytes) * 1e9 / (now - lastAllocTime);
+        }
+        lastAllocTime = now;
+        lastAllocBytes = bytes;
+        return rate;
+    }
+
+    /**
+     * Clears every histogram and counter (names are kept).
+     */
+    static void reset() {
+        for (LatencyHistogram h : HISTOGRAMS.values()) {
+            h.reset();
+        }
+        for (Counter c : COUNTERS.values()) {
+            c.value.reset();
+        }
+    }
+
+    /**
+     * All metrics as text, one line per metric, sorted by name. Histograms show
+     * count, mean, p50/p99/max in milliseconds; empty histograms are left out.
+     */
+    static String dump() {
+        StringBuilder sb = new StringBuilder();
+
+        for (Map.Entry<String, LatencyHistogram> e : new TreeMap<>(HISTOGRAMS).entrySet()) {
+            LatencyHistogram h = e.getValue();
+            if (h.getCount() == 0) {
+                continue;
+            }
+            sb.append(String.format("%-22s n=%-7d mean=%8.3f p50=%8.3f p99=%8.3f max=%8.3f ms%n",
+                    e.getKey(), h.getCount(), h.getMean() / 1e6,
+                    h.percentile(50) / 1e6, h.percentile(99) / 1e6, h.getMax() / 1e6));
+        }
+
+        for (Map.Entry<String, Counter> e : new TreeMap<>(COUNTERS).entrySet()) {
+            sb.append(String.format("%-22s %d%n", e.getKey(), e.getValue().get()));
+        }
+
+        long allocated = allocatedBytes();
+        if (allocated >= 0) {
+            sb.append(String.format("%-22s %d MB%n", "allocated.total", allocated / (1024 * 1024)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes {@link #dump()} to {@code cache/metrics/metrics-<time>.txt}.
+     *
+     * @return the written file
+     */
+    static Path writeDump() throws IOException {
+        Path file = DiskCache.dir("metrics").resolve("metrics-" + System.currentTimeMillis() + ".txt");
+        Files.writeString(file, dump());
+        return file;
+    }
+}
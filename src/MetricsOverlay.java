@@ -0,0 +1,88 @@
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small panel in the top right corner with live {@link Metrics} numbers.
+ * Hidden by default; {@link Navigator} toggles it with F3 on every screen.
+ * While shown, it refreshes twice a second; while hidden, it costs nothing.
+ */
+public class MetricsOverlay extends Label {
+
+    /** Time between refreshes in milliseconds. */
+    private static final long REFRESH_MS = 500;
+
+    /** Triggers refreshes; a daemon thread, so it never keeps the app alive. */
+    private static final ScheduledExecutorService TICKER =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("metrics-overlay").factory());
+
+    /** Refresh task while shown (null when hidden). */
+    private ScheduledFuture<?> refresher;
+
+    /** Extra line shown under the numbers (e.g. where a dump was written). */
+    private String note = "";
+
+    MetricsOverlay() {
+        setStyle("-fx-font-family: monospace; -fx-font-size: 12px; -fx-text-fill: #E8EAED;"
+                + " -fx-background-color: rgba(0,0,0,0.75); -fx-background-radius: 6;");
+        setPadding(new Insets(8));
+        setMouseTransparent(true);
+        setVisible(false);
+        StackPane.setAlignment(this, Pos.TOP_RIGHT);
+        StackPane.setMargin(this, new Insets(10));
+    }
+
+    /**
+     * Shows or hides the overlay.
+     */
+    void toggle() {
+        if (refresher == null) {
+            Metrics.allocationRate(); // start a new rate window
+            refresh();
+            setVisible(true);
+            refresher = TICKER.scheduleAtFixedRate(() -> Platform.runLater(this::refresh),
+                    REFRESH_MS, REFRESH_MS, TimeUnit.MILLISECONDS);
+        } else {
+            refresher.cancel(false);
+            refresher = null;
+            setVisible(false);
+        }
+    }
+
+    /**
+     * Writes the current numbers to a file and shows where.
+     */
+    void writeDump() {
+        try {
+            Path file = Metrics.writeDump();
+            note = "Dump: " + file;
+        } catch (IOException e) {
+            note = "Dump failed: " + e.getMessage();
+        }
+        IO.println(note);
+        refresh();
+    }
+
+    private void refresh() {
+        StringBuilder text = new StringBuilder("F3 hide · F4 dump\n");
+        text.append(Metrics.dump());
+
+        double rate = Metrics.allocationRate();
+        if (rate >= 0) {
+            text.append(String.format("%-22s %.1f MB/s%n", "allocation.rate", rate / (1024 * 1024)));
+        }
+        if (!note.isEmpty()) {
+            text.append(note);
+        }
+        setText(text.toString().stripTrailing());
+    }
+}
@@ -1,12 +1,29 @@
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
 import java.net.URL;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * Simple navigator that swaps scenes to move between screens.
+ * Simple navigator that moves between screens.
+ * One scene (with the theme loaded once) is kept and only its root is swapped.
+ * The start menu and settings screens are built once, and the last few game
+ * views are kept and {@code reset} with a new game when one of the same shape
+ * is started again, instead of building a new node graph every time.
+ * "Play again" uses {@code prepare...} to pick the next game in the background
+ * while the win/lose screen shows.
+ * Every screen is shown under a {@link MetricsOverlay} (F3 toggles it, F4 dumps
+ * the numbers to a file), and every pulse's CSS and layout time is recorded.
  */
 public class Navigator {
 
@@ -30,45 +47,262 @@ public class Navigator {
      */
     private static final String BG_HEX = "#1E1F22";
 
+    /**
+     * Number of game views kept for reuse.
+     */
+    private static final int MAX_POOLED_GAMES = 4;
+
+    /**
+     * Prepares next games off the FX thread.
+     */
+    private static final ExecutorService PREPARER = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * CSS and layout time of FX pulses.
+     */
+    private static final LatencyHistogram PULSE_TIME = Metrics.histogram(Metrics.FX_PULSE);
+
+    /**
+     * The one scene; screens only replace the content of its root.
+     */
+    private Scene scene;
+
+    /**
+     * Root of the scene: the current screen with the metrics overlay on top.
+     */
+    private final StackPane container = new StackPane();
+
+    /**
+     * Live metrics panel.
+     */
+    private final MetricsOverlay overlay = new MetricsOverlay();
+
+    /**
+     * Start of the pulse being measured.
+     */
+    private long pulseStart;
+
+    /**
+     * Whether the theme stylesheet was found (otherwise roots get a plain background).
+     */
+    private boolean themed;
+
+    /**
+     * Start menu (built on first use).
+     */
+    private StartMenu startMenu;
+
+    /**
+     * Settings screens by mode and language.
+     */
+    private final Map<String, Settings> settings = new HashMap<>();
+
+    /**
+     * Game views by mode and shape, least recently used first.
+     */
+    private final Map<String, Parent> games = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Parent> eldest) {
+            return size() > MAX_POOLED_GAMES;
+        }
+    };
+
+    /**
+     * Languages by code, so word lists are loaded once for all games.
+     */
+    private final Map<String, Language> languages = new HashMap<>();
+
+    /**
+     * Whether new Wordle, Xordle and Verticle games start in hard mode (chosen in the settings).
+     */
+    private boolean hardMode;
+
     public Navigator(Stage primaryStage) {
         this.stage = primaryStage;
     }
 
     private void setScene(Parent root) {
-        Scene scene = new Scene(root, W, H);
-        scene.setFill(Color.web(BG_HEX));
+        container.getChildren().setAll(root, overlay);
+
+        if (scene == null) {
+            scene = new Scene(container, W, H);
+            scene.setFill(Color.web(BG_HEX));
 
-        URL css = Navigator.class.getResource("/theme.css");
-        if (css != null) {
-            scene.getStylesheets().add(css.toExternalForm());
-        } else {
+            URL css = Navigator.class.getResource("/theme.css");
+            if (css != null) {
+                scene.getStylesheets().add(css.toExternalForm());
+                themed = true;
+            }
+
+            scene.addPreLayoutPulseListener(() -> pulseStart = System.nanoTime());
+            scene.addPostLayoutPulseListener(() -> PULSE_TIME.recordSince(pulseStart));
+
+            scene.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+                if (e.getCode() == KeyCode.F3) {
+                    overlay.toggle();
+                    e.consume();
+                } else if (e.getCode() == KeyCode.F4) {
+                    overlay.writeDump();
+                    e.consume();
+                }
+            });
+
+            stage.setScene(scene);
+        }
+
+        if (!themed) {
             root.setStyle("-fx-background-color: " + BG_HEX + ";");
         }
+    }
 
-        stage.setScene(scene);
+    Language language(String code) {
+        return languages.computeIfAbsent(code, Language::new);
+    }
+
+    /**
+     * Runs an action once, right after the next layout pulse of the current scene
+     * (i.e. when the next frame is about to be drawn). Used by the startup profiler.
+     */
+    void onNextFrame(Runnable action) {
+        Scene scene = stage.getScene();
+        if (scene == null) {
+            throw new IllegalArgumentException("No scene is shown yet.");
+        }
+
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]);
+            action.run();
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
     }
 
     public void goToStartMenu() {
-        setScene(new StartMenu(this));
+        if (startMenu == null) {
+            startMenu = new StartMenu(this);
+        }
+        setScene(startMenu);
     }
 
     public void goToSettings(String language, String mode) {
-        setScene(new Settings(this, language, mode));
+        setScene(settings.computeIfAbsent(mode + "_" + language, _ -> new Settings(this, language, mode)));
+    }
+
+    void setHardMode(boolean hardModeValue) {
+        this.hardMode = hardModeValue;
     }
 
     public void goToWordle(String language, int letters, int wordsCount) {
-        setScene(new WordleView(this, language, letters, wordsCount));
+        WordleLogic game = new WordleLogic(wordsCount, letters, language(language));
+        game.setHardMode(hardMode);
+        showWordle(language, game);
     }
 
     public void goToXordle(String language, int letters) {
-        setScene(new XordleView(this, language, letters));
+        XordleLogic game = new XordleLogic(letters, language(language));
+        game.setHardMode(hardMode);
+        showXordle(language, game);
     }
 
     public void goToVerticle(String language, int letters) {
-        setScene(new VerticleView(this, language, letters));
+        VerticleLogic game = new VerticleLogic(letters, language(language));
+        game.setHardMode(hardMode);
+        showVerticle(language, game);
     }
 
     public void goToMathler(int numbers) {
-        setScene(new MathlerView(this, numbers));
+        showMathler(numbers, new MathlerLogic(numbers));
+    }
+
+    // ----- Showing a ready game (pooled view if one fits) -----
+
+    void showWordle(String language, WordleLogic game) {
+        String key = "Wordle_" + language + "_" + game.getLetters() + "_" + game.getWordsCount();
+
+        if (games.get(key) instanceof WordleView view && view.fits(game)) {
+            view.reset(game);
+            setScene(view);
+            return;
+        }
+        WordleView view = new WordleView(this, language, game);
+        games.put(key, view);
+        setScene(view);
+    }
+
+    void showXordle(String language, XordleLogic game) {
+        String key = "Xordle_" + language + "_" + game.getLetters();
+
+        if (games.get(key) instanceof XordleView view && view.fits(game)) {
+            view.reset(game);
+            setScene(view);
+            return;
+        }
+        XordleView view = new XordleView(this, language, game);
+        games.put(key, view);
+        setScene(view);
+    }
+
+    void showVerticle(String language, VerticleLogic game) {
+        String key = "Verticle_" + language + "_" + game.getLetters();
+
+        if (games.get(key) instanceof VerticleView view && view.fits(game)) {
+            view.reset(game);
+            setScene(view);
+            return;
+        }
+        VerticleView view = new VerticleView(this, language, game);
+        games.put(key, view);
+        setScene(view);
+    }
+
+    void showMathler(int numbers, MathlerLogic game) {
+        // The equation length varies between games, so it is part of the shape
+        String key = "Mathler_" + numbers + "_" + game.getEquationLength();
+
+        if (games.get(key) instanceof MathlerView view && view.fits(numbers, game)) {
+            view.reset(game);
+            setScene(view);
+            return;
+        }
+        MathlerView view = new MathlerView(this, numbers, game);
+        games.put(key, view);
+        setScene(view);
+    }
+
+    // ----- Preparing the next game in the background -----
+
+    CompletableFuture<WordleLogic> prepareWordle(String language, int letters, int wordsCount) {
+        Language lang = language(language);
+        boolean hard = hardMode;
+        return CompletableFuture.supplyAsync(() -> {
+            WordleLogic game = new WordleLogic(wordsCount, letters, lang);
+            game.setHardMode(hard);
+            PrefixTrie.of(lang, letters); // ready for the live counts of the next game
+            return game;
+        }, PREPARER);
+    }
+
+    CompletableFuture<XordleLogic> prepareXordle(String language, int letters) {
+        Language lang = language(language);
+        boolean hard = hardMode;
+        return CompletableFuture.supplyAsync(() -> {
+            XordleLogic game = new XordleLogic(letters, lang);
+            game.setHardMode(hard);
+            return game;
+        }, PREPARER);
+    }
+
+    CompletableFuture<VerticleLogic> prepareVerticle(String language, int letters) {
+        Language lang = language(language);
+        boolean hard = hardMode;
+        return CompletableFuture.supplyAsync(() -> {
+            VerticleLogic game = new VerticleLogic(letters, lang);
+            game.setHardMode(hard);
+            return game;
+        }, PREPARER);
+    }
+
+    CompletableFuture<MathlerLogic> prepareMathler(int numbers) {
+        return CompletableFuture.supplyAsync(() -> new MathlerLogic(numbers), PREPARER);
     }
 }
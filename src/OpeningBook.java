@@ -0,0 +1,273 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed openings of one word list and mode: the solver's best first
+ * guess, and its best second guess for every feedback the first guess can get.
+ * Ranking the first two guesses against a fresh list is the most expensive
+ * part of a hint and the result never changes, so it is computed offline and
+ * loaded lazily by {@link VerticleSolver}, {@link XordleSolver} and the Wordle
+ * ratings ({@link CandidateSolver#addOpenings}).
+ * <p>
+ * Books are stored in {@code cache/openings/<mode>_<lang>_<letters>.bin}: a
+ * 16-byte header (magic, word count, list hash), the first guess as a word
+ * index, the number of entries, then one (feedback code, word index) pair per
+ * entry, sorted by code. Word indices and codes are unsigned shorts; the codes
+ * are those of the mode's solver ({@link WordleLogic#scorePacked},
+ * {@link VerticleLogic#scorePacked}, {@link XordleSolver#feedbackCodes}).
+ * <p>
+ * Run with {@code java OpeningBook [languages...]} (default: en de).
+ */
+public final class OpeningBook {
+
+    /** Magic number at the start of every book file. */
+    private static final int MAGIC = 0x4F504E42;
+
+    /** Largest word index or feedback code that fits the file format. */
+    private static final int MAX_SHORT = 0xFFFF;
+
+    /** Loaded books by path ({@link #MISSING} = missing or stale). */
+    private static final Map<String, OpeningBook> LOADED = new ConcurrentHashMap<>();
+
+    /** Placeholder for a book that could not be loaded. */
+    private static final OpeningBook MISSING = new OpeningBook(new String[]{""}, 0, new int[0], new int[0]);
+
+    /** Word list the word indices refer to. */
+    private final String[] words;
+
+    /** Index of the first guess. */
+    private final int first;
+
+    /** Feedback codes of the first guess (sorted). */
+    private final int[] codes;
+
+    /** Index of the second guess per entry of {@link #codes}. */
+    private final int[] seconds;
+
+    OpeningBook(String[] wordsValue, int firstValue, int[] codesValue, int[] secondsValue) {
+        this.words = wordsValue;
+        this.first = firstValue;
+        this.codes = codesValue;
+        this.seconds = secondsValue;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String[] languages = (args.length > 0) ? args : new String[]{"en", "de"};
+
+        for (String code : languages) {
+            Language language = new Language(code);
+            for (int letters = 4; letters <= 7; letters++) {
+                if (language.getWordList(letters).length == 0) {
+                    continue;
+                }
+                build(DifficultyRatings.WORDLE, language, letters);
+                build(DifficultyRatings.VERTICLE, language, letters);
+                build(DifficultyRatings.XORDLE, language, letters);
+            }
+        }
+    }
+
+    // ----- Lookups -----
+
+    /**
+     * Best first guess.
+     */
+    String firstGuess() {
+        return words[first];
+    }
+
+    /**
+     * Best second guess after the first guess got this feedback code,
+     * or null if another first guess was played or the code is not in the book.
+     */
+    String secondGuess(String firstGuess, int code) {
+        if (!words[first].equals(firstGuess)) {
+            return null;
+        }
+        int entry = Arrays.binarySearch(codes, code);
+        return (entry >= 0) ? words[seconds[entry]] : null;
+    }
+
+    /**
+     * Feedback codes with a second guess, sorted.
+     */
+    int[] getCodes() {
+        return codes.clone();
+    }
+
+    /**
+     * The book of one word list and mode, or null if it has not been built
+     * (or was built for an older version of the list). Read on first use.
+     */
+    static OpeningBook load(String mode, Language lang, int letters) {
+        String[] words = lang.getWordList(letters);
+        if (words.length == 0) {
+            return null;
+        }
+
+        Path file;
+        try {
+            file = bookFile(mode, lang, letters);
+        } catch (IOException e) {
+            return null;
+        }
+
+        OpeningBook book = LOADED.computeIfAbsent(file.toString(), _ -> {
+            OpeningBook read = read(file, words);
+            return (read != null) ? read : MISSING;
+        });
+        return (book == MISSING) ? null : book;
+    }
+
+    // ----- Building -----
+
+    /**
+     * Builds and saves the book of one word list and mode, unless it is up to date.
+     */
+    static void build(String mode, Language lang, int letters) throws IOException {
+        String[] words = lang.getWordList(letters);
+        Path file = bookFile(mode, lang, letters);
+
+        if (read(file, words) != null) {
+            IO.println(file.getFileName() + ": up to date");
+            return;
+        }
+        if (words.length > MAX_SHORT) {
+            IO.println(file.getFileName() + ": skipped, list too long");
+            return;
+        }
+
+        long start = System.nanoTime();
+        OpeningBook book = DifficultyRatings.XORDLE.equals(mode)
+                ? computeXordle(words, XordlePairIndex.get(lang, letters))
+                : compute(words, DifficultyRatings.scorer(mode));
+        write(file, book, DiskCache.listHash(words));
+        LOADED.remove(file.toString());
+
+        long seconds = (System.nanoTime() - start) / 1_000_000_000L;
+        IO.println(file.getFileName() + ": " + book.firstGuess() + ", "
+                + book.codes.length + " second guesses (" + seconds + " s)");
+    }
+
+    /**
+     * Book of a Wordle-like mode, ranked with {@link CandidateSolver};
+     * the second guesses of the feedback codes are ranked in parallel.
+     */
+    static OpeningBook compute(String[] words, CandidateSolver.Scorer scorer) {
+        String firstGuess = new CandidateSolver(words, scorer).nextGuess();
+
+        int[] codes = Arrays.stream(words)
+                .mapToInt(secret -> scorer.score(secret, firstGuess, 0))
+                .distinct()
+                .sorted()
+                .toArray();
+
+        String[] seconds = new String[codes.length];
+        IntStream.range(0, codes.length).parallel().forEach(i -> {
+            CandidateSolver solver = new CandidateSolver(words, scorer);
+            solver.apply(firstGuess, codes[i]);
+            seconds[i] = solver.nextGuess();
+        });
+
+        return of(words, firstGuess, codes, seconds);
+    }
+
+    /**
+     * Book of Xordle, ranked with {@link XordleSolver} over the pair index;
+     * the second guesses of the feedback codes are ranked in parallel.
+     */
+    static OpeningBook computeXordle(String[] words, XordlePairIndex index) {
+        XordleSolver opener = new XordleSolver(words, index);
+        String firstGuess = opener.nextGuess();
+        int[] codes = opener.feedbackCodes(firstGuess);
+
+        String[] seconds = new String[codes.length];
+        IntStream.range(0, codes.length).parallel().forEach(i -> {
+            XordleSolver solver = new XordleSolver(words, index);
+            solver.apply(firstGuess, codes[i]);
+            seconds[i] = solver.nextGuess();
+        });
+
+        return of(words, firstGuess, codes, seconds);
+    }
+
+    private static OpeningBook of(String[] words, String firstGuess, int[] codes, String[] secondGuesses) {
+        Map<String, Integer> indexOf = new HashMap<>();
+        for (int w = 0; w < words.length; w++) {
+            indexOf.putIfAbsent(words[w], w);
+        }
+
+        int[] seconds = new int[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i] > MAX_SHORT) {
+                throw new IllegalArgumentException("Feedback code does not fit the book: " + codes[i]);
+            }
+            seconds[i] = indexOf.get(secondGuesses[i]);
+        }
+        return new OpeningBook(words, indexOf.get(firstGuess), codes, seconds);
+    }
+
+    // ----- Files -----
+
+    private static Path bookFile(String mode, Language lang, int letters) throws IOException {
+        return DiskCache.dir("openings").resolve(mode + "_" + lang.getLanguageCode() + "_" + letters + ".bin");
+    }
+
+    static void write(Path file, OpeningBook book, long hash) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(book.words.length);
+            out.writeLong(hash);
+            out.writeShort(book.first);
+            out.writeInt(book.codes.length);
+            for (int i = 0; i < book.codes.length; i++) {
+                out.writeShort(book.codes[i]);
+                out.writeShort(book.seconds[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads a book file, or returns null if it is missing, stale or damaged.
+     */
+    static OpeningBook read(Path file, String[] words) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != words.length || in.readLong() != DiskCache.listHash(words)) {
+                return null;
+            }
+
+            int first = in.readUnsignedShort();
+            int entries = in.readInt();
+            if (first >= words.length || entries < 0 || entries > MAX_SHORT + 1) {
+                return null;
+            }
+
+            int[] codes = new int[entries];
+            int[] seconds = new int[entries];
+            for (int i = 0; i < entries; i++) {
+                codes[i] = in.readUnsignedShort();
+                seconds[i] = in.readUnsignedShort();
+                if (seconds[i] >= words.length || (i > 0 && codes[i] <= codes[i - 1])) {
+                    return null;
+                }
+            }
+            return new OpeningBook(words, first, codes, seconds);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trie over one word list, for live feedback while a guess is typed.
+ * <p>
+ * The words are sorted, so all words below a trie node are one contiguous
+ * range of the sorted list; every node stores that range. A prefix is then
+ * looked up in O(prefix length), and "which words start with it" is a range
+ * that bitsets over the sorted list can be counted over (see
+ * {@link CandidateTracker}). Nodes live in flat arrays with 26 child slots each
+ * (A-Z; words with other characters are left out).
+ */
+public final class PrefixTrie {
+
+    /**
+     * Trie per word list, shared by every game on that list. Keyed like the cache files
+     * (language, letters, {@link DiskCache#listHash}) rather than by array, so reloading a
+     * list does not add a trie.
+     */
+    private static final Map<String, PrefixTrie> TRIES = new ConcurrentHashMap<>();
+
+    /** Child slots per node. */
+    private static final int ALPHABET = 26;
+
+    /** Indexed words (uppercase, sorted). */
+    private final String[] words;
+
+    /** Child node per [node * 26 + letter] (0 = none; node 0 is the root, never a child). */
+    private final int[] children;
+
+    /** First word index (in {@link #words}) below each node. */
+    private final int[] lo;
+
+    /** One past the last word index below each node. */
+    private final int[] hi;
+
+    PrefixTrie(String[] list) {
+        this.words = Arrays.stream(list)
+                .map(String::toUpperCase)
+                .filter(PrefixTrie::isPlain)
+                .sorted()
+                .distinct()
+                .toArray(String[]::new);
+
+        // ----- Count the nodes: every word adds the letters it does not share with the previous word -----
+        int nodes = 1;
+        for (int i = 0; i < words.length; i++) {
+            int shared = (i == 0) ? 0 : commonPrefix(words[i - 1], words[i]);
+            nodes += words[i].length() - shared;
+        }
+
+        this.children = new int[nodes * ALPHABET];
+        this.lo = new int[nodes];
+        this.hi = new int[nodes];
+
+        // ----- Insert in sorted order, so each node's words form one range -----
+        int used = 1;
+        hi[0] = words.length;
+        for (int i = 0; i < words.length; i++) {
+            int node = 0;
+            for (int d = 0; d < words[i].length(); d++) {
+                int slot = node * ALPHABET + (words[i].charAt(d) - 'A');
+                if (children[slot] == 0) {
+                    children[slot] = used;
+                    lo[used] = i;
+                    used++;
+                }
+                node = children[slot];
+                hi[node] = i + 1;
+            }
+        }
+    }
+
+    /**
+     * The trie of a word list of a language (built on first use).
+     */
+    static PrefixTrie of(Language lang, int letters) {
+        String[] list = lang.getWordList(letters);
+        String key = lang.getLanguageCode() + "_" + letters + "_" + DiskCache.listHash(list);
+        return TRIES.computeIfAbsent(key, _ -> new PrefixTrie(list));
+    }
+
+    /**
+     * Indexed words, sorted; word ranges refer to this order.
+     */
+    String getWord(int index) {
+        return words[index];
+    }
+
+    int getWordsCount() {
+        return words.length;
+    }
+
+    /**
+     * Number of trie nodes (for sizing and tests).
+     */
+    int getNodeCount() {
+        return lo.length;
+    }
+
+    /**
+     * The node of a prefix (0 = root for the empty prefix), or -1 if no word starts with it.
+     */
+    int find(CharSequence prefix) {
+        int node = 0;
+        for (int d = 0; d < prefix.length(); d++) {
+            char c = Character.toUpperCase(prefix.charAt(d));
+            if (c < 'A' || c > 'Z') {
+                return -1;
+            }
+            node = children[node * ALPHABET + (c - 'A')];
+            if (node == 0) {
+                return -1;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Whether any word starts with the prefix.
+     */
+    boolean hasPrefix(CharSequence prefix) {
+        return find(prefix) >= 0;
+    }
+
+    /**
+     * First word index below a node.
+     */
+    int rangeStart(int node) {
+        return lo[node];
+    }
+
+    /**
+     * One past the last word index below a node.
+     */
+    int rangeEnd(int node) {
+        return hi[node];
+    }
+
+    private static boolean isPlain(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int n = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < n && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
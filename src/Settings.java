@@ -1,6 +1,7 @@
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -60,6 +61,12 @@ public class Settings extends VBox {
         numbersBox.setVisible(isMathler);
         numbersBox.setManaged(isMathler);
 
+        // --- HARD MODE (Wordle/Xordle/Verticle) ---
+        CheckBox hardModeBox = new CheckBox("Hard mode (revealed hints must be used)");
+        hardModeBox.setStyle("-fx-font-size: 24px;");
+        hardModeBox.setVisible(!isMathler);
+        hardModeBox.setManaged(!isMathler);
+
         // hide letter options when mathler
         lettersLabel.setVisible(!isMathler);
         lettersLabel.setManaged(!isMathler);
@@ -84,6 +91,8 @@ public class Settings extends VBox {
 
         // --- Play handler ---
         playBtn.setOnAction(_ -> {
+            nav.setHardMode(hardModeBox.isSelected());
+
             if (mode.equals("Wordle")) {
                 int lettersChosen = lettersBox.getValue();
                 int wordsChosen = wordsBox.getValue();
@@ -113,6 +122,7 @@ public class Settings extends VBox {
                 lettersLabel, lettersBox,
                 wordsLabel, wordsBox,
                 numbersLabel, numbersBox,
+                hardModeBox,
                 buttons
         );
     }
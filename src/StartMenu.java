@@ -1,3 +1,4 @@
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -32,6 +33,11 @@ public class StartMenu extends VBox {
         Label info = new Label("");
         info.setStyle("-fx-text-fill: red;");
 
+        // Dictionaries load in the background (see DictionaryWarmup); show when they are ready
+        Label status = new Label("Loading dictionaries...");
+        status.setStyle("-fx-font-size: 14px; -fx-text-fill: #9AA0A6;");
+        DictionaryWarmup.start().thenRun(() -> Platform.runLater(() -> status.setText(DictionaryWarmup.describe())));
+
         Button continueBtn = new Button("Continue");
         continueBtn.setDefaultButton(true);
         continueBtn.setPrefWidth(150);
@@ -49,7 +55,7 @@ public class StartMenu extends VBox {
             }
 
             try {
-                // init hunspell once per app run (your HunspellChecker guards re-init)
+                // Select the dictionary; it is already loading in the background, so this never blocks
                 HunspellChecker.init(language);
 
                 nav.goToSettings(language, mode);
@@ -67,7 +73,8 @@ public class StartMenu extends VBox {
                 langLabel, langBox,
                 modeLabel, modeBox,
                 continueBtn,
-                info
+                info,
+                status
         );
     }
 }
@@ -0,0 +1,84 @@
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Startup instrumentation, enabled with {@code -Dclusterle.profile=true}.
+ * Every phase is logged with its offset from process start (so JVM boot is
+ * included) and, for timed phases, its own duration:
+ * <pre>
+ * [startup] +  412 ms  FX toolkit ready
+ * [startup] +  530 ms  word list en_5 (2341 words) took 18 ms
+ * </pre>
+ * With {@code -Dclusterle.train=true} the app also opens every game screen once
+ * and exits, which is how {@code cds(Linux).sh} records its class list.
+ */
+public final class StartupProfiler {
+
+    /** Whether phases are logged. */
+    private static final boolean ENABLED = Boolean.getBoolean("clusterle.profile");
+
+    /** Whether this is a CDS training run (open every screen, then exit). */
+    private static final boolean TRAINING = Boolean.getBoolean("clusterle.train");
+
+    /** {@link System#nanoTime()} value that corresponds to process start. */
+    private static final long ORIGIN = origin();
+
+    private StartupProfiler() {
+        // Utility class
+    }
+
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    static boolean isTraining() {
+        return TRAINING;
+    }
+
+    /**
+     * Logs that a phase was reached.
+     */
+    static void mark(String phase) {
+        if (ENABLED) {
+            log(System.nanoTime(), phase);
+        }
+    }
+
+    /**
+     * Start time for {@link #end}; cheap when profiling is off.
+     */
+    static long begin() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Logs that a phase started at {@code begin} has finished, with its duration.
+     */
+    static void end(String phase, long begin) {
+        if (ENABLED) {
+            long now = System.nanoTime();
+            log(now, phase + " took " + (now - begin) / 1_000_000 + " ms");
+        }
+    }
+
+    /**
+     * Milliseconds since process start.
+     */
+    static long sinceStartMillis() {
+        return (System.nanoTime() - ORIGIN) / 1_000_000;
+    }
+
+    private static void log(long nanos, String text) {
+        IO.println(String.format("[startup] +%5d ms  %s", (nanos - ORIGIN) / 1_000_000, text));
+    }
+
+    private static long origin() {
+        long now = System.nanoTime();
+        Optional<Instant> started = ProcessHandle.current().info().startInstant();
+        if (started.isEmpty()) {
+            return now;
+        }
+        return now - Duration.between(started.get(), Instant.now()).toNanos();
+    }
+}
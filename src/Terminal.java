@@ -0,0 +1,108 @@
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.IntFunction;
+
+/**
+ * Input and output of one console player: the local console ({@link #system()})
+ * or one connection of {@link TerminalServer}. The console games read and print
+ * through it instead of {@code IO}, so several games can run at once.
+ * Output is buffered and written when input is read or a frame is flushed.
+ */
+public class Terminal {
+
+    /** Input buffer in chars; players type short lines. */
+    private static final int IN_BUFFER = 256;
+
+    /** Output buffer in bytes; a frame bigger than this is written in parts. */
+    private static final int OUT_BUFFER = 2048;
+
+    /** Lines typed by the player. */
+    private final BufferedReader in;
+
+    /** Buffered output to the player. */
+    private final PrintStream out;
+
+    /** Frame buffer for game boards, writing to {@link #out}. */
+    private final ConsoleRenderer screen;
+
+    Terminal(InputStream inStream, OutputStream outStream) {
+        this.in = new BufferedReader(new InputStreamReader(inStream, StandardCharsets.UTF_8), IN_BUFFER);
+        this.out = new PrintStream(new BufferedOutputStream(outStream, OUT_BUFFER), false, StandardCharsets.UTF_8);
+        this.screen = new ConsoleRenderer(out);
+    }
+
+    /**
+     * The local console (stdin/stdout).
+     */
+    static Terminal system() {
+        return new Terminal(System.in, System.out);
+    }
+
+    /**
+     * Shows the prompt and reads one line.
+     *
+     * @throws UncheckedIOException if the input ended (e.g. the player disconnected)
+     */
+    String readln(String prompt) {
+        out.print(prompt);
+        out.flush();
+        try {
+            String line = in.readLine();
+            if (line == null) {
+                throw new UncheckedIOException(new EOFException("Input closed."));
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a number, asking again until the player types one.
+     */
+    int readInt(String prompt) {
+        String line = readln(prompt).trim();
+        while (true) {
+            try {
+                return Integer.parseInt(line);
+            } catch (NumberFormatException ex) {
+                line = readln("Please type a number: ").trim();
+            }
+        }
+    }
+
+    /**
+     * Feeds the player's lines to a game until it ends.
+     *
+     * @param prompt prompt for a guess, given the number of the guess (from 1)
+     */
+    void play(GameSession<?> session, IntFunction<String> prompt) {
+        while (session.isPlaying()) {
+            session.submit(readln(prompt.apply(session.getTurns() + 1)));
+        }
+        flush();
+    }
+
+    void println(String line) {
+        out.println(line);
+    }
+
+    /**
+     * Frame buffer for boards; {@link ConsoleRenderer#flush()} writes it to the player.
+     */
+    ConsoleRenderer screen() {
+        return screen;
+    }
+
+    void flush() {
+        out.flush();
+    }
+}
@@ -0,0 +1,107 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the console games over TCP: every connection is one player with its own
+ * {@link Terminal}, running on its own virtual thread. Try it with
+ * <pre>
+ * java TerminalServer [port]          (default 4000)
+ * nc localhost 4000
+ * </pre>
+ * Sessions share only read-only data: word lists (one {@link Language} per code)
+ * and the Hunspell dictionaries, which are safe to use from many threads.
+ */
+public class TerminalServer implements AutoCloseable {
+
+    /** Port used when none is given. */
+    static final int DEFAULT_PORT = 4000;
+
+    /** Word lists per language code, shared by all sessions. */
+    private final Map<String, Language> languages = new ConcurrentHashMap<>();
+
+    /** Number of connected players. */
+    private final AtomicInteger sessions = new AtomicInteger();
+
+    /** Listening socket. */
+    private final ServerSocket server;
+
+    /**
+     * Starts listening on localhost (port 0 picks a free port) and accepting players.
+     */
+    TerminalServer(int port) throws IOException {
+        this.server = new ServerSocket();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        // A platform thread, so the server keeps running after main() returns
+        Thread.ofPlatform().name("terminal-accept").start(this::acceptLoop);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        TerminalServer server = new TerminalServer(port);
+        IO.println("Clusterle terminal server on port " + server.getPort() + " (connect with: nc localhost "
+                + server.getPort() + ")");
+    }
+
+    int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Number of players connected right now.
+     */
+    int getSessionCount() {
+        return sessions.get();
+    }
+
+    private void acceptLoop() {
+        int id = 0;
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread.ofVirtual().name("terminal-session-" + id++).start(() -> session(socket));
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    IO.println("Accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Plays games with one player until they disconnect or decline another game.
+     */
+    private void session(Socket socket) {
+        sessions.incrementAndGet();
+        try (socket) {
+            Terminal terminal = new Terminal(socket.getInputStream(), socket.getOutputStream());
+            terminal.println("Welcome to Clusterle!");
+
+            do {
+                Main.play(terminal, code -> languages.computeIfAbsent(code, Language::new));
+            } while (terminal.readln("Play again? (y/n) ").trim().equalsIgnoreCase("y"));
+
+            terminal.println("Bye!");
+            terminal.flush();
+        } catch (IOException | UncheckedIOException e) {
+            // Player disconnected
+        } finally {
+            sessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting players. Running sessions end when their players disconnect.
+     */
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+}
@@ -2,154 +2,67 @@ public class Verticle {
     private int letters;
     private Language lang;
 
-    Verticle(int letterCount, Language language) {
+    Verticle(int letterCount, Language language, boolean hardMode, Terminal terminal) {
         this.letters = letterCount;
         this.lang = language;
 
-        String[] list = lang.getWordList(letters);
+        VerticleLogic game = new VerticleLogic(letters, lang);
+        game.setHardMode(hardMode);
+        GameSession<VerticleLogic.TurnResult> session = GameSession.verticle(game,
+                word -> HunspellChecker.isValidWord(lang.getLanguageCode(), word));
 
-        int random = (int) (Math.random() * list.length);
-        String word = list[random];
-
-        boolean solved = false;
-
-        int tries = 0;
-        int chances = letters; // one column per try
+        int chances = game.getChances(); // one column per try
 
         // Board: rows = letters, columns = tries
         char[][] boardChars = new char[letters][chances]; // [row][col]
         int[][] boardColor = new int[letters][chances];   // 0=grey, 1=yellow, 2=green
 
-        while (tries < chances) {
-            String guessRaw = IO.readln("Guess the word (column " + (tries + 1) + "): ").trim();
-
-            if (guessRaw.length() != letters) {
-                IO.println("Your guess must be " + letters + " letters long.");
-                continue;
-            }
-
-            if (!HunspellChecker.isValidWord(guessRaw)) {
-                IO.println("Not a valid word.");
-                continue;
-            }
-
-            String guess = guessRaw.toUpperCase();
+        // The board is built into one frame and printed at once
+        ConsoleRenderer screen = terminal.screen();
 
-            // If guessed the full word correctly, win
-            if (guess.equals(word)) {
-                solved = true;
+        session.addListener(new GameSession.Listener<>() {
+            @Override
+            public void onTurn(VerticleLogic.TurnResult result) {
+                int column = result.getTryIndex();
 
-                // Store final column as all green
+                // Store this guess as the next column
                 for (int r = 0; r < letters; r++) {
-                    boardChars[r][tries] = guess.charAt(r);
-                    boardColor[r][tries] = 2;
+                    boardChars[r][column] = result.getGuess().charAt(r);
+                    boardColor[r][column] = result.getTiles()[r].ordinal();
                 }
 
-                // Print the board so far
+                // Print the board so far (columns side-by-side)
                 for (int r = 0; r < letters; r++) {
-                    for (int c = 0; c <= tries; c++) {
-                        char letter = boardChars[r][c];
-                        int color = boardColor[r][c];
-
-                        if (color == 2) {
-                            IO.print(ConsoleColors.GREEN_BACKGROUND + letter + ConsoleColors.RESET + " ");
-                        } else if (color == 1) {
-                            IO.print(ConsoleColors.YELLOW_BACKGROUND + letter + ConsoleColors.RESET + " ");
-                        } else {
-                            IO.print(ConsoleColors.BLACK_BACKGROUND + letter + ConsoleColors.RESET + " ");
-                        }
+                    for (int c = 0; c <= column; c++) {
+                        screen.tile(boardColor[r][c], boardChars[r][c]);
                     }
-                    IO.println("");
+                    screen.newline();
                 }
 
-                IO.println("CORRECT!");
-                break;
-            }
-
-            // Target letter for THIS column
-            char target = word.charAt(tries);
-
-            // Make a mutable copy of the solution word (we will "consume" letters)
-            char[] remaining = word.toCharArray();
-
-            // Status: 0 grey, 1 yellow, 2 green
-            int[] status = new int[letters];
-
-            // PASS 1: mark EXACTLY ONE GREEN for this column (if possible)
-            boolean greenUsed = false;
-
-            for (int r = 0; r < letters; r++) {
-                char c = guess.charAt(r);
-
-                if (!greenUsed && c == target) {
-                    // consume ONE occurrence of target from remaining (must exist)
-                    for (int j = 0; j < letters; j++) {
-                        if (remaining[j] == c) {
-                            remaining[j] = 0;  // consume
-                            status[r] = 2;     // green
-                            greenUsed = true;  // only one green allowed
-                            break;
-                        }
-                    }
-                }
-            }
-
-            // PASS 2: mark YELLOWS using remaining letters (duplicate-safe)
-            for (int r = 0; r < letters; r++) {
-                if (status[r] == 2) {
-                    continue; // already green
-                }
-
-                char c = guess.charAt(r);
-                boolean found = false;
-
-                for (int j = 0; j < letters; j++) {
-                    if (remaining[j] == c) {
-                        remaining[j] = 0; // consume
-                        found = true;
-                        break;
-                    }
-                }
-
-                if (found) {
-                    status[r] = 1; // yellow
+                if (result.isGameWon()) {
+                    screen.line("CORRECT!");
                 } else {
-                    status[r] = 0; // grey
+                    screen.line("Remaining guesses: " + result.getRemainingGuesses());
                 }
+                screen.flush();
             }
 
-            // Store this guess as the next column
-            for (int r = 0; r < letters; r++) {
-                boardChars[r][tries] = guess.charAt(r);
-                boardColor[r][tries] = status[r];
+            @Override
+            public void onRejected(String guess, String reason) {
+                terminal.println(reason);
             }
 
-            // Print the board so far (columns side-by-side)
-            for (int r = 0; r < letters; r++) {
-                for (int c = 0; c <= tries; c++) {
-                    char ch = boardChars[r][c];
-                    int color = boardColor[r][c];
-
-                    if (color == 2) {
-                        IO.print(ConsoleColors.GREEN_BACKGROUND + ch + ConsoleColors.RESET + " ");
-                    } else if (color == 1) {
-                        IO.print(ConsoleColors.YELLOW_BACKGROUND + ch + ConsoleColors.RESET + " ");
-                    } else {
-                        IO.print(ConsoleColors.BLACK_BACKGROUND + ch + ConsoleColors.RESET + " ");
-                    }
+            @Override
+            public void onEnd(GameSession.State state) {
+                if (state == GameSession.State.WON) {
+                    terminal.println("Congratulations! You got the word!");
+                } else {
+                    terminal.println("You lost. The word was " + game.getWord());
                 }
-                IO.println("");
             }
+        });
 
-            tries++;
-            IO.println("Remaining guesses: " + (chances - tries));
-        }
-
-        if (solved) {
-            IO.println("Congratulations! You got the word!");
-        } else {
-            IO.println("You lost. The word was " + word);
-        }
+        terminal.play(session, turn -> "Guess the word (column " + turn + "): ");
     }
 
     // Accessor methods (required by your VisibilityModifier rule)
@@ -1,5 +1,8 @@
 public class VerticleLogic {
 
+    /** Latency of {@link #submitGuess}, for the metrics overlay. */
+    private static final LatencyHistogram SUBMIT_TIME = Metrics.submitGuess("verticle");
+
     public enum Tile {
         /** Incorrect letter. */
         GREY,
@@ -83,6 +86,7 @@ public class VerticleLogic {
         this.lang = null; // not used in this constructor
         this.word = w.toUpperCase();
         this.chances = letters;
+        this.constraints = new LetterConstraints(letters);
     }
 
 
@@ -104,7 +108,21 @@ public class VerticleLogic {
     /** Whether the game has been solved. */
     private boolean solved = false;
 
+    /** Whether every guess must use the revealed letters. */
+    private boolean hardMode;
+
+    /** What the feedback so far says about the word, updated once per turn. */
+    private final LetterConstraints constraints;
+
     public VerticleLogic(int lettersValue, Language langValue) {
+        this(lettersValue, langValue, null);
+    }
+
+    /**
+     * Picks the secret word only among words whose difficulty rating lies in the band.
+     * Falls back to the whole list if no ratings exist or no word matches.
+     */
+    public VerticleLogic(int lettersValue, Language langValue, DifficultyBand band) {
         this.letters = lettersValue;
         this.lang = langValue;
 
@@ -113,9 +131,11 @@ public class VerticleLogic {
             throw new IllegalArgumentException("No words for length " + letters);
         }
 
-        int random = (int) (Math.random() * list.length);
-        this.word = list[random].toUpperCase();
+        int[] pool = DifficultyRatings.pool(DifficultyRatings.VERTICLE, lang, letters, band, 1);
+        int random = (int) (Math.random() * pool.length);
+        this.word = list[pool[random]].toUpperCase();
         this.chances = letters;
+        this.constraints = new LetterConstraints(letters);
     }
 
     public int getLetters() {
@@ -134,6 +154,27 @@ public class VerticleLogic {
         return word;
     }
 
+    /**
+     * Turns hard mode on or off (set it before the first guess). In hard mode every
+     * guess must contain the letters revealed green or yellow so far (as many copies
+     * as revealed) and keep the letters found by earlier columns in their positions.
+     */
+    public void setHardMode(boolean hardModeValue) {
+        this.hardMode = hardModeValue;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    /**
+     * What the feedback so far says about the word. A green in column t fixes
+     * position t (the letter that column was looking for).
+     */
+    public LetterConstraints getConstraints() {
+        return constraints;
+    }
+
     public boolean isGameWon() {
         return solved;
     }
@@ -152,6 +193,20 @@ public class VerticleLogic {
      * This method returns a Tile per row (per character in the guess).
      */
     public TurnResult submitGuess(String guessRaw) {
+        GameEvents.Guess event = new GameEvents.Guess();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return playGuess(guessRaw);
+        } finally {
+            SUBMIT_TIME.recordSince(start);
+            event.mode = "verticle";
+            event.guess = guessRaw;
+            event.commit();
+        }
+    }
+
+    private TurnResult playGuess(String guessRaw) {
 
         // ----- If the game already ended, return a safe "empty" result -----
         if (isGameOver()) {
@@ -169,6 +224,12 @@ public class VerticleLogic {
         if (guess.length() != letters) {
             throw new IllegalArgumentException("Guess must be " + letters + " letters.");
         }
+        if (hardMode) {
+            String reason = constraints.check(guess);
+            if (reason != null) {
+                throw new IllegalArgumentException("Hard mode: " + reason);
+            }
+        }
 
         // ----- Store which try/column this guess belongs to, then consume it -----
         int thisTry = tries;
@@ -254,17 +315,24 @@ public class VerticleLogic {
             }
         }
 
-        // ----- Convert int status codes to Tile enums -----
+        // ----- Convert int status codes to Tile enums (and remember what they reveal) -----
         Tile[] out = new Tile[letters];
+        int code = 0;
+        int pow = 1;
         for (int r = 0; r < letters; r++) {
             if (status[r] == 2) {
                 out[r] = Tile.GREEN;
+                // The green letter is the one this column looks for
+                constraints.fix(thisTry, guess.charAt(r));
             } else if (status[r] == 1) {
                 out[r] = Tile.YELLOW;
             } else {
                 out[r] = Tile.GREY;
             }
+            code += status[r] * pow;
+            pow *= 3;
         }
+        constraints.addPresence(guess, code);
 
         // ----- Return final result snapshot for this turn -----
         boolean over = isGameOver();
@@ -277,4 +345,80 @@ public class VerticleLogic {
                 over
         );
     }
+
+    /**
+     * Allocation-free version of the {@link #submitGuess} feedback, packed into one int:
+     * digit r (base 3) is the status of row r (0 = grey, 1 = yellow, 2 = green).
+     * Follows the same rules: an exact match is all green, otherwise the first
+     * guess letter equal to {@code word.charAt(tryIndex)} is green and the other
+     * letters are matched against the word minus that one consumed target letter.
+     */
+    static int scorePacked(String word, String guess, int tryIndex) {
+        int n = word.length();
+
+        if (guess.equals(word)) {
+            int allGreen = 0;
+            int pow = 1;
+            for (int r = 0; r < n; r++) {
+                allGreen += 2 * pow;
+                pow *= 3;
+            }
+            return allGreen;
+        }
+
+        char target = word.charAt(tryIndex);
+        int greenRow = guess.indexOf(target);
+
+        int code = 0;
+        int pow = 1;
+        for (int r = 0; r < n; r++) {
+            int status = 0;
+
+            if (r == greenRow) {
+                status = 2;
+            } else {
+                char c = guess.charAt(r);
+
+                // Copies of c left in the pool after the green consumed the target...
+                int available = 0;
+                for (int j = 0; j < n; j++) {
+                    if (word.charAt(j) == c) {
+                        available++;
+                    }
+                }
+                if (greenRow >= 0 && c == target) {
+                    available--;
+                }
+
+                // ...minus the ones consumed by earlier non-green rows
+                int usedBefore = 0;
+                for (int j = 0; j < r; j++) {
+                    if (j != greenRow && guess.charAt(j) == c) {
+                        usedBefore++;
+                    }
+                }
+                if (usedBefore < available) {
+                    status = 1;
+                }
+            }
+
+            code += status * pow;
+            pow *= 3;
+        }
+
+        return code;
+    }
+
+    /**
+     * Packs one column of tiles the same way as {@link #scorePacked}.
+     */
+    static int packTiles(Tile[] column) {
+        int code = 0;
+        int pow = 1;
+        for (Tile t : column) {
+            code += t.ordinal() * pow;
+            pow *= 3;
+        }
+        return code;
+    }
 }
@@ -0,0 +1,341 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Verticle solver over bitsets of word indices.
+ * <p>
+ * A Verticle column says, for try t: either the guess letter in the green row is
+ * the secret's letter at position t (and no earlier row has it), or, with no
+ * green, the secret's letter at t is none of the guess letters. The yellows
+ * only depend on letter counts, never on positions. So after building, per
+ * word list, one bitset per (position, letter) and one per (letter, at least k
+ * copies), every column is applied with a handful of AND / AND-NOT operations
+ * on {@code words / 64} longs instead of rescanning the list.
+ */
+public class VerticleSolver {
+
+    /** Largest number of (guess, secret) scorings spent on ranking one guess. */
+    private static final long RANKING_BUDGET = 4_000_000L;
+
+    /** Smallest secret sample used for ranking (if that many candidates are left). */
+    private static final int MIN_SAMPLE = 200;
+
+    /** Letter slots: A-Z plus one slot for any other character. */
+    private static final int SLOTS = 27;
+
+    /**
+     * Best first guess per word list, keyed by letters and {@link DiskCache#listHash}
+     * (not by list instance, so lists loaded again share the entry).
+     */
+    private static final Map<String, String> OPENINGS = new ConcurrentHashMap<>();
+
+    /** Word list the secrets and guesses come from (uppercase). */
+    private final String[] words;
+
+    /** Number of letters per word. */
+    private final int letters;
+
+    /** Word -&gt; index in {@link #words}. */
+    private final Map<String, Integer> indexOf = new HashMap<>();
+
+    /** Words with a given letter at a given position: [position][slot]. */
+    private final long[][][] letterAt;
+
+    /** Words with at least k copies of a letter: [slot][k] (k = 1..letters). */
+    private final long[][][] atLeast;
+
+    /** Words still possible. */
+    private final long[] alive;
+
+    /** Number of set bits in {@link #alive}. */
+    private int candidateCount;
+
+    /** Number of columns applied so far (= try index of the next guess). */
+    private int tries;
+
+    /** Language of the list, for its {@link OpeningBook} (null = no book). */
+    private final Language lang;
+
+    /** First guess of the game (null before the first column). */
+    private String firstGuess;
+
+    /** Packed first column ({@link VerticleLogic#packTiles}). */
+    private int firstCode;
+
+    public VerticleSolver(Language lang, int lettersValue) {
+        this(lang.getWordList(lettersValue), lang);
+    }
+
+    VerticleSolver(String[] wordsValue) {
+        this(wordsValue, null);
+    }
+
+    private VerticleSolver(String[] wordsValue, Language langValue) {
+        if (wordsValue == null || wordsValue.length == 0) {
+            throw new IllegalArgumentException("Word list must not be empty.");
+        }
+
+        this.words = wordsValue;
+        this.lang = langValue;
+        this.letters = words[0].length();
+
+        int longs = (words.length + 63) / 64;
+        this.letterAt = new long[letters][SLOTS][longs];
+        this.atLeast = new long[SLOTS][letters + 1][longs];
+
+        int[] counts = new int[SLOTS];
+        for (int w = 0; w < words.length; w++) {
+            indexOf.put(words[w], w);
+            Arrays.fill(counts, 0);
+            for (int p = 0; p < letters; p++) {
+                int s = slot(words[w].charAt(p));
+                set(letterAt[p][s], w);
+                counts[s]++;
+            }
+            for (int s = 0; s < SLOTS; s++) {
+                for (int k = 1; k <= counts[s]; k++) {
+                    set(atLeast[s][k], w);
+                }
+            }
+        }
+
+        this.alive = new long[longs];
+        for (int w = 0; w < words.length; w++) {
+            set(alive, w);
+        }
+        this.candidateCount = words.length;
+        this.tries = 0;
+    }
+
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Returns the words that are still possible secrets.
+     */
+    public String[] getCandidates() {
+        String[] out = new String[candidateCount];
+        int k = 0;
+        for (int i = 0; i < alive.length; i++) {
+            long bits = alive[i];
+            while (bits != 0) {
+                out[k++] = words[(i << 6) + Long.numberOfTrailingZeros(bits)];
+                bits &= bits - 1;
+            }
+        }
+        return out;
+    }
+
+    public void apply(VerticleLogic.TurnResult result) {
+        if (result.getGuess().isEmpty()) {
+            return;
+        }
+        apply(result.getGuess(), result.getTiles(), result.getTryIndex());
+    }
+
+    /**
+     * Keeps only the words that would have produced this column for this guess.
+     */
+    void apply(String guessRaw, VerticleLogic.Tile[] tiles, int tryIndex) {
+        String guess = guessRaw.toUpperCase();
+        if (tryIndex == 0) {
+            firstGuess = guess;
+            firstCode = VerticleLogic.packTiles(tiles);
+        }
+
+        // ----- All green only happens on an exact match -----
+        boolean allGreen = true;
+        int greenRow = -1;
+        for (int r = 0; r < letters; r++) {
+            if (tiles[r] == VerticleLogic.Tile.GREEN) {
+                if (greenRow < 0) {
+                    greenRow = r;
+                }
+            } else {
+                allGreen = false;
+            }
+        }
+
+        if (allGreen) {
+            Arrays.fill(alive, 0L);
+            Integer w = indexOf.get(guess);
+            if (w != null) {
+                set(alive, w);
+            }
+            finishApply(tryIndex);
+            return;
+        }
+
+        Integer guessIndex = indexOf.get(guess);
+        if (guessIndex != null) {
+            alive[guessIndex >>> 6] &= ~(1L << guessIndex);
+        }
+
+        // ----- Target letter of this try: the green row's letter, or none of the guess letters -----
+        int targetSlot = -1;
+        if (greenRow >= 0) {
+            targetSlot = slot(guess.charAt(greenRow));
+            and(letterAt[tryIndex][targetSlot]);
+        } else {
+            for (int r = 0; r < letters; r++) {
+                andNot(letterAt[tryIndex][slot(guess.charAt(r))]);
+            }
+        }
+
+        // ----- Letter counts: yellows + the consumed target, exact when some copy stayed grey -----
+        boolean[] done = new boolean[SLOTS];
+        for (int r = 0; r < letters; r++) {
+            int s = slot(guess.charAt(r));
+            if (done[s]) {
+                continue;
+            }
+            done[s] = true;
+
+            int rows = 0;
+            int yellows = 0;
+            for (int j = 0; j < letters; j++) {
+                if (j != greenRow && slot(guess.charAt(j)) == s) {
+                    rows++;
+                    if (tiles[j] == VerticleLogic.Tile.YELLOW) {
+                        yellows++;
+                    }
+                }
+            }
+
+            int min = yellows + ((s == targetSlot) ? 1 : 0);
+            if (min > 0) {
+                and(atLeast[s][min]);
+            }
+            if (yellows < rows && min + 1 <= letters) {
+                andNot(atLeast[s][min + 1]);
+            }
+        }
+
+        finishApply(tryIndex);
+    }
+
+    /**
+     * Proposes the next guess for the current try: the word with the smallest
+     * expected number of candidates left (ties go to possible secrets).
+     * The whole list is ranked when affordable, otherwise only the candidates,
+     * against an evenly spread sample of the candidates.
+     *
+     * @return the proposed guess, or null if no word is consistent with the feedback
+     */
+    public String nextGuess() {
+        if (candidateCount == 0) {
+            return null;
+        }
+        String[] candidates = getCandidates();
+        if (candidateCount <= 2) {
+            return candidates[0];
+        }
+        if (tries <= 1) {
+            String booked = bookGuess();
+            if (booked != null) {
+                return booked;
+            }
+        }
+        if (tries == 0) {
+            return OPENINGS.computeIfAbsent(letters + "_" + DiskCache.listHash(words), _ -> rank(candidates));
+        }
+        return rank(candidates);
+    }
+
+    /**
+     * The opening book's guess for the first or second try, or null if there is
+     * no book or it does not cover this game (another first guess was played).
+     */
+    private String bookGuess() {
+        OpeningBook book = (lang != null) ? OpeningBook.load(DifficultyRatings.VERTICLE, lang, letters) : null;
+        if (book == null) {
+            return null;
+        }
+        return (tries == 0) ? book.firstGuess() : book.secondGuess(firstGuess, firstCode);
+    }
+
+    private String rank(String[] candidates) {
+        boolean wholeList = (long) words.length * candidates.length <= RANKING_BUDGET;
+        String[] pool = wholeList ? words : candidates;
+
+        int sampleSize = (int) Math.min(candidates.length, Math.max(MIN_SAMPLE, RANKING_BUDGET / pool.length));
+        String[] sample = new String[sampleSize];
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = candidates[(int) ((long) i * candidates.length / sampleSize)];
+        }
+
+        boolean[] possible = new boolean[words.length];
+        for (int i = 0; i < alive.length; i++) {
+            long bits = alive[i];
+            while (bits != 0) {
+                possible[(i << 6) + Long.numberOfTrailingZeros(bits)] = true;
+                bits &= bits - 1;
+            }
+        }
+
+        int codeSpace = 1;
+        for (int i = 0; i < letters; i++) {
+            codeSpace *= 3;
+        }
+        int space = codeSpace;
+        int turn = tries;
+
+        long[] cost = new long[pool.length];
+        IntStream.range(0, pool.length).parallel().forEach(g -> {
+            int[] histogram = new int[space];
+            for (String secret : sample) {
+                histogram[VerticleLogic.scorePacked(secret, pool[g], turn)]++;
+            }
+
+            long sum = 0;
+            for (int h : histogram) {
+                sum += (long) h * h;
+            }
+            boolean candidate = wholeList ? possible[g] : true;
+            cost[g] = 2 * sum - (candidate ? 1 : 0);
+        });
+
+        int best = 0;
+        for (int g = 1; g < pool.length; g++) {
+            if (cost[g] < cost[best]) {
+                best = g;
+            }
+        }
+        return pool[best];
+    }
+
+    // ----- Bitset helpers -----
+
+    private void finishApply(int tryIndex) {
+        int count = 0;
+        for (long bits : alive) {
+            count += Long.bitCount(bits);
+        }
+        candidateCount = count;
+        tries = tryIndex + 1;
+    }
+
+    private void and(long[] mask) {
+        for (int i = 0; i < alive.length; i++) {
+            alive[i] &= mask[i];
+        }
+    }
+
+    private void andNot(long[] mask) {
+        for (int i = 0; i < alive.length; i++) {
+            alive[i] &= ~mask[i];
+        }
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static int slot(char c) {
+        return (c >= 'A' && c <= 'Z') ? c - 'A' : SLOTS - 1;
+    }
+}
@@ -10,6 +10,9 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
 public class VerticleView extends BorderPane {
 
     /**
@@ -23,9 +26,17 @@ public class VerticleView extends BorderPane {
     private final String language;
 
     /**
-     * Game logic for Verticle.
+     * Game logic for Verticle (replaced by {@link #reset}).
      */
-    private final VerticleLogic game;
+    private VerticleLogic game;
+
+    /** Session the guesses are played through (game state and input checks). */
+    private GameSession<VerticleLogic.TurnResult> session;
+
+    /**
+     * Dictionary checks off the FX thread (answers come back via Platform.runLater).
+     */
+    private final GuessValidator validator = new GuessValidator(HunspellChecker::isValidWord, Platform::runLater);
 
     /**
      * Number of letters in the secret word.
@@ -72,6 +83,26 @@ public class VerticleView extends BorderPane {
      */
     private final KeyboardColorManager keyboardColors = new KeyboardColorManager();
 
+    /**
+     * Scroll pane around the board (the center while a game is running).
+     */
+    private final ScrollPane boardScroll;
+
+    /**
+     * Back button (shown after the game ends).
+     */
+    private final Button backBtn;
+
+    /**
+     * Play again button (shown after the game ends).
+     */
+    private final Button playAgainBtn;
+
+    /**
+     * Give up button.
+     */
+    private final Button giveUpBtn;
+
     /**
      * Action executed when ENTER is pressed.
      */
@@ -83,11 +114,14 @@ public class VerticleView extends BorderPane {
     private boolean uiLocked = false;
 
     public VerticleView(Navigator navigator, String languageValue, int lettersInput) {
+        this(navigator, languageValue, new VerticleLogic(lettersInput, new Language(languageValue)));
+    }
+
+    public VerticleView(Navigator navigator, String languageValue, VerticleLogic gameValue) {
         this.nav = navigator;
         this.language = languageValue;
-
-        Language lang = new Language(language);
-        this.game = new VerticleLogic(lettersInput, lang);
+        this.game = gameValue;
+        this.session = startSession(gameValue);
 
         this.letters = game.getLetters();
         this.chances = game.getChances();
@@ -124,15 +158,15 @@ public class VerticleView extends BorderPane {
 
         addColumnToGrid(0);
 
-        ScrollPane centerScroll = new ScrollPane(grid);
-        centerScroll.setFitToWidth(true);
-        centerScroll.setFitToHeight(true);
-        centerScroll.setPannable(true);
-        centerScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        centerScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        setCenter(centerScroll);
+        this.boardScroll = new ScrollPane(grid);
+        boardScroll.setFitToWidth(true);
+        boardScroll.setFitToHeight(true);
+        boardScroll.setPannable(true);
+        boardScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        boardScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        setCenter(boardScroll);
 
-        Button backBtn = new Button("Back");
+        this.backBtn = new Button("Back");
         backBtn.setPrefWidth(140);
         backBtn.setPrefHeight(44);
         backBtn.getStyleClass().add("big");
@@ -140,7 +174,15 @@ public class VerticleView extends BorderPane {
         backBtn.setVisible(false);
         backBtn.setManaged(false);
 
-        Button giveUpBtn = new Button("Give up");
+        this.playAgainBtn = new Button("Play again");
+        playAgainBtn.setPrefWidth(160);
+        playAgainBtn.setPrefHeight(44);
+        playAgainBtn.getStyleClass().add("big");
+        playAgainBtn.setFocusTraversable(false);
+        playAgainBtn.setVisible(false);
+        playAgainBtn.setManaged(false);
+
+        this.giveUpBtn = new Button("Give up");
         giveUpBtn.setPrefWidth(160);
         giveUpBtn.setPrefHeight(44);
         giveUpBtn.getStyleClass().add("big");
@@ -148,7 +190,7 @@ public class VerticleView extends BorderPane {
 
         KeyboardPane keyboard = buildLetterKeyboard();
 
-        HBox topActions = new HBox(12, backBtn);
+        HBox topActions = new HBox(12, backBtn, playAgainBtn);
         topActions.setAlignment(Pos.CENTER);
 
         HBox giveUpRow = new HBox(giveUpBtn);
@@ -163,44 +205,26 @@ public class VerticleView extends BorderPane {
 
         giveUpBtn.setOnAction(_ -> {
             uiLocked = true;
+            session.giveUp();
             showStandardLose(backBtn, giveUpBtn, "You gave up.");
         });
 
-        // ----- ENTER action for Verticle: validate + submit + paint current column -----
-        this.enterAction = () -> {
-
-            // Ignore submit if UI is locked (game ended / give up screen)
-            if (uiLocked) {
-                return;
-            }
-
-            // Extra safety: don't submit if logic says game is already over
-            if (game.isGameOver()) {
-                message.setText("Game over.");
-                return;
-            }
+        // ----- Second half of ENTER: runs on the FX thread once the dictionary answered -----
+        BiConsumer<String, Boolean> finishSubmit = (guess, valid) -> {
 
-            // Must fill the whole "vertical guess" (letters characters) before submitting
-            if (typedIndex < letters) {
-                message.setText("Not enough letters.");
+            // The column may have changed while the check was running
+            if (uiLocked || game.isGameOver() || typedIndex < letters || !guess.equals(new String(current))) {
                 return;
             }
 
-            // Build guess from typed characters
-            String guess = new String(current);
-
-            // Dictionary validation (only allow real words)
-            if (!HunspellChecker.isValidWord(guess)) {
+            if (!valid) {
                 message.setText("Not a valid word.");
                 return;
             }
 
-            // Submit guess to the Verticle logic (may throw if invalid)
-            VerticleLogic.TurnResult r;
-            try {
-                r = game.submitGuess(guess);
-            } catch (IllegalArgumentException ex) {
-                message.setText(ex.getMessage());
+            // Submit guess through the session (null if rejected)
+            VerticleLogic.TurnResult r = session.submit(guess);
+            if (r == null) {
                 return;
             }
 
@@ -208,6 +232,8 @@ public class VerticleView extends BorderPane {
             int col = r.getTryIndex();
 
             // Paint all rows in that column with green/yellow/grey feedback
+            GameEvents.Paint event = new GameEvents.Paint();
+            event.begin();
             for (int row = 0; row < letters; row++) {
                 Label t = tiles[row][col];
                 char ch = r.getGuess().charAt(row);
@@ -218,6 +244,9 @@ public class VerticleView extends BorderPane {
                 // Update keyboard colors (keys never downgrade)
                 keyboardColors.promoteKey(ch, rankForVertTile(r.getTiles()[row]));
             }
+            event.view = "verticle";
+            event.tiles = letters;
+            event.commit();
 
             // Update remaining guesses label and clear message
             remaining.setText("Guesses left: " + r.getRemainingGuesses());
@@ -247,6 +276,33 @@ public class VerticleView extends BorderPane {
             requestFocus();
         };
 
+        // ----- ENTER action for Verticle: validate, then submit + paint current column -----
+        this.enterAction = () -> {
+
+            // Ignore submit if UI is locked (game ended / give up screen)
+            if (uiLocked) {
+                return;
+            }
+
+            // Extra safety: don't submit if logic says game is already over
+            if (game.isGameOver()) {
+                message.setText("Game over.");
+                return;
+            }
+
+            // Must fill the whole "vertical guess" (letters characters) before submitting
+            if (typedIndex < letters) {
+                message.setText("Not enough letters.");
+                return;
+            }
+
+            // Build guess from typed characters
+            String guess = new String(current);
+
+            // Dictionary validation (only allow real words) off the FX thread; typing again cancels it
+            validator.validate(guess, valid -> finishSubmit.accept(guess, valid));
+        };
+
 
 // ----- Make this BorderPane focusable so it can receive key events -----
         setFocusTraversable(true);
@@ -300,6 +356,76 @@ public class VerticleView extends BorderPane {
 
     }
 
+    /**
+     * Whether a game has the same shape as this view (letters, guesses),
+     * so {@link #reset} can reuse the board.
+     */
+    boolean fits(VerticleLogic other) {
+        return other.getLetters() == letters && other.getChances() == chances;
+    }
+
+    /**
+     * Starts the session for a game. Words are checked by the {@link GuessValidator}
+     * before they are submitted, so the session does not check them again.
+     */
+    private GameSession<VerticleLogic.TurnResult> startSession(VerticleLogic logic) {
+        GameSession<VerticleLogic.TurnResult> s = GameSession.verticle(logic, null);
+        s.addListener(new GameSession.Listener<>() {
+            @Override
+            public void onRejected(String guess, String reason) {
+                message.setText(reason);
+            }
+        });
+        return s;
+    }
+
+    /**
+     * Starts a new game in this view, reusing its node graph (tiles, keyboard)
+     * instead of building a new view.
+     *
+     * @throws IllegalArgumentException if the game does not {@link #fits fit} this view
+     */
+    void reset(VerticleLogic newGame) {
+        if (!fits(newGame)) {
+            throw new IllegalArgumentException("Game does not fit this view.");
+        }
+
+        validator.cancel();
+        game = newGame;
+        session = startSession(newGame);
+
+        typedIndex = 0;
+        for (int i = 0; i < letters; i++) {
+            current[i] = 0;
+        }
+
+        grid.getChildren().clear();
+        for (int r = 0; r < letters; r++) {
+            for (int c = 0; c < chances; c++) {
+                tiles[r][c].setText(" ");
+                tiles[r][c].setStyle(GameStyles.tileBase() + GameStyles.tileEmpty());
+            }
+        }
+        addColumnToGrid(0);
+
+        keyboardColors.reset();
+
+        remaining.setText("Guesses left: " + chances);
+        message.setStyle(GameStyles.MSG_RED);
+        message.setText("");
+
+        uiLocked = false;
+        giveUpBtn.setVisible(true);
+        giveUpBtn.setManaged(true);
+        backBtn.setVisible(false);
+        backBtn.setManaged(false);
+        playAgainBtn.setVisible(false);
+        playAgainBtn.setManaged(false);
+        setCenter(boardScroll);
+
+        requestFocus();
+    }
+
     /**
      * Adds one entire column of tiles to the GridPane at the given column index.
      * (Verticle fills columns over time, not rows.)
@@ -336,12 +462,18 @@ public class VerticleView extends BorderPane {
         // Store typed char in buffer and show it on the board
         ch = Character.toUpperCase(ch);
         current[typedIndex] = ch;
+        validator.cancel();
 
         Label t = tiles[typedIndex][col];
         t.setText(String.valueOf(ch));
         t.setStyle(GameStyles.tileBase() + GameStyles.tileEmpty());
 
         typedIndex++;
+
+        // Column complete: start the dictionary check now, so ENTER finds it ready
+        if (typedIndex == letters) {
+            validator.prefetch(new String(current));
+        }
     }
 
     /**
@@ -358,6 +490,7 @@ public class VerticleView extends BorderPane {
 
         typedIndex--;
         current[typedIndex] = 0;
+        validator.cancel();
 
         int col = game.getTries();
         Label t = tiles[typedIndex][col];
@@ -405,6 +538,7 @@ public class VerticleView extends BorderPane {
         giveUpBtn.setManaged(false);
         backBtn.setVisible(true);
         backBtn.setManaged(true);
+        offerPlayAgain();
 
         requestFocus();
     }
@@ -440,10 +574,33 @@ public class VerticleView extends BorderPane {
         giveUpBtn.setManaged(false);
         backBtn.setVisible(true);
         backBtn.setManaged(true);
+        offerPlayAgain();
 
         requestFocus();
     }
 
+    /**
+     * Shows "Play again" and starts picking the next game in the background
+     * while the end screen shows, so the button only has to swap it in.
+     */
+    private void offerPlayAgain() {
+        CompletableFuture<VerticleLogic> next = nav.prepareVerticle(language, letters);
+
+        playAgainBtn.setDisable(false);
+        playAgainBtn.setOnAction(_ -> {
+            playAgainBtn.setDisable(true);
+            next.whenCompleteAsync((nextGame, error) -> {
+                if (error != null) {
+                    message.setText("Could not start a new game.");
+                    return;
+                }
+                nav.showVerticle(language, nextGame);
+            }, Platform::runLater);
+        });
+        playAgainBtn.setVisible(true);
+        playAgainBtn.setManaged(true);
+    }
+
     /**
      * Builds the on-screen keyboard and wires it to:
      * ENTER -> enterAction, ⌫ -> backspace, letters -> typeChar.
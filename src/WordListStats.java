@@ -0,0 +1,373 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collector;
+
+/**
+ * Read-only letter statistics of one word list:
+ * <ul>
+ *     <li>letter frequency (total occurrences, and number of words containing the letter)</li>
+ *     <li>positional frequency (words with a letter at a position)</li>
+ *     <li>letter co-occurrence (words containing both letters)</li>
+ *     <li>distribution of the 26-bit letter masks (words per distinct letter set)</li>
+ * </ul>
+ * Everything is computed in one parallel pass over the list and kept in
+ * {@code cache/stats/<lang>_<letters>.bin} while the word list is unchanged.
+ * Letters outside A-Z are ignored. Letters are given as characters ('A'-'Z', any case).
+ */
+public final class WordListStats {
+
+    /** Magic number at the start of every stats file. */
+    private static final int MAGIC = 0x574c5354;
+
+    /** Size of the stats file header in bytes. */
+    private static final int HEADER_SIZE = 24;
+
+    /** Letters of the alphabet. */
+    private static final int ALPHABET = 26;
+
+    /** Loaded stats by language and word length. */
+    private static final Map<String, WordListStats> LOADED = new ConcurrentHashMap<>();
+
+    /** Word length. */
+    private final int letters;
+
+    /** Number of words in the list. */
+    private final int wordCount;
+
+    /** Occurrences of every letter over the whole list (repeats counted). */
+    private final int[] letterCount;
+
+    /** Number of words containing every letter. */
+    private final int[] wordsWithLetter;
+
+    /** Number of words with letter l at position p, at {@code p * 26 + l}. */
+    private final int[] positional;
+
+    /** Number of words containing both letters a and b, at {@code a * 26 + b}. */
+    private final int[] coOccurrence;
+
+    /** Distinct letter masks, ascending. */
+    private final int[] masks;
+
+    /** Number of words with each mask in {@link #masks}. */
+    private final int[] maskCounts;
+
+    private WordListStats(int lettersValue, int wordCountValue, int[] letterCountValue, int[] wordsWithLetterValue,
+                          int[] positionalValue, int[] coOccurrenceValue, int[] masksValue, int[] maskCountsValue) {
+        this.letters = lettersValue;
+        this.wordCount = wordCountValue;
+        this.letterCount = letterCountValue;
+        this.wordsWithLetter = wordsWithLetterValue;
+        this.positional = positionalValue;
+        this.coOccurrence = coOccurrenceValue;
+        this.masks = masksValue;
+        this.maskCounts = maskCountsValue;
+    }
+
+    /**
+     * Computes the stats of a word list in memory (one parallel pass).
+     * Also fine for small candidate lists, e.g. for a heuristic solver.
+     */
+    static WordListStats of(String[] words, int letters) {
+        if (letters < 1) {
+            throw new IllegalArgumentException("Word length must be at least 1.");
+        }
+
+        Collector<String, Counts, Counts> collector = Collector.of(
+                () -> new Counts(letters),
+                Counts::add,
+                Counts::merge);
+        Counts c = Arrays.stream(words).parallel().collect(collector);
+
+        int[] masks = c.masks.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int[] maskCounts = new int[masks.length];
+        for (int i = 0; i < masks.length; i++) {
+            maskCounts[i] = c.masks.get(masks[i]);
+        }
+
+        return new WordListStats(letters, words.length, c.letterCount, c.wordsWithLetter,
+                c.positional, c.coOccurrence, masks, maskCounts);
+    }
+
+    /**
+     * Returns the stats of one word list, loading them from disk or computing
+     * (and saving) them on first use.
+     */
+    static WordListStats get(Language lang, int letters) {
+        return LOADED.computeIfAbsent(lang.getLanguageCode() + "_" + letters, key -> {
+            String[] words = lang.getWordList(letters);
+            long hash = DiskCache.listHash(words);
+
+            Path file = null;
+            try {
+                file = DiskCache.dir("stats").resolve(key + ".bin");
+                WordListStats cached = read(file, letters, words.length, hash);
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (IOException e) {
+                // Unreadable cache: compute below
+            }
+
+            WordListStats computed = of(words, letters);
+            if (file != null) {
+                try {
+                    computed.write(file, hash);
+                } catch (IOException e) {
+                    IO.println("Could not save word list stats: " + e.getMessage());
+                }
+            }
+            return computed;
+        });
+    }
+
+    // ----- Read-only API -----
+
+    public int getLetters() {
+        return letters;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Occurrences of a letter over the whole list, repeats included.
+     */
+    public int letterCount(char letter) {
+        return letterCount[index(letter)];
+    }
+
+    /**
+     * Number of words containing a letter at least once.
+     */
+    public int wordsWith(char letter) {
+        return wordsWithLetter[index(letter)];
+    }
+
+    /**
+     * Share of words containing a letter (0..1).
+     */
+    public double letterFrequency(char letter) {
+        return wordCount == 0 ? 0 : (double) wordsWith(letter) / wordCount;
+    }
+
+    /**
+     * Number of words with a letter at a position (0-based).
+     */
+    public int positionCount(int position, char letter) {
+        if (position < 0 || position >= letters) {
+            throw new IllegalArgumentException("Position out of range: " + position);
+        }
+        return positional[position * ALPHABET + index(letter)];
+    }
+
+    /**
+     * Number of words containing both letters (for a == b: words containing a).
+     */
+    public int coOccurrence(char a, char b) {
+        return coOccurrence[index(a) * ALPHABET + index(b)];
+    }
+
+    /**
+     * Number of distinct letter sets in the list.
+     */
+    public int getDistinctMaskCount() {
+        return masks.length;
+    }
+
+    /**
+     * The i-th distinct letter mask (ascending; bit 0 = A ... bit 25 = Z).
+     */
+    public int maskAt(int i) {
+        return masks[i];
+    }
+
+    /**
+     * Number of words whose letter set is the i-th distinct mask.
+     */
+    public int maskCountAt(int i) {
+        return maskCounts[i];
+    }
+
+    /**
+     * Number of words with exactly this letter set (anagrams of each other, repeats aside).
+     */
+    public int wordsWithMask(int mask) {
+        int i = Arrays.binarySearch(masks, mask);
+        return i < 0 ? 0 : maskCounts[i];
+    }
+
+    /**
+     * Number of words per count of distinct letters (index = distinct letters).
+     */
+    public int[] distinctLetterHistogram() {
+        int[] histogram = new int[letters + 1];
+        for (int i = 0; i < masks.length; i++) {
+            histogram[Math.min(letters, Integer.bitCount(masks[i]))] += maskCounts[i];
+        }
+        return histogram;
+    }
+
+    /**
+     * Cheap guess quality without a feedback matrix: how many words share each
+     * distinct letter of the guess, plus how many share each letter in place.
+     * Higher means the guess is expected to split the list better.
+     */
+    public long heuristicScore(String word) {
+        long score = 0;
+        int seen = 0;
+        int n = Math.min(word.length(), letters);
+        for (int p = 0; p < n; p++) {
+            int l = Character.toUpperCase(word.charAt(p)) - 'A';
+            if (l < 0 || l >= ALPHABET) {
+                continue;
+            }
+            score += positional[p * ALPHABET + l];
+            if ((seen & (1 << l)) == 0) {
+                seen |= 1 << l;
+                score += wordsWithLetter[l];
+            }
+        }
+        return score;
+    }
+
+    /**
+     * The guess with the best {@link #heuristicScore} among the given words (first one on ties),
+     * or null if there are none.
+     */
+    public String bestHeuristicGuess(String[] guesses) {
+        String best = null;
+        long bestScore = -1;
+        for (String g : guesses) {
+            long s = heuristicScore(g);
+            if (s > bestScore) {
+                bestScore = s;
+                best = g;
+            }
+        }
+        return best;
+    }
+
+    private static int index(char letter) {
+        int l = Character.toUpperCase(letter) - 'A';
+        if (l < 0 || l >= ALPHABET) {
+            throw new IllegalArgumentException("Not a letter A-Z: " + letter);
+        }
+        return l;
+    }
+
+    /**
+     * Mutable counters of one parallel chunk.
+     */
+    private static final class Counts {
+        private final int letters;
+        private final int[] letterCount = new int[ALPHABET];
+        private final int[] wordsWithLetter = new int[ALPHABET];
+        private final int[] positional;
+        private final int[] coOccurrence = new int[ALPHABET * ALPHABET];
+        private final Map<Integer, Integer> masks = new HashMap<>();
+
+        Counts(int lettersValue) {
+            this.letters = lettersValue;
+            this.positional = new int[lettersValue * ALPHABET];
+        }
+
+        void add(String word) {
+            int mask = 0;
+            int n = Math.min(word.length(), letters);
+            for (int p = 0; p < n; p++) {
+                int l = Character.toUpperCase(word.charAt(p)) - 'A';
+                if (l < 0 || l >= ALPHABET) {
+                    continue;
+                }
+                letterCount[l]++;
+                positional[p * ALPHABET + l]++;
+                mask |= 1 << l;
+            }
+
+            for (int m = mask; m != 0; m &= m - 1) {
+                int a = Integer.numberOfTrailingZeros(m);
+                wordsWithLetter[a]++;
+                for (int rest = mask; rest != 0; rest &= rest - 1) {
+                    coOccurrence[a * ALPHABET + Integer.numberOfTrailingZeros(rest)]++;
+                }
+            }
+            masks.merge(mask, 1, Integer::sum);
+        }
+
+        Counts merge(Counts other) {
+            addAll(letterCount, other.letterCount);
+            addAll(wordsWithLetter, other.wordsWithLetter);
+            addAll(positional, other.positional);
+            addAll(coOccurrence, other.coOccurrence);
+            other.masks.forEach((m, count) -> masks.merge(m, count, Integer::sum));
+            return this;
+        }
+
+        private static void addAll(int[] into, int[] from) {
+            for (int i = 0; i < into.length; i++) {
+                into[i] += from[i];
+            }
+        }
+    }
+
+    // ----- Disk cache: magic, letters, word count, list hash, mask count, tables -----
+
+    void write(Path file, long hash) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(letters);
+            out.writeInt(wordCount);
+            out.writeLong(hash);
+            out.writeInt(masks.length);
+            for (int[] table : new int[][]{letterCount, wordsWithLetter, positional, coOccurrence, masks, maskCounts}) {
+                for (int v : table) {
+                    out.writeInt(v);
+                }
+            }
+        }
+    }
+
+    static WordListStats read(Path file, int letters, int wordCount, long hash) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buf.remaining() < HEADER_SIZE
+                || buf.getInt() != MAGIC
+                || buf.getInt() != letters
+                || buf.getInt() != wordCount
+                || buf.getLong() != hash) {
+            return null;
+        }
+
+        int maskCount = buf.getInt();
+        long ints = 2L * ALPHABET + (long) letters * ALPHABET + ALPHABET * ALPHABET + 2L * maskCount;
+        if (maskCount < 0 || buf.remaining() != 4 * ints) {
+            return null;
+        }
+
+        IntBuffer in = buf.asIntBuffer();
+        int[] letterCount = new int[ALPHABET];
+        int[] wordsWithLetter = new int[ALPHABET];
+        int[] positional = new int[letters * ALPHABET];
+        int[] coOccurrence = new int[ALPHABET * ALPHABET];
+        int[] masks = new int[maskCount];
+        int[] maskCounts = new int[maskCount];
+        in.get(letterCount).get(wordsWithLetter).get(positional).get(coOccurrence).get(masks).get(maskCounts);
+
+        return new WordListStats(letters, wordCount, letterCount, wordsWithLetter,
+                positional, coOccurrence, masks, maskCounts);
+    }
+}
@@ -0,0 +1,408 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pattern search over one word list, for hints and for exploring the dictionary.
+ * <p>
+ * Like {@link VerticleSolver}, the list is indexed once into bitsets of word
+ * indices: one per (position, letter) and one per (letter, at least k copies).
+ * A query ANDs the bitsets of its conditions ({@code words / 64} longs each), so it
+ * never scans the words themselves; only a regex is checked word by word, and
+ * only on the words the other conditions left. Results are produced lazily, in
+ * list order, and can be paged without building the whole result.
+ * <pre>
+ * java WordSearch en 5 A?P?E -RT +L      (query syntax: see {@link #parse})
+ * </pre>
+ */
+public final class WordSearch {
+
+    /** Letter slots: A-Z plus one slot for any other character. */
+    private static final int SLOTS = 27;
+
+    /**
+     * Index per word list, shared by every query on that list. The key is language, letters
+     * and {@link DiskCache#listHash}, so a list loaded again reuses its index.
+     */
+    private static final Map<String, WordSearch> INDEXES = new ConcurrentHashMap<>();
+
+    /** Indexed words (uppercase). */
+    private final String[] words;
+
+    /** Number of letters per word. */
+    private final int letters;
+
+    /** Words with a given letter at a given position: [position][slot]. */
+    private final long[][][] letterAt;
+
+    /** Words with at least k copies of a letter: [slot][k] (k = 0..letters; k = 0 is every word). */
+    private final long[][][] atLeast;
+
+    WordSearch(String[] wordsValue) {
+        if (wordsValue == null || wordsValue.length == 0) {
+            throw new IllegalArgumentException("Word list must not be empty.");
+        }
+
+        this.words = wordsValue;
+        this.letters = words[0].length();
+
+        int longs = (words.length + 63) / 64;
+        this.letterAt = new long[letters][SLOTS][longs];
+        this.atLeast = new long[SLOTS][letters + 1][longs];
+
+        int[] counts = new int[SLOTS];
+        for (int w = 0; w < words.length; w++) {
+            if (words[w].length() != letters) {
+                throw new IllegalArgumentException("All words must have same length.");
+            }
+            Arrays.fill(counts, 0);
+            for (int p = 0; p < letters; p++) {
+                int s = slot(words[w].charAt(p));
+                set(letterAt[p][s], w);
+                counts[s]++;
+            }
+            for (int s = 0; s < SLOTS; s++) {
+                for (int k = 0; k <= counts[s]; k++) {
+                    set(atLeast[s][k], w);
+                }
+            }
+        }
+    }
+
+    /**
+     * The index of a word list of a language (built on first use).
+     */
+    static WordSearch of(Language lang, int letters) {
+        String[] list = lang.getWordList(letters);
+        String key = lang.getLanguageCode() + "_" + letters + "_" + DiskCache.listHash(list);
+        return INDEXES.computeIfAbsent(key, _ -> new WordSearch(list));
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            IO.println("Usage: java WordSearch <lang> <letters> [query...]");
+            return;
+        }
+
+        WordSearch search = of(new Language(args[0]), Integer.parseInt(args[1]));
+        String query = String.join(" ", Arrays.copyOfRange(args, 2, args.length));
+
+        long start = System.nanoTime();
+        Query q = search.parse(query);
+        int count = q.count();
+        long micros = (System.nanoTime() - start) / 1000;
+
+        q.page(0, 50).forEach(IO::println);
+        IO.println(count + " words (" + micros + " us)" + ((count > 50) ? ", first 50 shown" : ""));
+    }
+
+    int getLetters() {
+        return letters;
+    }
+
+    int getWordsCount() {
+        return words.length;
+    }
+
+    /**
+     * Starts a query that matches every word.
+     */
+    Query query() {
+        return new Query();
+    }
+
+    /**
+     * Builds a query from text: space separated terms, all of which must hold.
+     * <ul>
+     *     <li>{@code A?P?E}: pattern, one character per position ({@code ?}, {@code .}
+     *     or {@code _} = any letter)</li>
+     *     <li>{@code +RT}: contains every listed letter (a letter listed twice: at least twice)</li>
+     *     <li>{@code -XYZ}: contains none of the listed letters</li>
+     *     <li>{@code E:2} or {@code E:1-2}: number of copies of a letter</li>
+     *     <li>{@code /.*ER$/}: regular expression the whole word must match</li>
+     * </ul>
+     */
+    Query parse(String text) {
+        Query q = new Query();
+        for (String term : text.trim().split("\\s+")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+
+            char first = term.charAt(0);
+            if (first == '+') {
+                q.contains(term.substring(1));
+            } else if (first == '-') {
+                q.excludes(term.substring(1));
+            } else if (first == '/' && term.length() > 1 && term.endsWith("/")) {
+                q.regex(term.substring(1, term.length() - 1));
+            } else if (term.length() > 2 && term.charAt(1) == ':') {
+                String[] range = term.substring(2).split("-", 2);
+                int min = parseCount(range[0]);
+                int max = (range.length > 1) ? parseCount(range[1]) : min;
+                q.count(first, min, max);
+            } else {
+                q.pattern(term);
+            }
+        }
+        return q;
+    }
+
+    /**
+     * One search: add conditions, then read the matches ({@link #count},
+     * {@link #stream}, {@link #page}). Conditions are applied to the result bitset
+     * right away, so adding one costs {@code words / 64} operations.
+     */
+    final class Query {
+
+        /** Words matching every bitset condition so far. */
+        private final long[] matches;
+
+        /** Regex every result must match as well (null = none). */
+        private Pattern regex;
+
+        private Query() {
+            // At least 0 copies of any letter: every word
+            this.matches = atLeast[0][0].clone();
+        }
+
+        /**
+         * Fixes letters per position; {@code ?}, {@code .} and {@code _} match anything.
+         */
+        Query pattern(String pattern) {
+            if (pattern.length() != letters) {
+                throw new IllegalArgumentException("Pattern must be " + letters + " characters long: " + pattern);
+            }
+            for (int p = 0; p < letters; p++) {
+                char c = Character.toUpperCase(pattern.charAt(p));
+                if (c != '?' && c != '.' && c != '_') {
+                    and(letterAt[p][slot(c)]);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Keeps the words with this letter at this position (0-based).
+         */
+        Query letterAt(int position, char c) {
+            and(letterAt[position][slot(Character.toUpperCase(c))]);
+            return this;
+        }
+
+        /**
+         * Keeps the words without this letter at this position (0-based), e.g. for a yellow tile.
+         */
+        Query notLetterAt(int position, char c) {
+            andNot(letterAt[position][slot(Character.toUpperCase(c))]);
+            return this;
+        }
+
+        /**
+         * Keeps the words containing every listed letter, as often as it is listed.
+         */
+        Query contains(String letterSet) {
+            int[] counts = new int[SLOTS];
+            for (int i = 0; i < letterSet.length(); i++) {
+                counts[slot(Character.toUpperCase(letterSet.charAt(i)))]++;
+            }
+            for (int s = 0; s < SLOTS; s++) {
+                if (counts[s] > 0) {
+                    atLeast(s, counts[s]);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Keeps the words containing none of the listed letters.
+         */
+        Query excludes(String letterSet) {
+            for (int i = 0; i < letterSet.length(); i++) {
+                andNot(atLeast[slot(Character.toUpperCase(letterSet.charAt(i)))][1]);
+            }
+            return this;
+        }
+
+        /**
+         * Keeps the words with between min and max copies of a letter.
+         */
+        Query count(char c, int min, int max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Invalid letter count " + min + "-" + max);
+            }
+            int s = slot(Character.toUpperCase(c));
+            atLeast(s, min);
+            if (max < letters) {
+                andNot(atLeast[s][max + 1]);
+            }
+            return this;
+        }
+
+        /**
+         * Keeps the words that fit everything the feedback so far revealed
+         * (fixed letters, least letter counts, absent letters).
+         */
+        Query matching(LetterConstraints constraints) {
+            for (int p = 0; p < letters; p++) {
+                char c = constraints.getFixed(p);
+                if (c != 0) {
+                    and(letterAt[p][slot(c)]);
+                }
+            }
+            for (char c = 'A'; c <= 'Z'; c++) {
+                if (constraints.isExcluded(c)) {
+                    andNot(atLeast[slot(c)][1]);
+                } else if (constraints.getMinCount(c) > 0) {
+                    atLeast(slot(c), constraints.getMinCount(c));
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Keeps the words the regular expression matches completely (case-insensitive).
+         * Checked word by word on the other conditions' results, so add it last.
+         */
+        Query regex(String expression) {
+            this.regex = Pattern.compile(expression, Pattern.CASE_INSENSITIVE);
+            return this;
+        }
+
+        /**
+         * Number of matching words.
+         */
+        int count() {
+            if (regex == null) {
+                int n = 0;
+                for (long bits : matches) {
+                    n += Long.bitCount(bits);
+                }
+                return n;
+            }
+            return (int) stream().count();
+        }
+
+        /**
+         * The matching words in list order, found as the stream is consumed.
+         */
+        Stream<String> stream() {
+            return StreamSupport.stream(new Matches(), false);
+        }
+
+        /**
+         * One page of results: up to limit words after skipping offset matches.
+         * Without a regex, whole blocks of 64 words are skipped by their bit count.
+         */
+        List<String> page(int offset, int limit) {
+            if (offset < 0 || limit < 0) {
+                throw new IllegalArgumentException("Offset and limit must not be negative.");
+            }
+            if (regex != null) {
+                return stream().skip(offset).limit(limit).toList();
+            }
+
+            List<String> out = new ArrayList<>(Math.min(limit, 64));
+            int skip = offset;
+            for (int i = 0; i < matches.length && out.size() < limit; i++) {
+                long bits = matches[i];
+                int inBlock = Long.bitCount(bits);
+                if (skip >= inBlock) {
+                    skip -= inBlock;
+                    continue;
+                }
+                while (bits != 0 && out.size() < limit) {
+                    int w = (i << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        out.add(words[w]);
+                    }
+                }
+            }
+            return out;
+        }
+
+        private void atLeast(int s, int k) {
+            if (k > letters) {
+                Arrays.fill(matches, 0L);
+            } else {
+                and(atLeast[s][k]);
+            }
+        }
+
+        private void and(long[] bits) {
+            for (int i = 0; i < matches.length; i++) {
+                matches[i] &= bits[i];
+            }
+        }
+
+        private void andNot(long[] bits) {
+            for (int i = 0; i < matches.length; i++) {
+                matches[i] &= ~bits[i];
+            }
+        }
+
+        /**
+         * Walks the set bits of {@link #matches} one word at a time.
+         */
+        private final class Matches extends Spliterators.AbstractSpliterator<String> {
+
+            /** Block of {@link #matches} being walked. */
+            private int block = -1;
+
+            /** Bits of that block not returned yet. */
+            private long bits;
+
+            private Matches() {
+                super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super String> action) {
+                while (true) {
+                    while (bits == 0) {
+                        if (++block >= matches.length) {
+                            return false;
+                        }
+                        bits = matches[block];
+                    }
+                    int w = (block << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+
+                    if (regex == null || regex.matcher(words[w]).matches()) {
+                        action.accept(words[w]);
+                        return true;
+                    }
+                }
+            }
+        }
+    }
+
+    // ----- Helpers -----
+
+    private static int parseCount(String s) {
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Not a letter count: " + s);
+        }
+    }
+
+    private static int slot(char c) {
+        return (c >= 'A' && c <= 'Z') ? c - 'A' : SLOTS - 1;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+}
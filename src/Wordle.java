@@ -3,153 +3,73 @@ public class Wordle {
     private Language lang;
     private int wordsCount;
 
-    Wordle(int wordsCountInput, int letterCount, Language language) {
+    Wordle(int wordsCountInput, int letterCount, Language language, boolean hardMode, Terminal terminal) {
         this.letters = letterCount;
         this.lang = language;
         this.wordsCount = wordsCountInput;
 
-        String[] list = lang.getWordList(letters);
+        WordleLogic game = new WordleLogic(wordsCount, letters, lang);
+        game.setHardMode(hardMode);
+        GameSession<WordleLogic.TurnResult> session = GameSession.wordle(game,
+                word -> HunspellChecker.isValidWord(lang.getLanguageCode(), word));
 
-        // Hidden words for the game
-        String[] words = new String[wordsCount];
+        // Each turn is built into one frame and printed at once
+        ConsoleRenderer screen = terminal.screen();
 
-        // Tracks whether each word has already been solved
-        boolean[] solved = new boolean[wordsCount];
-
-        // Used to avoid selecting the same word twice
-        boolean[] used = new boolean[list.length];
-
-        for (int i = 0; i < wordsCount; i++) {
-            int random;
-            do {
-                random = (int) (Math.random() * list.length);
-            } while (used[random]);
-
-            used[random] = true;
-            words[i] = list[random];
-            solved[i] = false;
-        }
-
-        int tries = 0;
-        int chances = wordsCount + letters;
+        // Tracks which words were already solved before the current turn
+        boolean[] solvedBefore = new boolean[wordsCount];
 
         // Print a header line for each word column
         for (int i = 0; i < wordsCount; i++) {
-            IO.print(" |   ");
-            IO.print("Word: " + (i + 1));
-            IO.print("  | ");
+            screen.text(" |   Word: " + (i + 1) + "  | ");
         }
-        IO.println("");
-
-        // Main game loop
-        while (tries < chances) {
-
-            // Check if all words are already solved
-            boolean allSolved = true;
-            for (int i = 0; i < solved.length; i++) {
-                if (!solved[i]) {
-                    allSolved = false;
-                    break;
-                }
-            }
-            if (allSolved) {
-                break;
-            }
-
-            String guessRaw = IO.readln("Guess the word: ").trim();
-
-            if (guessRaw.length() != letters) {
-                IO.println("Your guess must be " + letters + " letters long.");
-                continue;
-            }
-
-            if (!HunspellChecker.isValidWord(guessRaw)) {
-                IO.println("Not a valid word.");
-                continue;
-            }
-
-            String guess = guessRaw.toUpperCase();
-            tries++;
-
-            // Process the guess for each hidden word
-            for (int w = 0; w < wordsCount; w++) {
+        screen.newline().flush();
 
-                if (solved[w]) {
-                    IO.print("Word " + (w + 1) + ": SOLVED! ");
-                    continue;
-                }
-
-                if (guess.equals(words[w])) {
-                    solved[w] = true;
-                    IO.print("Word " + (w + 1) + ": CORRECT!");
-                    continue;
-                }
-
-                String word = words[w];
-
-                // Remaining letters that can still be matched as yellow
-                char[] lettersInWord = word.toCharArray();
+        session.addListener(new GameSession.Listener<>() {
+            @Override
+            public void onTurn(WordleLogic.TurnResult result) {
+                WordleLogic.Tile[][] tiles = result.getTilesByWord();
 
-                // Tracks which positions are green
-                boolean[] green = new boolean[letters];
+                for (int w = 0; w < wordsCount; w++) {
+                    if (solvedBefore[w]) {
+                        screen.text("Word " + (w + 1) + ": SOLVED! ");
+                        continue;
+                    }
+                    if (result.isSolved(w)) {
+                        solvedBefore[w] = true;
+                        screen.text("Word " + (w + 1) + ": CORRECT!");
+                        continue;
+                    }
 
-                // First pass: mark GREEN letters
-                for (int i = 0; i < letters; i++) {
-                    char c = guess.charAt(i);
-                    if (c == word.charAt(i)) {
-                        green[i] = true;
-                        lettersInWord[i] = 0; // consume this letter
+                    screen.text(" | ");
+                    for (int i = 0; i < letters; i++) {
+                        screen.tile(tiles[w][i].ordinal(), result.getGuess().charAt(i));
                     }
+                    screen.text(" | ");
                 }
 
-                IO.print(" | ");
-
-                // Second pass: print colors for each letter
-                for (int i = 0; i < letters; i++) {
-                    char c = guess.charAt(i);
-
-                    if (green[i]) {
-                        IO.print(ConsoleColors.GREEN_BACKGROUND + c + ConsoleColors.RESET + " ");
-                    } else {
-                        boolean found = false;
+                screen.line(" Remaining guesses: " + result.getRemainingGuesses()).flush();
+            }
 
-                        // Check if the letter exists elsewhere in the word
-                        for (int j = 0; j < letters; j++) {
-                            if (lettersInWord[j] == c) {
-                                lettersInWord[j] = 0; // consume one occurrence
-                                found = true;
-                                break;
-                            }
-                        }
+            @Override
+            public void onRejected(String guess, String reason) {
+                terminal.println(reason);
+            }
 
-                        if (found) {
-                            IO.print(ConsoleColors.YELLOW_BACKGROUND + c + ConsoleColors.RESET + " ");
-                        } else {
-                            IO.print(ConsoleColors.BLACK_BACKGROUND + c + ConsoleColors.RESET + " ");
-                        }
+            @Override
+            public void onEnd(GameSession.State state) {
+                if (state == GameSession.State.WON) {
+                    terminal.println("Congratulations! You solved all words!");
+                } else {
+                    terminal.println("You lost. The words were:");
+                    for (String word : game.getWords()) {
+                        terminal.println(word);
                     }
                 }
-                IO.print(" | ");
             }
+        });
 
-            IO.println(" Remaining guesses: " + (chances - tries));
-        }
-
-        boolean allSolved = true;
-        for (int i = 0; i < solved.length; i++) {
-            if (!solved[i]) {
-                allSolved = false;
-            }
-        }
-
-        if (allSolved) {
-            IO.println("Congratulations! You solved all words!");
-        } else {
-            IO.println("You lost. The words were:");
-            for (int i = 0; i < words.length; i++) {
-                IO.println(words[i]);
-            }
-        }
+        terminal.play(session, _ -> "Guess the word: ");
     }
 
     // Accessor methods (required by your VisibilityModifier rule)
@@ -1,5 +1,10 @@
+import java.util.Arrays;
+
 public class WordleLogic {
 
+    /** Latency of {@link #submitGuess}, for the metrics overlay. */
+    private static final LatencyHistogram SUBMIT_TIME = Metrics.submitGuess("wordle");
+
     public enum Tile {
         /** Incorrect letter. */
         GREY,
@@ -17,8 +22,11 @@ public class WordleLogic {
         /** Tile feedback for each secret word [wordIndex][letterIndex]. */
         private final Tile[][] tilesByWord;
 
-        /** Which secret words are solved after this turn. */
-        private final boolean[] solved;
+        /** Which secret words are solved after this turn (bit w = word w). */
+        private final long[] solvedMask;
+
+        /** Number of secret words. */
+        private final int wordsCount;
 
         /** Remaining guesses after this turn. */
         private final int remainingGuesses;
@@ -32,14 +40,15 @@ public class WordleLogic {
         TurnResult(
                 String guessValue,
                 Tile[][] tilesByWordValue,
-                boolean[] solvedValue,
+                long[] solvedMaskValue,
                 int remainingGuessesValue,
                 boolean gameWonValue,
                 boolean gameOverValue
         ) {
             this.guess = guessValue;
             this.tilesByWord = tilesByWordValue;
-            this.solved = solvedValue;
+            this.solvedMask = solvedMaskValue;
+            this.wordsCount = tilesByWordValue.length;
             this.remainingGuesses = remainingGuessesValue;
             this.gameWon = gameWonValue;
             this.gameOver = gameOverValue;
@@ -49,12 +58,24 @@ public class WordleLogic {
             return guess;
         }
 
+        /**
+         * Tiles per word. Rows of words solved before this turn are one shared
+         * all-green row and must not be changed.
+         */
         public Tile[][] getTilesByWord() {
             return tilesByWord;
         }
 
+        public boolean isSolved(int wordIndex) {
+            return isSet(solvedMask, wordIndex);
+        }
+
         public boolean[] getSolved() {
-            return solved;
+            boolean[] out = new boolean[wordsCount];
+            for (int w = 0; w < wordsCount; w++) {
+                out[w] = isSolved(w);
+            }
+            return out;
         }
 
         public int getRemainingGuesses() {
@@ -87,15 +108,13 @@ public class WordleLogic {
         this.letters = len;
 
         this.words = new String[wordsCount];
-        this.solved = new boolean[wordsCount];
-
         for (int i = 0; i < wordsCount; i++) {
             this.words[i] = fixedWords[i].toUpperCase();
-            this.solved[i] = false;
         }
 
         this.chances = wordsCount + 4;
         this.tries = 0;
+        initSolvedState();
     }
 
     /** Number of secret words to solve. */
@@ -107,8 +126,20 @@ public class WordleLogic {
     /** Secret words (uppercase). */
     private final String[] words;
 
-    /** Which secret words are solved. */
-    private final boolean[] solved;
+    /** Which secret words are solved: bit w of the mask (64 words per long). */
+    private long[] solvedMask;
+
+    /** Number of words not solved yet, so won/over checks are O(1). */
+    private int unsolvedCount;
+
+    /** Indices of the unsolved words in ascending order; only the first activeCount are used. */
+    private int[] active;
+
+    /** Number of entries used in {@link #active}. */
+    private int activeCount;
+
+    /** Tile row of a solved word (all green), shared by every result. */
+    private Tile[] solvedRow;
 
     /** Total number of allowed guesses. */
     private final int chances;
@@ -116,7 +147,21 @@ public class WordleLogic {
     /** Number of tries already used. */
     private int tries;
 
+    /** Whether every guess must use the revealed letters of some unsolved word. */
+    private boolean hardMode;
+
+    /** What the feedback so far says about each word, updated once per turn. */
+    private LetterConstraints[] constraints;
+
     public WordleLogic(int wordsCountValue, int lettersValue, Language langValue) {
+        this(wordsCountValue, lettersValue, langValue, null);
+    }
+
+    /**
+     * Picks the secret words only among words whose difficulty rating lies in the band.
+     * Falls back to the whole list if no ratings exist or too few words match.
+     */
+    public WordleLogic(int wordsCountValue, int lettersValue, Language langValue, DifficultyBand band) {
         this.wordsCount = wordsCountValue;
         this.letters = lettersValue;
 
@@ -126,22 +171,48 @@ public class WordleLogic {
         }
 
         this.words = new String[wordsCount];
-        this.solved = new boolean[wordsCount];
 
-        boolean[] used = new boolean[list.length];
+        int[] pool = DifficultyRatings.pool(DifficultyRatings.WORDLE, langValue, letters, band, wordsCount);
+
+        boolean[] used = new boolean[pool.length];
         for (int i = 0; i < wordsCount; i++) {
             int r;
             do {
-                r = (int) (Math.random() * list.length);
+                r = (int) (Math.random() * pool.length);
             } while (used[r]);
 
             used[r] = true;
-            words[i] = list[r].toUpperCase();
-            solved[i] = false;
+            words[i] = list[pool[r]].toUpperCase();
         }
 
         this.chances = wordsCount + 4;
         this.tries = 0;
+        initSolvedState();
+    }
+
+    /**
+     * Starts with every word unsolved and active.
+     */
+    private void initSolvedState() {
+        solvedMask = new long[(wordsCount + 63) >>> 6];
+        unsolvedCount = wordsCount;
+        active = new int[wordsCount];
+        for (int w = 0; w < wordsCount; w++) {
+            active[w] = w;
+        }
+        activeCount = wordsCount;
+
+        solvedRow = new Tile[letters];
+        Arrays.fill(solvedRow, Tile.GREEN);
+
+        constraints = new LetterConstraints[wordsCount];
+        for (int w = 0; w < wordsCount; w++) {
+            constraints[w] = new LetterConstraints(letters);
+        }
+    }
+
+    private static boolean isSet(long[] mask, int index) {
+        return (mask[index >>> 6] & (1L << index)) != 0;
     }
 
     public int getChances() {
@@ -152,25 +223,67 @@ public class WordleLogic {
         return letters;
     }
 
+    public int getWordsCount() {
+        return wordsCount;
+    }
+
+    public String getWord(int wordIndex) {
+        return words[wordIndex];
+    }
+
     public String[] getWords() {
-        String[] out = new String[words.length];
-        System.arraycopy(words, 0, out, 0, words.length);
-        return out;
+        return words.clone();
+    }
+
+    public boolean isSolved(int wordIndex) {
+        return isSet(solvedMask, wordIndex);
     }
 
     public boolean[] getSolved() {
-        boolean[] out = new boolean[solved.length];
-        System.arraycopy(solved, 0, out, 0, solved.length);
+        boolean[] out = new boolean[wordsCount];
+        for (int w = 0; w < wordsCount; w++) {
+            out[w] = isSolved(w);
+        }
         return out;
     }
 
+    /**
+     * Number of words not solved yet.
+     */
+    public int getUnsolvedCount() {
+        return unsolvedCount;
+    }
+
+    /**
+     * Indices of the words not solved yet, in ascending order.
+     */
+    public int[] getActiveIndices() {
+        return Arrays.copyOf(active, activeCount);
+    }
+
+    /**
+     * Turns hard mode on or off (set it before the first guess). In hard mode a guess
+     * must use every green and yellow letter revealed for at least one unsolved word;
+     * with several words the hints of different boards usually contradict each other.
+     */
+    public void setHardMode(boolean hardModeValue) {
+        this.hardMode = hardModeValue;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    /**
+     * What the feedback so far says about a word (fixed letters, letter counts,
+     * absent letters). A solved word has every letter fixed.
+     */
+    public LetterConstraints getConstraints(int wordIndex) {
+        return constraints[wordIndex];
+    }
+
     public boolean isGameWon() {
-        for (boolean b : solved) {
-            if (!b) {
-                return false;
-            }
-        }
-        return true;
+        return unsolvedCount == 0;
     }
 
     public boolean isGameOver() {
@@ -183,6 +296,20 @@ public class WordleLogic {
      * Returns a 2D tile array: tilesByWord[wordIndex][letterIndex].
      */
     public TurnResult submitGuess(String guessRaw) {
+        GameEvents.Guess event = new GameEvents.Guess();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return playGuess(guessRaw);
+        } finally {
+            SUBMIT_TIME.recordSince(start);
+            event.mode = "wordle";
+            event.guess = guessRaw;
+            event.commit();
+        }
+    }
+
+    private TurnResult playGuess(String guessRaw) {
 
         // ----- If the game is already finished, return a safe "empty" result -----
         if (isGameOver()) {
@@ -194,7 +321,7 @@ public class WordleLogic {
             }
 
             // tries is already at end, remaining guesses = 0, gameOver = true
-            return new TurnResult("", empty, getSolved(), 0, isGameWon(), true);
+            return new TurnResult("", empty, solvedMask.clone(), 0, isGameWon(), true);
         }
 
         // ----- Normalize and validate the guess -----
@@ -202,43 +329,52 @@ public class WordleLogic {
         if (guess.length() != letters) {
             throw new IllegalArgumentException("Guess must be exactly " + letters + " letters.");
         }
+        if (hardMode) {
+            checkHardMode(guess);
+        }
 
         // ----- Consume one attempt -----
         tries++;
 
-        // tilesByWord[w][i] stores the feedback for secret word w at position i
-        Tile[][] tilesByWord = new Tile[wordsCount][letters];
-
-        // ----- Score this guess against every secret word -----
+        // tilesByWord[w][i] stores the feedback for secret word w at position i.
+        // Boards solved earlier stay fully green (so the UI can keep showing them)
+        // and are not scored again.
+        Tile[][] tilesByWord = new Tile[wordsCount][];
         for (int w = 0; w < wordsCount; w++) {
+            tilesByWord[w] = solvedRow;
+        }
 
-            // If the guess exactly matches this word, mark it solved
-            if (!solved[w] && guess.equals(words[w])) {
-                solved[w] = true;
-            }
-
-            // Compute standard Wordle score (2=green, 1=yellow, 0=grey)
-            int[] status = scoreWordle(words[w], guess);
+        // ----- Score this guess against every active word, compacting the active list -----
+        Tile[] tiles = Tile.values();
+        int kept = 0;
+        for (int k = 0; k < activeCount; k++) {
+            int w = active[k];
 
-            // Convert int status codes to Tile enums for this word
-            for (int i = 0; i < letters; i++) {
-                if (status[i] == 2) {
-                    tilesByWord[w][i] = Tile.GREEN;
-                } else if (status[i] == 1) {
-                    tilesByWord[w][i] = Tile.YELLOW;
-                } else {
-                    tilesByWord[w][i] = Tile.GREY;
+            // If the guess exactly matches this word, mark it solved (and drop it from the list)
+            if (guess.equals(words[w])) {
+                solvedMask[w >>> 6] |= 1L << w;
+                unsolvedCount--;
+                for (int i = 0; i < letters; i++) {
+                    constraints[w].fix(i, guess.charAt(i));
                 }
+                continue;
             }
+            active[kept++] = w;
 
-            // If this word is solved, force the entire row to GREEN
-            // (so the UI can display a fully-green solved board)
-            if (solved[w]) {
-                for (int i = 0; i < letters; i++) {
-                    tilesByWord[w][i] = Tile.GREEN;
+            // Standard Wordle score, one base-3 digit per position (2=green, 1=yellow, 0=grey)
+            int code = scorePacked(words[w], guess);
+            constraints[w].addPresence(guess, code);
+            Tile[] row = new Tile[letters];
+            for (int i = 0; i < letters; i++) {
+                row[i] = tiles[code % 3];
+                if (row[i] == Tile.GREEN) {
+                    constraints[w].fix(i, guess.charAt(i));
                 }
+                code /= 3;
             }
+            tilesByWord[w] = row;
         }
+        activeCount = kept;
 
         // ----- Compute overall game state after scoring all words -----
         boolean won = isGameWon();
@@ -248,13 +384,32 @@ public class WordleLogic {
         return new TurnResult(
                 guess,
                 tilesByWord,
-                getSolved(),
+                solvedMask.clone(),
                 Math.max(0, chances - tries),
                 won,
                 over
         );
     }
 
+    /**
+     * Accepts the guess if it uses the revealed letters of at least one unsolved word,
+     * otherwise throws with the reason for the first unsolved word. O(letters) per word.
+     */
+    private void checkHardMode(String guess) {
+        String reason = null;
+        for (int k = 0; k < activeCount; k++) {
+            String r = constraints[active[k]].check(guess);
+            if (r == null) {
+                return;
+            }
+            if (reason == null) {
+                reason = (wordsCount > 1) ? "Word " + (active[k] + 1) + ": " + r : r;
+            }
+        }
+        if (reason != null) {
+            throw new IllegalArgumentException("Hard mode: " + reason);
+        }
+    }
 
     /**
      * Standard Wordle scoring algorithm for a single secret word.
@@ -263,8 +418,9 @@ public class WordleLogic {
      * 1 = yellow (letter exists elsewhere in the word)
      * 0 = grey (letter not present)
      * Uses a two-pass approach to handle duplicate letters correctly.
+     * Games score with {@link #scorePacked}; this readable version is what it is tested against.
      */
-    private static int[] scoreWordle(String word, String guess) {
+    static int[] scoreWordle(String word, String guess) {
 
         int n = word.length();
         int[] status = new int[n];
@@ -302,4 +458,60 @@ public class WordleLogic {
 
         return status;
     }
+
+    /**
+     * Allocation-free version of {@link #scoreWordle} that packs the result into one int:
+     * digit i (base 3) is the status at position i (0 = grey, 1 = yellow, 2 = green).
+     * Solvers score millions of word pairs, so this avoids the temporary arrays.
+     */
+    static int scorePacked(String word, String guess) {
+        int n = word.length();
+        int code = 0;
+        int pow = 1;
+
+        for (int i = 0; i < n; i++) {
+            char c = guess.charAt(i);
+            int status = 0;
+
+            if (c == word.charAt(i)) {
+                status = 2;
+            } else {
+                // Copies of c in the word that are not matched green...
+                int available = 0;
+                for (int j = 0; j < n; j++) {
+                    if (word.charAt(j) == c && guess.charAt(j) != c) {
+                        available++;
+                    }
+                }
+                // ...minus the ones already taken by earlier non-green copies in the guess
+                int usedBefore = 0;
+                for (int j = 0; j < i; j++) {
+                    if (guess.charAt(j) == c && word.charAt(j) != c) {
+                        usedBefore++;
+                    }
+                }
+                if (usedBefore < available) {
+                    status = 1;
+                }
+            }
+
+            code += status * pow;
+            pow *= 3;
+        }
+
+        return code;
+    }
+
+    /**
+     * Packs one board row of tiles the same way as {@link #scorePacked}.
+     */
+    static int packTiles(Tile[] row) {
+        int code = 0;
+        int pow = 1;
+        for (Tile t : row) {
+            code += t.ordinal() * pow;
+            pow *= 3;
+        }
+        return code;
+    }
 }
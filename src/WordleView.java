@@ -13,24 +13,36 @@ import javafx.scene.layout.VBox;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class WordleView extends BorderPane {
 
+    /** Pause in typing (ms) before the live candidate counts are updated. */
+    private static final long LIVE_COUNT_DELAY_MS = 60;
+
     /**
      * Single tile cell with a hint label behind and a main label on top.
+     * Remembers what it shows, so setting the same hint or background again
+     * costs no setText/setStyle call (and no CSS pass).
      */
     private static class Cell extends StackPane {
 
         private final Label hint = new Label("");
         private final Label main = new Label("");
 
+        /** Hint letter shown right now (0 = none). */
+        private char shownHint = 0;
+
+        /** Background style shown right now. */
+        private String shownBg;
+
         Cell() {
             setMinSize(GameStyles.TILE_SIZE, GameStyles.TILE_SIZE);
             setPrefSize(GameStyles.TILE_SIZE, GameStyles.TILE_SIZE);
             setMaxSize(GameStyles.TILE_SIZE, GameStyles.TILE_SIZE);
 
             // Match other games: dark empty tile
-            setStyle(GameStyles.tileBase() + GameStyles.tileEmpty());
+            setTileBg(GameStyles.tileEmpty());
 
             // Hint should be faint WHITE on dark background
             hint.setStyle("-fx-font-size: 22px; -fx-font-weight: bold; -fx-text-fill: rgba(255,255,255,0.25);");
@@ -43,10 +55,18 @@ public class WordleView extends BorderPane {
         }
 
         void setHint(char ch) {
+            if (shownHint == ch) {
+                return;
+            }
+            shownHint = ch;
             hint.setText(String.valueOf(ch));
         }
 
         void clearHint() {
+            if (shownHint == 0) {
+                return;
+            }
+            shownHint = 0;
             hint.setText("");
         }
 
@@ -63,24 +83,27 @@ public class WordleView extends BorderPane {
         }
 
         void setTileBgEmpty() {
-            setStyle(GameStyles.tileBase() + GameStyles.tileEmpty());
-            // keep main white
-            main.setStyle("-fx-font-size: 22px; -fx-font-weight: bold; -fx-text-fill: white;");
+            setTileBg(GameStyles.tileEmpty());
         }
 
         void setTileBgGrey() {
-            setStyle(GameStyles.tileBase() + GameStyles.tileGrey());
-            main.setStyle("-fx-font-size: 22px; -fx-font-weight: bold; -fx-text-fill: white;");
+            setTileBg(GameStyles.tileGrey());
         }
 
         void setTileBgYellow() {
-            setStyle(GameStyles.tileBase() + GameStyles.tileYellow());
-            main.setStyle("-fx-font-size: 22px; -fx-font-weight: bold; -fx-text-fill: white;");
+            setTileBg(GameStyles.tileYellow());
         }
 
         void setTileBgGreen() {
-            setStyle(GameStyles.tileBase() + GameStyles.tileGreen());
-            main.setStyle("-fx-font-size: 22px; -fx-font-weight: bold; -fx-text-fill: white;");
+            setTileBg(GameStyles.tileGreen());
+        }
+
+        private void setTileBg(String bg) {
+            if (bg.equals(shownBg)) {
+                return;
+            }
+            shownBg = bg;
+            setStyle(GameStyles.tileBase() + bg);
         }
     }
 
@@ -96,9 +119,29 @@ public class WordleView extends BorderPane {
     private final String language;
 
     /**
-     * Game logic instance.
+     * Game logic instance (replaced by {@link #reset}).
+     */
+    private WordleLogic game;
+
+    /** Session the guesses are played through (game state and input checks). */
+    private GameSession<WordleLogic.TurnResult> session;
+
+    /**
+     * Dictionary checks off the FX thread (answers come back via Platform.runLater).
      */
-    private final WordleLogic game;
+    private final GuessValidator validator = new GuessValidator(HunspellChecker::isValidWord, Platform::runLater);
+
+    /** Candidates per board for the live counts while typing (replaced by {@link #reset}). */
+    private CandidateTracker tracker;
+
+    /** Computes the live counts off the FX thread once typing pauses. */
+    private final Debouncer liveCounts = new Debouncer(LIVE_COUNT_DELAY_MS, Platform::runLater);
+
+    /** Looks up a suggested guess off the FX thread; a new game or turn drops an older answer. */
+    private final Debouncer suggestions = new Debouncer(0, Platform::runLater);
+
+    /** Whether {@link #message} shows the "no word starts with" flag (so only that is cleared). */
+    private boolean prefixFlagged;
 
     /** Back button (shown after game ends). */
     private final Button backBtn;
@@ -106,6 +149,12 @@ public class WordleView extends BorderPane {
     /** Give up button. */
     private final Button giveUpBtn;
 
+    /** Play again button (shown after the game ends). */
+    private final Button playAgainBtn;
+
+    /** Scroll pane with all boards (the center while a game is running). */
+    private final ScrollPane boardsScroll;
+
 
     /**
      * Letters per word.
@@ -157,6 +206,11 @@ public class WordleView extends BorderPane {
      */
     private final HBox[][] rowBoxes;
 
+    /**
+     * Header labels per word (title and live candidate count).
+     */
+    private final Label[] headers;
+
     /**
      * SOLVED labels per word.
      */
@@ -167,11 +221,6 @@ public class WordleView extends BorderPane {
      */
     private final boolean[] solvedBefore;
 
-    /**
-     * Known green letters to show as hints per word.
-     */
-    private final char[][] knownGreens;
-
     /**
      * Set of used letters (A-Z only) for keyboard greying logic.
      */
@@ -188,14 +237,17 @@ public class WordleView extends BorderPane {
     private boolean uiLocked = false;
 
     public WordleView(Navigator navigator, String languageValue, int lettersValue, int wordsCountValue) {
+        this(navigator, languageValue, new WordleLogic(wordsCountValue, lettersValue, new Language(languageValue)));
+    }
+
+    public WordleView(Navigator navigator, String languageValue, WordleLogic gameValue) {
         this.nav = navigator;
         this.language = languageValue;
+        this.game = gameValue;
+        this.session = startSession(gameValue);
 
-        Language lang = new Language(language);
-        this.game = new WordleLogic(wordsCountValue, lettersValue, lang);
-
-        this.letters = lettersValue;
-        this.wordsCount = wordsCountValue;
+        this.letters = game.getLetters();
+        this.wordsCount = game.getWordsCount();
         this.chances = game.getChances();
         this.current = new char[letters];
 
@@ -205,9 +257,10 @@ public class WordleView extends BorderPane {
 
         this.cells = new Cell[wordsCount][chances][letters];
         this.rowBoxes = new HBox[wordsCount][chances];
+        this.headers = new Label[wordsCount];
         this.solvedLabels = new Label[wordsCount];
         this.solvedBefore = new boolean[wordsCount];
-        this.knownGreens = new char[wordsCount][letters];
+        this.tracker = newTracker();
 
         Label title = new Label("Wordle");
         title.setStyle(GameStyles.TITLE);
@@ -221,7 +274,7 @@ public class WordleView extends BorderPane {
         boardsPane.setPadding(new Insets(15));
         boardsPane.setAlignment(Pos.TOP_CENTER);
 
-        ScrollPane boardsScroll = new ScrollPane(boardsPane);
+        this.boardsScroll = new ScrollPane(boardsPane);
         boardsScroll.setFitToWidth(true);
         boardsScroll.setFitToHeight(false);
         boardsScroll.setPannable(true);
@@ -231,6 +284,7 @@ public class WordleView extends BorderPane {
         for (int w = 0; w < wordsCount; w++) {
             Label header = new Label("Word " + (w + 1));
             header.setStyle("-fx-font-size: 20px; -fx-font-weight: bold;");
+            headers[w] = header;
 
             Label solvedLabel = new Label("");
             solvedLabel.setStyle("-fx-text-fill: green; -fx-font-size: 14px;");
@@ -273,19 +327,33 @@ public class WordleView extends BorderPane {
         backBtn.setManaged(false);
         backBtn.setOnAction(_ -> nav.goToSettings(language, "Wordle"));
 
+        this.playAgainBtn = new Button("Play again");
+        playAgainBtn.setPrefWidth(160);
+        playAgainBtn.setPrefHeight(44);
+        playAgainBtn.getStyleClass().add("big");
+        playAgainBtn.setFocusTraversable(false);
+        playAgainBtn.setVisible(false);
+        playAgainBtn.setManaged(false);
+
         this.giveUpBtn = new Button("Give up");
         giveUpBtn.setPrefWidth(160);
         giveUpBtn.setPrefHeight(44);
         giveUpBtn.getStyleClass().add("big");
         giveUpBtn.setFocusTraversable(false);
 
+        Button hintBtn = new Button("Hint");
+        hintBtn.setPrefWidth(160);
+        hintBtn.setPrefHeight(44);
+        hintBtn.getStyleClass().add("big");
+        hintBtn.setFocusTraversable(false);
+        hintBtn.setOnAction(_ -> suggestGuess());
 
         KeyboardPane keyboard = buildLetterKeyboard();
 
-        HBox topActions = new HBox(12, backBtn);
+        HBox topActions = new HBox(12, backBtn, playAgainBtn);
         topActions.setAlignment(Pos.CENTER);
 
-        HBox giveUpRow = new HBox(giveUpBtn);
+        HBox giveUpRow = new HBox(12, hintBtn, giveUpBtn);
         giveUpRow.setAlignment(Pos.CENTER);
 
         VBox bottom = new VBox(10, topActions, remaining, message, keyboard, giveUpRow);
@@ -293,7 +361,10 @@ public class WordleView extends BorderPane {
         bottom.setPadding(new Insets(14));
         setBottom(bottom);
 
-        giveUpBtn.setOnAction(_ -> showStandardLoseWordle("You gave up."));
+        giveUpBtn.setOnAction(_ -> {
+            session.giveUp();
+            showStandardLoseWordle("You gave up.");
+        });
 
         setFocusTraversable(true);
         setOnMousePressed(_ -> requestFocus());
@@ -302,6 +373,8 @@ public class WordleView extends BorderPane {
             if (uiLocked) {
                 return;
             }
+            FrameTimer.keystroke(getScene());
+
             if (game.isGameOver()) {
                 return;
             }
@@ -329,16 +402,122 @@ public class WordleView extends BorderPane {
             layout();
             requestFocus();
             refreshHintsForTypingRow();
+            updateLiveCounts();
+        });
+
+    }
+
+    // ---------- Reuse ----------
+
+    /**
+     * Whether a game has the same shape as this view (letters, words, guesses),
+     * so {@link #reset} can reuse the boards.
+     */
+    boolean fits(WordleLogic other) {
+        return other.getLetters() == letters
+                && other.getWordsCount() == wordsCount
+                && other.getChances() == chances;
+    }
+
+    /**
+     * Starts the session for a game. Words are checked by the {@link GuessValidator}
+     * before they are submitted, so the session does not check them again.
+     */
+    private GameSession<WordleLogic.TurnResult> startSession(WordleLogic logic) {
+        GameSession<WordleLogic.TurnResult> s = GameSession.wordle(logic, null);
+        s.addListener(new GameSession.Listener<>() {
+            @Override
+            public void onTurn(WordleLogic.TurnResult result) {
+                tracker.addTurn(result);
+                suggestions.cancel();
+            }
+
+            @Override
+            public void onRejected(String guess, String reason) {
+                message.setText(reason);
+            }
         });
+        return s;
+    }
+
+    /**
+     * Starts a new game in this view, reusing its node graph (boards, rows, keyboard)
+     * instead of building a new view.
+     *
+     * @throws IllegalArgumentException if the game does not {@link #fits fit} this view
+     */
+    void reset(WordleLogic newGame) {
+        if (!fits(newGame)) {
+            throw new IllegalArgumentException("Game does not fit this view.");
+        }
+
+        validator.cancel();
+        liveCounts.cancel();
+        suggestions.cancel();
+        game = newGame;
+        tracker = newTracker();
+        session = startSession(newGame);
+        prefixFlagged = false;
+
+        rowIndex = 0;
+        colIndex = 0;
+        for (int i = 0; i < letters; i++) {
+            current[i] = 0;
+        }
+
+        for (int w = 0; w < wordsCount; w++) {
+            solvedBefore[w] = false;
+            solvedLabels[w].setText("");
+            headers[w].setText("Word " + (w + 1));
+
+            for (int r = 0; r < chances; r++) {
+                for (int c = 0; c < letters; c++) {
+                    Cell cell = cells[w][r][c];
+                    cell.clearMain();
+                    cell.clearHint();
+                    cell.setTileBgEmpty();
+                }
+                rowBoxes[w][r].setVisible(r == 0);
+                rowBoxes[w][r].setManaged(r == 0);
+            }
+        }
+
+        usedLetters.clear();
+        keyboardColors.reset();
+
+        remaining.setText("Guesses left: " + chances);
+        message.setStyle(GameStyles.MSG_RED);
+        message.setText("");
+
+        uiLocked = false;
+        giveUpBtn.setVisible(true);
+        giveUpBtn.setManaged(true);
+        backBtn.setVisible(false);
+        backBtn.setManaged(false);
+        playAgainBtn.setVisible(false);
+        playAgainBtn.setManaged(false);
+        setCenter(boardsScroll);
+
+        refreshHintsForTypingRow();
+        updateLiveCounts();
+        requestFocus();
+    }
 
+    /**
+     * Candidate tracking for the current game, over the game's word list.
+     * The trie is looked up (and built the first time) by the first live count,
+     * off the FX thread; the headers show counts once it is ready.
+     */
+    private CandidateTracker newTracker() {
+        Language lang = nav.language(language);
+        return new CandidateTracker(() -> PrefixTrie.of(lang, letters), wordsCount);
     }
 
     // ---------- Submit ----------
 
     /**
-     * Main "ENTER" handler: validates the current guess, submits it to the logic,
-     * paints the result on all active boards, updates keyboard + counters,
-     * and advances to the next row (or ends the game).
+     * Main "ENTER" handler: starts the dictionary check of the current guess.
+     * The check runs off the FX thread; {@link #finishSubmit} continues once it answers.
      */
     private void submit() {
         if (uiLocked) {
@@ -350,8 +529,22 @@ public class WordleView extends BorderPane {
         }
 
         String guessRaw = new String(current);
+        validator.validate(guessRaw, valid -> finishSubmit(guessRaw, valid));
+    }
 
-        if (!isValidGuessWord(guessRaw)) {
+    /**
+     * Second half of ENTER, run on the FX thread with the dictionary answer:
+     * submits the guess to the logic, paints the result on all active boards,
+     * updates keyboard + counters, and advances to the next row (or ends the game).
+     */
+    private void finishSubmit(String guessRaw, boolean valid) {
+        // The board may have changed while the check was running
+        if (uiLocked || !guessRaw.equals(new String(current)) || !canSubmit()) {
+            return;
+        }
+
+        if (!valid) {
+            message.setText("Not a valid word.");
             return;
         }
 
@@ -396,18 +589,6 @@ public class WordleView extends BorderPane {
         return true;
     }
 
-    /**
-     * Validates the guess using Hunspell (dictionary check).
-     * If invalid, shows an error message.
-     */
-    private boolean isValidGuessWord(String guessRaw) {
-        if (!HunspellChecker.isValidWord(guessRaw)) {
-            message.setText("Not a valid word.");
-            return false;
-        }
-        return true;
-    }
-
     /**
      * Adds each letter from the guess to the "used letters" set,
      * so the keyboard can be updated later.
@@ -422,18 +603,13 @@ public class WordleView extends BorderPane {
     }
 
     /**
-     * Calls the game logic to score the guess and produce a TurnResult.
-     * Catches and displays any validation error coming from the logic.
+     * Plays the guess through the session to produce a TurnResult.
+     * A rejected guess shows its reason in the message label.
      *
      * @return the TurnResult, or null if submission failed
      */
     private WordleLogic.TurnResult submitToLogic(String guessRaw) {
-        try {
-            return game.submitGuess(guessRaw);
-        } catch (IllegalArgumentException ex) {
-            message.setText(ex.getMessage());
-            return null;
-        }
+        return session.submit(guessRaw);
     }
 
     /**
@@ -446,14 +622,13 @@ public class WordleView extends BorderPane {
 
         String guess = result.getGuess();
         WordleLogic.Tile[][] tilesByWord = result.getTilesByWord();
-        boolean[] solvedNowArr = result.getSolved();
 
         for (int w = 0; w < wordsCount; w++) {
             if (solvedBefore[w]) {
                 continue;
             }
 
-            boolean solvedNow = solvedNowArr[w];
+            boolean solvedNow = result.isSolved(w);
             if (solvedNow) {
                 solvedLabels[w].setText("SOLVED!");
                 solvedBefore[w] = true;
@@ -465,7 +640,6 @@ public class WordleView extends BorderPane {
 
     /**
      * Paints a single board row (one word board, one guess row).
-     * Also records newly discovered green letters into knownGreens for hints.
      */
     private void paintBoardRow(
             int wordIndex,
@@ -474,6 +648,9 @@ public class WordleView extends BorderPane {
             WordleLogic.Tile[][] tilesByWord,
             boolean solvedNow
     ) {
+        GameEvents.Paint event = new GameEvents.Paint();
+        event.begin();
+
         for (int c = 0; c < letters; c++) {
             Cell cell = cells[wordIndex][paintedRow][c];
             char ch = guess.charAt(c);
@@ -483,18 +660,18 @@ public class WordleView extends BorderPane {
 
             WordleLogic.Tile tile = tilesByWord[wordIndex][c];
 
-            if (solvedNow) {
-                cell.setTileBgGreen();
-                knownGreens[wordIndex][c] = ch;
-            } else if (tile == WordleLogic.Tile.GREEN) {
+            if (solvedNow || tile == WordleLogic.Tile.GREEN) {
                 cell.setTileBgGreen();
-                knownGreens[wordIndex][c] = ch;
             } else if (tile == WordleLogic.Tile.YELLOW) {
                 cell.setTileBgYellow();
             } else {
                 cell.setTileBgGrey();
             }
         }
+
+        event.view = "wordle";
+        event.tiles = letters;
+        event.commit();
     }
 
     /**
@@ -532,7 +709,9 @@ public class WordleView extends BorderPane {
         }
 
         message.setText("");
+        prefixFlagged = false;
         refreshHintsForTypingRow();
+        updateLiveCounts();
         requestFocus();
     }
 
@@ -551,8 +730,8 @@ public class WordleView extends BorderPane {
 
     /**
      * Types one letter into the current row (all unsolved boards),
-     * updates the displayed tiles, advances the column,
-     * and refreshes hint letters behind empty tiles.
+     * updates the displayed tiles and advances the column.
+     * Only the typed column changes, so only its cells are touched.
      */
     private void typeChar(char ch) {
         if (uiLocked) {
@@ -574,6 +753,7 @@ public class WordleView extends BorderPane {
         }
 
         current[colIndex] = upper;
+        validator.cancel();
 
         for (int w = 0; w < wordsCount; w++) {
             if (solvedBefore[w]) {
@@ -582,15 +762,21 @@ public class WordleView extends BorderPane {
             Cell cell = cells[w][rowIndex][colIndex];
             cell.setMain(upper);
             cell.setTileBgEmpty();
+            cell.clearHint();
         }
 
         colIndex++;
-        refreshHintsForTypingRow();
+        updateLiveCounts();
+
+        // Row complete: start the dictionary check now, so ENTER finds it ready
+        if (colIndex == letters) {
+            validator.prefetch(new String(current));
+        }
     }
 
     /**
      * Deletes the last typed character in the current row (all unsolved boards),
-     * clears the tile, and refreshes hints.
+     * clears the tile, and shows that column's hint again.
      */
     private void backspace() {
         if (uiLocked) {
@@ -608,6 +794,7 @@ public class WordleView extends BorderPane {
 
         colIndex--;
         current[colIndex] = 0;
+        validator.cancel();
 
         for (int w = 0; w < wordsCount; w++) {
             if (solvedBefore[w]) {
@@ -616,14 +803,95 @@ public class WordleView extends BorderPane {
             Cell cell = cells[w][rowIndex][colIndex];
             cell.clearMain();
             cell.setTileBgEmpty();
+            showHint(w, colIndex);
         }
+        updateLiveCounts();
+    }
 
-        refreshHintsForTypingRow();
+    // ---------- Suggested guess ----------
+
+    /**
+     * Asks for a guess (opening book or heuristic solver) on a virtual thread;
+     * {@link #typeSuggestion} types it in once it is found.
+     */
+    private void suggestGuess() {
+        if (uiLocked || game.isGameOver()) {
+            return;
+        }
+
+        CandidateTracker t = tracker;
+        Language lang = nav.language(language);
+        boolean hard = game.isHardMode();
+        requestFocus();
+
+        // "" = no suggestion (the debouncer drops null answers)
+        suggestions.submit(() -> {
+            OpeningBook book = OpeningBook.load(DifficultyRatings.WORDLE, lang, letters);
+            String guess = t.suggest(lang.getStats(letters), book, hard);
+            return (guess != null) ? guess : "";
+        }, guess -> typeSuggestion(t, guess));
+    }
+
+    /**
+     * Types a guess found by {@link #suggestGuess()} into the current row.
+     */
+    private void typeSuggestion(CandidateTracker t, String guess) {
+        if (t != tracker || uiLocked || game.isGameOver()) {
+            return;
+        }
+        if (guess.isEmpty()) {
+            message.setText("No hint available.");
+            return;
+        }
+
+        while (colIndex > 0) {
+            backspace();
+        }
+        for (int i = 0; i < guess.length(); i++) {
+            typeChar(guess.charAt(i));
+        }
+        requestFocus();
     }
 
+    // ---------- Live candidate counts ----------
+
     /**
-     * Refreshes hint letters (known green positions) for the row being typed:
-     * for each unsolved board, show a faint hint behind empty cells.
+     * Recounts, once typing pauses and off the FX thread, how many candidates of each
+     * board fit the feedback so far and start with the letters typed in this row.
+     */
+    private void updateLiveCounts() {
+        String prefix = new String(current, 0, colIndex);
+        CandidateTracker t = tracker;
+        liveCounts.submit(() -> t.count(prefix), counts -> showLiveCounts(t, prefix, counts));
+    }
+
+    /**
+     * Shows the counts in the board headers and flags a prefix no word starts with.
+     */
+    private void showLiveCounts(CandidateTracker t, String prefix, CandidateTracker.Counts counts) {
+        // A new game or the end screen may have come in meanwhile
+        if (t != tracker || uiLocked) {
+            return;
+        }
+
+        for (int w = 0; w < wordsCount; w++) {
+            int n = counts.counts()[w];
+            headers[w].setText((n < 0) ? "Word " + (w + 1) : "Word " + (w + 1) + " - " + n + " left");
+        }
+
+        if (!counts.validPrefix()) {
+            message.setText("No word starts with " + prefix + ".");
+            prefixFlagged = true;
+        } else if (prefixFlagged) {
+            message.setText("");
+            prefixFlagged = false;
+        }
+    }
+
+    /**
+     * Refreshes hint letters (known green positions) for the whole row being typed,
+     * e.g. after moving to a new row. Cells skip unchanged values, so only
+     * columns whose hint really changed are redrawn.
      */
     private void refreshHintsForTypingRow() {
         if (rowIndex >= chances) {
@@ -636,20 +904,27 @@ public class WordleView extends BorderPane {
             }
 
             for (int c = 0; c < letters; c++) {
-                Cell cell = cells[w][rowIndex][c];
-
-                cell.setTileBgEmpty();
-
-                char hint = knownGreens[w][c];
-                if (hint != 0 && !cell.hasMain()) {
-                    cell.setHint(hint);
-                } else {
-                    cell.clearHint();
-                }
+                cells[w][rowIndex][c].setTileBgEmpty();
+                showHint(w, c);
             }
         }
     }
 
+    /**
+     * Shows the faint hint of one cell of the typing row if it is empty and a green is known.
+     */
+    private void showHint(int w, int c) {
+        Cell cell = cells[w][rowIndex][c];
+
+        // Greens found so far, as summed up by the game logic
+        char hint = game.getConstraints(w).getFixed(c);
+        if (hint != 0 && !cell.hasMain()) {
+            cell.setHint(hint);
+        } else {
+            cell.clearHint();
+        }
+    }
+
     /**
      * Greys out keyboard letters that are either:
      * - not present in any target word, OR
@@ -677,7 +952,7 @@ public class WordleView extends BorderPane {
                         appearsInThisWord = true;
                         appearsSomewhere = true;
 
-                        if (knownGreens[w][pos] != letter) {
+                        if (game.getConstraints(w).getFixed(pos) != letter) {
                             allOccurrencesGreen = false;
                         }
                     }
@@ -697,20 +972,45 @@ public class WordleView extends BorderPane {
 
     /**
      * Locks the game UI after win/lose:
-     * disables further input (uiLocked), hides Give Up, shows Back.
+     * disables further input (uiLocked), hides Give Up, shows Back and Play again.
      */
     private void endGameUI() {
         uiLocked = true;
+        liveCounts.cancel();
+        suggestions.cancel();
 
         giveUpBtn.setVisible(false);
         giveUpBtn.setManaged(false);
 
         backBtn.setVisible(true);
         backBtn.setManaged(true);
+        offerPlayAgain();
 
         requestFocus();
     }
 
+    /**
+     * Shows "Play again" and starts picking the next game in the background
+     * while the end screen shows, so the button only has to swap it in.
+     */
+    private void offerPlayAgain() {
+        CompletableFuture<WordleLogic> next = nav.prepareWordle(language, letters, wordsCount);
+
+        playAgainBtn.setDisable(false);
+        playAgainBtn.setOnAction(_ -> {
+            playAgainBtn.setDisable(true);
+            next.whenCompleteAsync((nextGame, error) -> {
+                if (error != null) {
+                    message.setText("Could not start a new game.");
+                    return;
+                }
+                nav.showWordle(language, nextGame);
+            }, Platform::runLater);
+        });
+        playAgainBtn.setVisible(true);
+        playAgainBtn.setManaged(true);
+    }
+
     /**
      * Wraps a VBox in a ScrollPane so end screens don't overflow on small windows
      * (useful when many words must be shown).
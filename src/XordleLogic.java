@@ -1,5 +1,8 @@
 public class XordleLogic {
 
+    /** Latency of {@link #submitGuess}, for the metrics overlay. */
+    private static final LatencyHistogram SUBMIT_TIME = Metrics.submitGuess("xordle");
+
     /**
      * Tile color for Xordle.
      */
@@ -105,6 +108,9 @@ public class XordleLogic {
         this.solved = new boolean[]{false, false};
         this.chances = letters + 4;
         this.tries = 0;
+        this.constraints[0] = new LetterConstraints(letters);
+        this.constraints[1] = new LetterConstraints(letters);
+        this.blue = new char[letters];
     }
 
 
@@ -123,7 +129,28 @@ public class XordleLogic {
     /** Number of guesses used so far. */
     private int tries;
 
+    /** Whether guesses must keep shared letters in place and avoid ruled-out letters. */
+    private boolean hardMode;
+
+    /** What the feedback so far says about each of the two words, updated once per turn. */
+    private final LetterConstraints[] constraints = new LetterConstraints[2];
+
+    /**
+     * Letter shown blue per position so far (0 = none). Hard mode keeps only these:
+     * greens of the two words from different turns were never shown as one blue tile.
+     */
+    private final char[] blue;
+
     public XordleLogic(int lettersValue, Language langValue) {
+        this(lettersValue, langValue, null);
+    }
+
+    /**
+     * Picks two words that share no letter (like real Xordle) and whose difficulty
+     * rating (guesses the Xordle solver needed, see {@link DifficultyRatings#xordlePair}) lies in the band.
+     * Falls back to any disjoint pair if no ratings exist or no matching pair is found.
+     */
+    public XordleLogic(int lettersValue, Language langValue, DifficultyBand band) {
         this.letters = lettersValue;
 
         String[] list = langValue.getWordList(letters);
@@ -131,23 +158,20 @@ public class XordleLogic {
             throw new IllegalArgumentException("Not enough words for length " + letters);
         }
 
-        boolean[] used = new boolean[list.length];
         this.words = new String[2];
         this.solved = new boolean[2];
 
+        int[] pair = DifficultyRatings.xordlePair(langValue, letters, band);
         for (int i = 0; i < 2; i++) {
-            int r;
-            do {
-                r = (int) (Math.random() * list.length);
-            } while (used[r]);
-
-            used[r] = true;
-            words[i] = list[r].toUpperCase();
+            words[i] = list[pair[i]].toUpperCase();
             solved[i] = false;
         }
 
         this.chances = letters + 4;
         this.tries = 0;
+        this.constraints[0] = new LetterConstraints(letters);
+        this.constraints[1] = new LetterConstraints(letters);
+        this.blue = new char[letters];
     }
 
 
@@ -167,6 +191,28 @@ public class XordleLogic {
         return new boolean[]{solved[0], solved[1]};
     }
 
+    /**
+     * Turns hard mode on or off (set it before the first guess). Xordle tiles mix
+     * both words, so requiring every green and yellow could rule out both secrets.
+     * Hard mode asks for what holds for both words: letters green in both (blue)
+     * stay in place, and letters grey in both may not be played again.
+     */
+    public void setHardMode(boolean hardModeValue) {
+        this.hardMode = hardModeValue;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    /**
+     * What the feedback so far says about one of the two words. This includes
+     * per-word colours the player never sees, so use it only for hints the game gives.
+     */
+    public LetterConstraints getConstraints(int wordIndex) {
+        return constraints[wordIndex];
+    }
+
     public boolean isGameWon() {
         return solved[0] && solved[1];
     }
@@ -181,6 +227,20 @@ public class XordleLogic {
      * into a single tile row using Xordle color rules.
      */
     public TurnResult submitGuess(String guessRaw) {
+        GameEvents.Guess event = new GameEvents.Guess();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return playGuess(guessRaw);
+        } finally {
+            SUBMIT_TIME.recordSince(start);
+            event.mode = "xordle";
+            event.guess = guessRaw;
+            event.commit();
+        }
+    }
+
+    private TurnResult playGuess(String guessRaw) {
 
         // ----- If game is already finished, return safe "empty" result -----
         if (isGameOver()) {
@@ -208,6 +268,9 @@ public class XordleLogic {
         if (guess.length() != letters) {
             throw new IllegalArgumentException("Guess must be " + letters + " letters.");
         }
+        if (hardMode) {
+            checkHardMode(guess);
+        }
 
         // ----- Store solved state BEFORE applying this guess -----
         boolean[] wasSolved = getSolved();
@@ -231,6 +294,8 @@ public class XordleLogic {
         // ----- Score guess against each secret word independently -----
         int[] s1 = scoreWordle(words[0], guess);
         int[] s2 = scoreWordle(words[1], guess);
+        addConstraints(constraints[0], guess, s1);
+        addConstraints(constraints[1], guess, s2);
 
         // ----- Combine both scores into Xordle tiles -----
         Tile[] out = new Tile[letters];
@@ -247,6 +312,7 @@ public class XordleLogic {
 
             if (bothGreen) {
                 out[i] = Tile.BLUE;
+                blue[i] = guess.charAt(i);
             } else if (oneGreen) {
                 out[i] = Tile.GREEN;
             } else if (anyYellow) {
@@ -268,6 +334,39 @@ public class XordleLogic {
         );
     }
 
+    /**
+     * Rejects a guess that moves a letter shown blue or plays a letter known
+     * to be in neither word (grey). O(letters).
+     */
+    private void checkHardMode(String guess) {
+        for (int i = 0; i < letters; i++) {
+            if (blue[i] != 0 && guess.charAt(i) != blue[i]) {
+                throw new IllegalArgumentException("Hard mode: Letter " + (i + 1) + " must be " + blue[i] + ".");
+            }
+        }
+        for (int i = 0; i < letters; i++) {
+            char c = guess.charAt(i);
+            if (constraints[0].isExcluded(c) && constraints[1].isExcluded(c)) {
+                throw new IllegalArgumentException("Hard mode: " + c + " was already ruled out.");
+            }
+        }
+    }
+
+    /**
+     * Adds one word's feedback (2 = green, 1 = yellow, 0 = grey per position) to its constraints.
+     */
+    private static void addConstraints(LetterConstraints c, String guess, int[] status) {
+        int code = 0;
+        int pow = 1;
+        for (int i = 0; i < status.length; i++) {
+            if (status[i] == 2) {
+                c.fix(i, guess.charAt(i));
+            }
+            code += status[i] * pow;
+            pow *= 3;
+        }
+        c.addPresence(guess, code);
+    }
 
     /**
      * Standard Wordle scoring algorithm.
@@ -0,0 +1,237 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Index of all Xordle pairs of one word list whose two words share no letter.
+ * Each word gets a 26-bit letter mask (bit 0 = A ... bit 25 = Z), so two words
+ * are disjoint exactly when their masks AND to zero. All disjoint pairs are
+ * stored in one flat array, so a uniformly random pair is drawn in O(1).
+ * <p>
+ * Building compares every pair once (in parallel); the result is kept in
+ * {@code cache/xordle/pairs_<lang>_<letters>.bin} and reused while the word list
+ * is unchanged.
+ */
+public final class XordlePairIndex {
+
+    /** Magic number at the start of every pair file. */
+    private static final int MAGIC = 0x58504149;
+
+    /** Size of the pair file header in bytes. */
+    private static final int HEADER_SIZE = 20;
+
+    /** Bit used for any character outside A-Z, so such words never count as disjoint. */
+    private static final int OTHER_BIT = 1 << 26;
+
+    /** Loaded indices by language and word length. */
+    private static final Map<String, XordlePairIndex> LOADED = new ConcurrentHashMap<>();
+
+    /** Number of words in the list the index was built for. */
+    private final int size;
+
+    /** Letter mask of every word (index = word index). */
+    private final int[] masks;
+
+    /** Every disjoint pair (first &lt; second), packed as {@code first * size + second}. */
+    private final int[] pairs;
+
+    /**
+     * Builds the index for a word list in memory.
+     */
+    XordlePairIndex(String[] words) {
+        if ((long) words.length * words.length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Word list too large for a pair index.");
+        }
+
+        this.size = words.length;
+        this.masks = new int[size];
+        for (int i = 0; i < size; i++) {
+            masks[i] = mask(words[i]);
+        }
+
+        // Partners of every word, computed in parallel and joined in word order
+        int[][] partners = IntStream.range(0, size)
+                .parallel()
+                .mapToObj(this::partnersAfter)
+                .toArray(int[][]::new);
+
+        int total = 0;
+        for (int[] p : partners) {
+            total += p.length;
+        }
+
+        this.pairs = new int[total];
+        int k = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j : partners[i]) {
+                pairs[k++] = i * size + j;
+            }
+        }
+    }
+
+    private XordlePairIndex(int sizeValue, int[] masksValue, int[] pairsValue) {
+        this.size = sizeValue;
+        this.masks = masksValue;
+        this.pairs = pairsValue;
+    }
+
+    /**
+     * Returns the index of one word list, loading it from disk or building
+     * (and saving) it on first use.
+     */
+    static XordlePairIndex get(Language lang, int letters) {
+        return LOADED.computeIfAbsent(lang.getLanguageCode() + "_" + letters, key -> {
+            String[] words = lang.getWordList(letters);
+            long hash = DiskCache.listHash(words);
+
+            Path file = null;
+            try {
+                file = DiskCache.dir("xordle").resolve("pairs_" + key + ".bin");
+                XordlePairIndex cached = read(file, words.length, hash);
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (IOException e) {
+                // Unreadable cache: rebuild below
+            }
+
+            XordlePairIndex built = new XordlePairIndex(words);
+            if (file != null) {
+                try {
+                    built.write(file, hash);
+                } catch (IOException e) {
+                    IO.println("Could not save Xordle pair index: " + e.getMessage());
+                }
+            }
+            return built;
+        });
+    }
+
+    /**
+     * 26-bit set of the letters in a word.
+     */
+    static int mask(String word) {
+        int m = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = Character.toUpperCase(word.charAt(i));
+            if (c >= 'A' && c <= 'Z') {
+                m |= 1 << (c - 'A');
+            } else {
+                m |= OTHER_BIT;
+            }
+        }
+        return m;
+    }
+
+    public int getPairCount() {
+        return pairs.length;
+    }
+
+    /**
+     * Index of the first (smaller) word of the k-th disjoint pair.
+     */
+    int first(int k) {
+        return pairs[k] / size;
+    }
+
+    /**
+     * Index of the second (larger) word of the k-th disjoint pair.
+     */
+    int second(int k) {
+        return pairs[k] % size;
+    }
+
+    boolean isDisjoint(int first, int second) {
+        return (masks[first] & masks[second]) == 0;
+    }
+
+    /**
+     * Draws a uniformly random disjoint pair of word indices (in random order),
+     * or null if the list has no disjoint pair at all.
+     */
+    int[] sample() {
+        if (pairs.length == 0) {
+            return null;
+        }
+
+        int packed = pairs[(int) (Math.random() * pairs.length)];
+        int first = packed / size;
+        int second = packed % size;
+
+        if (Math.random() < 0.5) {
+            return new int[]{second, first};
+        }
+        return new int[]{first, second};
+    }
+
+    private int[] partnersAfter(int i) {
+        int m = masks[i];
+
+        int count = 0;
+        for (int j = i + 1; j < size; j++) {
+            if ((m & masks[j]) == 0) {
+                count++;
+            }
+        }
+
+        int[] out = new int[count];
+        int k = 0;
+        for (int j = i + 1; j < size; j++) {
+            if ((m & masks[j]) == 0) {
+                out[k++] = j;
+            }
+        }
+        return out;
+    }
+
+    // ----- Disk cache: magic, word count, list hash, pair count, masks, pairs -----
+
+    private void write(Path file, long hash) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(size);
+            out.writeLong(hash);
+            out.writeInt(pairs.length);
+            for (int m : masks) {
+                out.writeInt(m);
+            }
+            for (int p : pairs) {
+                out.writeInt(p);
+            }
+        }
+    }
+
+    private static XordlePairIndex read(Path file, int size, long hash) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        // One bulk read: much faster than reading the pairs int by int
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buf.remaining() < HEADER_SIZE
+                || buf.getInt() != MAGIC
+                || buf.getInt() != size
+                || buf.getLong() != hash) {
+            return null;
+        }
+
+        int pairCount = buf.getInt();
+        if (pairCount < 0 || buf.remaining() != 4L * (size + (long) pairCount)) {
+            return null;
+        }
+
+        IntBuffer ints = buf.asIntBuffer();
+        int[] masks = new int[size];
+        ints.get(masks);
+        int[] pairs = new int[pairCount];
+        ints.get(pairs);
+        return new XordlePairIndex(size, masks, pairs);
+    }
+}
@@ -0,0 +1,415 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Xordle solver that tracks the (word1, word2) pairs still consistent with
+ * every row of feedback. A per-word filter can't do this, because one Xordle
+ * row mixes the feedback of both words.
+ * <p>
+ * The candidates are the disjoint pairs of a {@link XordlePairIndex}, each in
+ * both orders (the solved flags tell which slot a word is in), kept as one bit
+ * per ordered pair. Filtering after a turn scans the set bits in parallel
+ * chunks of 64 pairs. Guesses are ranked by the expected number of pairs left,
+ * estimated on an evenly spread sample of the candidates so the work per
+ * guess stays within a fixed budget however many pairs remain.
+ */
+public class XordleSolver {
+
+    /** Largest number of (guess, pair) evaluations spent on ranking one guess. */
+    private static final long RANKING_BUDGET = 20_000_000L;
+
+    /** Smallest pair sample used for ranking (if that many pairs are left). */
+    private static final int MIN_SAMPLE = 2_000;
+
+    /** Guesses ranked per parallel task (each task reuses one histogram). */
+    private static final int GUESS_CHUNK = 64;
+
+    /**
+     * Best first guess per word list, keyed by letters and {@link DiskCache#listHash}
+     * (not by list instance, so lists loaded again share the entry).
+     */
+    private static final Map<String, String> OPENINGS = new ConcurrentHashMap<>();
+
+    /** Word list the secrets and guesses come from (uppercase). */
+    private final String[] words;
+
+    /** Disjoint pairs of {@link #words}. */
+    private final XordlePairIndex index;
+
+    /** Number of letters per word. */
+    private final int letters;
+
+    /** Wordle feedback code -&gt; green mask | yellow mask &lt;&lt; 16 (one bit per position). */
+    private final int[] decode;
+
+    /** Position mask -&gt; same bits spread to every second bit (bit i -&gt; bit 2i). */
+    private final int[] spread;
+
+    /** One bit per ordered pair: bit 2k = pair k as (first, second), bit 2k+1 = reversed. */
+    private final long[] alive;
+
+    /** Number of set bits in {@link #alive}. */
+    private long aliveCount;
+
+    /** Which word slots were already solved before the current turn. */
+    private final boolean[] solvedBefore = new boolean[2];
+
+    /** Guesses already made (uppercase). */
+    private final Set<String> guessed = new HashSet<>();
+
+    /** Language of the list, for its {@link OpeningBook} (null = no book). */
+    private final Language lang;
+
+    /** First guess of the game (null before the first turn). */
+    private String firstGuess;
+
+    /** Feedback code of the first guess. */
+    private int firstCode;
+
+    public XordleSolver(Language lang, int lettersValue) {
+        this(lang.getWordList(lettersValue), XordlePairIndex.get(lang, lettersValue), lang);
+    }
+
+    // Solver over an in-memory list (used by tests).
+    XordleSolver(String[] wordsValue) {
+        this(wordsValue, new XordlePairIndex(wordsValue), null);
+    }
+
+    // Solver without opening book over a shared index (used to build the book).
+    XordleSolver(String[] wordsValue, XordlePairIndex indexValue) {
+        this(wordsValue, indexValue, null);
+    }
+
+    private XordleSolver(String[] wordsValue, XordlePairIndex indexValue, Language langValue) {
+        if (wordsValue == null || wordsValue.length == 0) {
+            throw new IllegalArgumentException("Word list must not be empty.");
+        }
+
+        this.words = wordsValue;
+        this.index = indexValue;
+        this.lang = langValue;
+        this.letters = words[0].length();
+
+        int codes = 1;
+        for (int i = 0; i < letters; i++) {
+            codes *= 3;
+        }
+        this.decode = new int[codes];
+        for (int code = 0; code < codes; code++) {
+            int green = 0;
+            int yellow = 0;
+            int c = code;
+            for (int i = 0; i < letters; i++) {
+                if (c % 3 == 2) {
+                    green |= 1 << i;
+                } else if (c % 3 == 1) {
+                    yellow |= 1 << i;
+                }
+                c /= 3;
+            }
+            decode[code] = green | (yellow << 16);
+        }
+
+        this.spread = new int[1 << letters];
+        for (int m = 0; m < spread.length; m++) {
+            for (int i = 0; i < letters; i++) {
+                if ((m & (1 << i)) != 0) {
+                    spread[m] |= 1 << (2 * i);
+                }
+            }
+        }
+
+        long ordered = 2L * index.getPairCount();
+        this.alive = new long[(int) ((ordered + 63) / 64)];
+        for (long b = 0; b < ordered; b++) {
+            alive[(int) (b >>> 6)] |= 1L << b;
+        }
+        this.aliveCount = ordered;
+    }
+
+    public long getCandidatePairCount() {
+        return aliveCount;
+    }
+
+    /**
+     * Returns up to {@code max} of the pairs that are still possible, as {word1, word2}.
+     */
+    public List<String[]> candidatePairs(int max) {
+        List<String[]> out = new ArrayList<>();
+        for (int w = 0; w < alive.length && out.size() < max; w++) {
+            long bits = alive[w];
+            while (bits != 0 && out.size() < max) {
+                long id = ((long) w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                out.add(new String[]{words[slotWord(id, 0)], words[slotWord(id, 1)]});
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Keeps only the pairs that would have produced this turn's tiles and solved flags.
+     */
+    public void apply(XordleLogic.TurnResult result) {
+        String guess = result.getGuess();
+        if (guess.isEmpty()) {
+            return;
+        }
+
+        int observed = 0;
+        XordleLogic.Tile[] tiles = result.getTiles();
+        for (int i = tiles.length - 1; i >= 0; i--) {
+            observed = observed * 4 + tiles[i].ordinal();
+        }
+        boolean[] newlySolved = result.getNewlySolved();
+        observed |= flags(newlySolved[0], newlySolved[1]);
+
+        apply(guess, observed);
+    }
+
+    /**
+     * Keeps only the pairs that would have produced this feedback code
+     * (tile ordinals in base 4 plus the newly-solved flags, see {@link #feedbackCodes}).
+     */
+    void apply(String guessRaw, int observed) {
+        String guess = guessRaw.toUpperCase();
+        int[] masks = masks(guess);
+
+        IntStream.range(0, alive.length).parallel().forEach(w -> {
+            long bits = alive[w];
+            long kept = bits;
+            while (bits != 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                long id = ((long) w << 6) + bit;
+                int a = slotWord(id, 0);
+                int b = slotWord(id, 1);
+                if (pairCode(masks[a], masks[b], guess.equals(words[a]), guess.equals(words[b])) != observed) {
+                    kept &= ~(1L << bit);
+                }
+            }
+            alive[w] = kept;
+        });
+
+        long count = 0;
+        for (long bits : alive) {
+            count += Long.bitCount(bits);
+        }
+        aliveCount = count;
+
+        int shift = 2 * letters;
+        solvedBefore[0] |= (observed & (1 << shift)) != 0;
+        solvedBefore[1] |= (observed & (2 << shift)) != 0;
+        if (guessed.isEmpty()) {
+            firstGuess = guess;
+            firstCode = observed;
+        }
+        guessed.add(guess);
+    }
+
+    /**
+     * The distinct feedback codes the guess can get from the pairs still
+     * possible, sorted. These are the codes {@link #apply(String, int)} takes.
+     */
+    int[] feedbackCodes(String guessRaw) {
+        String guess = guessRaw.toUpperCase();
+        int[] masks = masks(guess);
+
+        boolean[] seen = new boolean[4 << (2 * letters)];
+        for (int w = 0; w < alive.length; w++) {
+            long bits = alive[w];
+            while (bits != 0) {
+                long id = ((long) w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                int a = slotWord(id, 0);
+                int b = slotWord(id, 1);
+                seen[pairCode(masks[a], masks[b], guess.equals(words[a]), guess.equals(words[b]))] = true;
+            }
+        }
+
+        return IntStream.range(0, seen.length).filter(code -> seen[code]).toArray();
+    }
+
+    /**
+     * Proposes the next guess: an unsolved word of the last pair when only one
+     * or two pairs are left, otherwise the word with the smallest expected
+     * number of remaining pairs (ties go to words that could still be a secret).
+     *
+     * @return the proposed guess, or null if no pair is consistent with the feedback
+     */
+    public String nextGuess() {
+        if (aliveCount == 0) {
+            return null;
+        }
+        if (guessed.size() <= 1) {
+            String booked = bookGuess();
+            if (booked != null) {
+                return booked;
+            }
+        }
+        if (guessed.isEmpty()) {
+            return OPENINGS.computeIfAbsent(letters + "_" + DiskCache.listHash(words), _ -> rankGuesses());
+        }
+        return rankGuesses();
+    }
+
+    /**
+     * The opening book's first or second guess, or null if there is no book
+     * or it does not cover this game (another first guess was played).
+     */
+    private String bookGuess() {
+        OpeningBook book = (lang != null) ? OpeningBook.load(DifficultyRatings.XORDLE, lang, letters) : null;
+        if (book == null) {
+            return null;
+        }
+        if (guessed.isEmpty()) {
+            return book.firstGuess();
+        }
+        String second = book.secondGuess(firstGuess, firstCode);
+        return (second != null && !guessed.contains(second)) ? second : null;
+    }
+
+    private String rankGuesses() {
+        // ----- Sample the candidates and collect the words that may still be secrets -----
+        long budgetSample = RANKING_BUDGET / words.length;
+        int sampleSize = (int) Math.min(aliveCount, Math.max(MIN_SAMPLE, budgetSample));
+        long step = Math.max(1, aliveCount / sampleSize);
+
+        int[] sampleA = new int[sampleSize];
+        int[] sampleB = new int[sampleSize];
+        boolean[] possible = new boolean[words.length];
+        int taken = 0;
+        long seen = 0;
+
+        for (int w = 0; w < alive.length; w++) {
+            long bits = alive[w];
+            while (bits != 0) {
+                long id = ((long) w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                int a = slotWord(id, 0);
+                int b = slotWord(id, 1);
+                if (!solvedBefore[0]) {
+                    possible[a] = true;
+                }
+                if (!solvedBefore[1]) {
+                    possible[b] = true;
+                }
+                if (seen % step == 0 && taken < sampleSize) {
+                    sampleA[taken] = a;
+                    sampleB[taken] = b;
+                    taken++;
+                }
+                seen++;
+            }
+        }
+
+        if (aliveCount <= 2) {
+            return words[solvedBefore[0] ? sampleB[0] : sampleA[0]];
+        }
+
+        // ----- Rank every unguessed word in parallel chunks -----
+        int sampled = taken;
+        long[] cost = new long[words.length];
+        int chunks = (words.length + GUESS_CHUNK - 1) / GUESS_CHUNK;
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int[] histogram = new int[4 << (2 * letters)];
+            int[] codes = new int[sampled];
+            int[] masks = new int[words.length];
+
+            int end = Math.min(words.length, (chunk + 1) * GUESS_CHUNK);
+            for (int g = chunk * GUESS_CHUNK; g < end; g++) {
+                String guess = words[g];
+                if (guessed.contains(guess)) {
+                    cost[g] = Long.MAX_VALUE;
+                    continue;
+                }
+
+                for (int w = 0; w < words.length; w++) {
+                    masks[w] = -1;
+                }
+
+                for (int s = 0; s < sampled; s++) {
+                    int a = sampleA[s];
+                    int b = sampleB[s];
+                    if (masks[a] < 0) {
+                        masks[a] = decode[WordleLogic.scorePacked(words[a], guess)];
+                    }
+                    if (masks[b] < 0) {
+                        masks[b] = decode[WordleLogic.scorePacked(words[b], guess)];
+                    }
+                    codes[s] = pairCode(masks[a], masks[b], a == g, b == g);
+                    histogram[codes[s]]++;
+                }
+
+                long sum = 0;
+                for (int s = 0; s < sampled; s++) {
+                    int h = histogram[codes[s]];
+                    if (h > 0) {
+                        sum += (long) h * h;
+                        histogram[codes[s]] = 0;
+                    }
+                }
+                cost[g] = 2 * sum - (possible[g] ? 1 : 0);
+            }
+        });
+
+        int best = 0;
+        for (int g = 1; g < words.length; g++) {
+            if (cost[g] < cost[best]) {
+                best = g;
+            }
+        }
+        return words[best];
+    }
+
+    /**
+     * Wordle feedback masks of the guess against every word (see {@link #decode}).
+     */
+    private int[] masks(String guess) {
+        int[] masks = new int[words.length];
+        for (int w = 0; w < words.length; w++) {
+            masks[w] = decode[WordleLogic.scorePacked(words[w], guess)];
+        }
+        return masks;
+    }
+
+    /**
+     * Word index in slot 0 (word1) or slot 1 (word2) of an ordered pair id.
+     */
+    private int slotWord(long id, int slot) {
+        int k = (int) (id >>> 1);
+        boolean reversed = (id & 1) != 0;
+        return ((slot == 0) != reversed) ? index.first(k) : index.second(k);
+    }
+
+    /**
+     * Xordle feedback of one pair packed like the tiles (digit i, base 4, is the
+     * tile ordinal at position i), plus the newly-solved flags above the tiles.
+     */
+    private int pairCode(int maskA, int maskB, boolean guessIsA, boolean guessIsB) {
+        int greenA = maskA & 0xFFFF;
+        int greenB = maskB & 0xFFFF;
+        int yellow = (maskA | maskB) >>> 16;
+
+        // Tile ordinal = 2 * hi + lo: GREY 00, YELLOW 01, GREEN 10, BLUE 11
+        int hi = greenA | greenB;
+        int lo = (greenA & greenB) | (yellow & ~hi);
+        int code = (spread[hi] << 1) | spread[lo];
+
+        return code | flags(guessIsA && !solvedBefore[0], guessIsB && !solvedBefore[1]);
+    }
+
+    private int flags(boolean solvedA, boolean solvedB) {
+        int shift = 2 * letters;
+        return ((solvedA ? 1 : 0) << shift) | ((solvedB ? 2 : 0) << shift);
+    }
+}
@@ -10,6 +10,8 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 
+import java.util.concurrent.CompletableFuture;
+
 public class XordleView extends BorderPane {
 
     /**
@@ -23,9 +25,17 @@ public class XordleView extends BorderPane {
     private final String language;
 
     /**
-     * Game logic instance.
+     * Game logic instance (replaced by {@link #reset}).
+     */
+    private XordleLogic game;
+
+    /** Session the guesses are played through (game state and input checks). */
+    private GameSession<XordleLogic.TurnResult> session;
+
+    /**
+     * Dictionary checks off the FX thread (answers come back via Platform.runLater).
      */
-    private final XordleLogic game;
+    private final GuessValidator validator = new GuessValidator(HunspellChecker::isValidWord, Platform::runLater);
 
     /**
      * Number of letters per guess.
@@ -77,6 +87,26 @@ public class XordleView extends BorderPane {
      */
     private final KeyboardColorManager keyboardColors;
 
+    /**
+     * Scroll pane around the board (the center while a game is running).
+     */
+    private ScrollPane boardScroll;
+
+    /**
+     * Back button (shown after the game ends).
+     */
+    private Button backBtn;
+
+    /**
+     * Play again button (shown after the game ends).
+     */
+    private Button playAgainBtn;
+
+    /**
+     * Give up button.
+     */
+    private Button giveUpBtn;
+
     /**
      * Enter action (submit).
      */
@@ -88,11 +118,14 @@ public class XordleView extends BorderPane {
     private boolean uiLocked;
 
     public XordleView(Navigator navigator, String languageValue, int lettersValue) {
+        this(navigator, languageValue, new XordleLogic(lettersValue, new Language(languageValue)));
+    }
+
+    public XordleView(Navigator navigator, String languageValue, XordleLogic gameValue) {
         this.nav = navigator;
         this.language = languageValue;
-
-        Language lang = new Language(languageValue);
-        this.game = new XordleLogic(lettersValue, lang);
+        this.game = gameValue;
+        this.session = startSession(gameValue);
 
         this.letters = game.getLetters();
         this.chances = game.getChances();
@@ -153,17 +186,17 @@ public class XordleView extends BorderPane {
 
         addRowToGrid(0);
 
-        ScrollPane centerScroll = new ScrollPane(grid);
-        centerScroll.setFitToWidth(true);
-        centerScroll.setFitToHeight(true);
-        centerScroll.setPannable(true);
-        centerScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        centerScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-        setCenter(centerScroll);
+        boardScroll = new ScrollPane(grid);
+        boardScroll.setFitToWidth(true);
+        boardScroll.setFitToHeight(true);
+        boardScroll.setPannable(true);
+        boardScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        boardScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        setCenter(boardScroll);
     }
 
     private void buildBottom() {
-        Button backBtn = new Button("Back");
+        backBtn = new Button("Back");
         backBtn.setPrefWidth(140);
         backBtn.setPrefHeight(44);
         backBtn.getStyleClass().add("big");
@@ -171,7 +204,15 @@ public class XordleView extends BorderPane {
         backBtn.setVisible(false);
         backBtn.setManaged(false);
 
-        Button giveUpBtn = new Button("Give up");
+        playAgainBtn = new Button("Play again");
+        playAgainBtn.setPrefWidth(160);
+        playAgainBtn.setPrefHeight(44);
+        playAgainBtn.getStyleClass().add("big");
+        playAgainBtn.setFocusTraversable(false);
+        playAgainBtn.setVisible(false);
+        playAgainBtn.setManaged(false);
+
+        giveUpBtn = new Button("Give up");
         giveUpBtn.setPrefWidth(160);
         giveUpBtn.setPrefHeight(44);
         giveUpBtn.getStyleClass().add("big");
@@ -179,7 +220,7 @@ public class XordleView extends BorderPane {
 
         KeyboardPane keyboard = buildLetterKeyboard();
 
-        HBox topActions = new HBox(12, backBtn);
+        HBox topActions = new HBox(12, backBtn, playAgainBtn);
         topActions.setAlignment(Pos.CENTER);
 
         HBox giveUpRow = new HBox(giveUpBtn);
@@ -194,6 +235,7 @@ public class XordleView extends BorderPane {
 
         giveUpBtn.setOnAction(_ -> {
             uiLocked = true;
+            session.giveUp();
             showStandardLose(backBtn, giveUpBtn, "You gave up.");
         });
 
@@ -238,6 +280,77 @@ public class XordleView extends BorderPane {
         });
     }
 
+    /**
+     * Whether a game has the same shape as this view (letters, guesses),
+     * so {@link #reset} can reuse the board.
+     */
+    boolean fits(XordleLogic other) {
+        return other.getLetters() == letters && other.getChances() == chances;
+    }
+
+    /**
+     * Starts the session for a game. Words are checked by the {@link GuessValidator}
+     * before they are submitted, so the session does not check them again.
+     */
+    private GameSession<XordleLogic.TurnResult> startSession(XordleLogic logic) {
+        GameSession<XordleLogic.TurnResult> s = GameSession.xordle(logic, null);
+        s.addListener(new GameSession.Listener<>() {
+            @Override
+            public void onRejected(String guess, String reason) {
+                message.setText(reason);
+            }
+        });
+        return s;
+    }
+
+    /**
+     * Starts a new game in this view, reusing its node graph (tiles, keyboard)
+     * instead of building a new view.
+     *
+     * @throws IllegalArgumentException if the game does not {@link #fits fit} this view
+     */
+    void reset(XordleLogic newGame) {
+        if (!fits(newGame)) {
+            throw new IllegalArgumentException("Game does not fit this view.");
+        }
+
+        validator.cancel();
+        game = newGame;
+        session = startSession(newGame);
+
+        rowIndex = 0;
+        colIndex = 0;
+        for (int i = 0; i < letters; i++) {
+            current[i] = 0;
+        }
+
+        grid.getChildren().clear();
+        for (int r = 0; r < chances; r++) {
+            for (int c = 0; c < letters; c++) {
+                tiles[r][c].setText(" ");
+                tiles[r][c].setStyle(GameStyles.tileBase() + GameStyles.tileEmpty());
+            }
+        }
+        addRowToGrid(0);
+
+        keyboardColors.reset();
+
+        remaining.setText("Guesses left: " + chances);
+        message.setStyle(GameStyles.MSG_RED);
+        message.setText("");
+
+        uiLocked = false;
+        giveUpBtn.setVisible(true);
+        giveUpBtn.setManaged(true);
+        backBtn.setVisible(false);
+        backBtn.setManaged(false);
+        playAgainBtn.setVisible(false);
+        playAgainBtn.setManaged(false);
+        setCenter(boardScroll);
+
+        requestFocus();
+    }
+
     /**
      * Submits the current row as a guess:
      * validates input, checks dictionary, calls XordleLogic, paints the row,
@@ -269,18 +382,29 @@ public class XordleView extends BorderPane {
         // Build guess string from typed characters
         String guess = new String(current);
 
-        // ----- Dictionary validation (Hunspell) -----
-        if (!HunspellChecker.isValidWord(guess)) {
+        // ----- Dictionary validation (Hunspell) off the FX thread; typing again cancels it -----
+        validator.validate(guess, valid -> finishSubmit(guess, valid, backBtn, giveUpBtn));
+    }
+
+    /**
+     * Second half of submit, run on the FX thread with the dictionary answer:
+     * calls XordleLogic, paints the row, updates messages/counters,
+     * and handles win/lose or moves to next row.
+     */
+    private void finishSubmit(String guess, boolean valid, Button backBtn, Button giveUpBtn) {
+        // ----- The row may have changed while the check was running -----
+        if (uiLocked || game.isGameOver() || colIndex < letters || !guess.equals(new String(current))) {
+            return;
+        }
+
+        if (!valid) {
             message.setText("Not a valid word.");
             return;
         }
 
-        // ----- Submit to logic (may throw if invalid) -----
-        XordleLogic.TurnResult result;
-        try {
-            result = game.submitGuess(guess);
-        } catch (IllegalArgumentException ex) {
-            message.setText(ex.getMessage());
+        // ----- Submit through the session (null if rejected) -----
+        XordleLogic.TurnResult result = session.submit(guess);
+        if (result == null) {
             return;
         }
 
@@ -318,6 +442,8 @@ public class XordleView extends BorderPane {
     private void paintRow(XordleLogic.TurnResult result) {
         String guess = result.getGuess();
         XordleLogic.Tile[] rowTiles = result.getTiles();
+        GameEvents.Paint event = new GameEvents.Paint();
+        event.begin();
 
         for (int c = 0; c < letters; c++) {
             Label t = tiles[rowIndex][c];
@@ -329,6 +455,10 @@ public class XordleView extends BorderPane {
             // Promote keyboard key color based on strongest information seen so far
             keyboardColors.promoteKey(ch, rankForXordleTile(rowTiles[c]));
         }
+
+        event.view = "xordle";
+        event.tiles = letters;
+        event.commit();
     }
 
     /**
@@ -402,12 +532,18 @@ public class XordleView extends BorderPane {
 
         char upper = Character.toUpperCase(ch);
         current[colIndex] = upper;
+        validator.cancel();
 
         Label t = tiles[rowIndex][colIndex];
         t.setText(String.valueOf(upper));
         t.setStyle(GameStyles.tileBase() + GameStyles.tileEmpty());
 
         colIndex++;
+
+        // Row complete: start the dictionary check now, so ENTER finds it ready
+        if (colIndex == letters) {
+            validator.prefetch(new String(current));
+        }
     }
 
     /**
@@ -426,6 +562,7 @@ public class XordleView extends BorderPane {
 
         colIndex--;
         current[colIndex] = 0;
+        validator.cancel();
 
         Label t = tiles[rowIndex][colIndex];
         t.setText(" ");
@@ -474,6 +611,7 @@ public class XordleView extends BorderPane {
         giveUpBtn.setManaged(false);
         backBtn.setVisible(true);
         backBtn.setManaged(true);
+        offerPlayAgain();
 
         requestFocus();
     }
@@ -512,10 +650,33 @@ public class XordleView extends BorderPane {
         giveUpBtn.setManaged(false);
         backBtn.setVisible(true);
         backBtn.setManaged(true);
+        offerPlayAgain();
 
         requestFocus();
     }
 
+    /**
+     * Shows "Play again" and starts picking the next game in the background
+     * while the end screen shows, so the button only has to swap it in.
+     */
+    private void offerPlayAgain() {
+        CompletableFuture<XordleLogic> next = nav.prepareXordle(language, letters);
+
+        playAgainBtn.setDisable(false);
+        playAgainBtn.setOnAction(_ -> {
+            playAgainBtn.setDisable(true);
+            next.whenCompleteAsync((nextGame, error) -> {
+                if (error != null) {
+                    message.setText("Could not start a new game.");
+                    return;
+                }
+                nav.showXordle(language, nextGame);
+            }, Platform::runLater);
+        });
+        playAgainBtn.setVisible(true);
+        playAgainBtn.setManaged(true);
+    }
+
     /**
      * Builds the on-screen QWERTZ keyboard and connects it to:
      * ENTER -> submit, ⌫ -> backspace, letters -> typeChar.
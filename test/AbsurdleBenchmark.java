@@ -0,0 +1,46 @@
+import java.util.Random;
+
+/**
+ * Measures the first {@link AbsurdleLogic#submitGuess} of a game, which partitions
+ * the whole word list. Not a unit test: run with
+ * {@code java AbsurdleBenchmark [lang] [letters] [games]}.
+ */
+public class AbsurdleBenchmark {
+
+    public static void main(String[] args) {
+        String code = (args.length > 0) ? args[0] : "en";
+        int letters = (args.length > 1) ? Integer.parseInt(args[1]) : 7;
+        int games = (args.length > 2) ? Integer.parseInt(args[2]) : 500;
+
+        Language lang = new Language(code);
+        String[] words = lang.getWordList(letters);
+        Random random = new Random(42);
+
+        long nanos = 0;
+        long worst = 0;
+        long checksum = 0;
+
+        for (int round = 0; round < 2; round++) {
+            // Round 0 only warms up the JIT
+            nanos = 0;
+            worst = 0;
+
+            for (int game = 0; game < games; game++) {
+                AbsurdleLogic g = new AbsurdleLogic(letters, lang);
+                String guess = words[random.nextInt(words.length)];
+
+                long t0 = System.nanoTime();
+                AbsurdleLogic.TurnResult r = g.submitGuess(guess);
+                long t = System.nanoTime() - t0;
+
+                nanos += t;
+                worst = Math.max(worst, t);
+                checksum += r.getRemainingCandidates();
+            }
+        }
+
+        IO.println(code + "_" + letters + ": " + words.length + " words, " + games + " first guesses");
+        IO.println(String.format("mean:  %8.3f ms/guess", nanos / 1e6 / games));
+        IO.println(String.format("worst: %8.3f ms/guess (checksum %d)", worst / 1e6, checksum));
+    }
+}
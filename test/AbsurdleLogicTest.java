@@ -0,0 +1,101 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AbsurdleLogicTest {
+
+    @Test
+    void keepsLargestGroup() {
+        AbsurdleLogic g = new AbsurdleLogic(new String[]{"CRANE", "CRATE", "CRAZE", "SLOTH"});
+
+        // CRATE and CRAZE both give GGG.G, every other group has one word
+        AbsurdleLogic.TurnResult r = g.submitGuess("crane");
+
+        assertEquals("CRANE", r.getGuess());
+        assertEquals(2, r.getRemainingCandidates());
+        assertArrayEquals(new String[]{"CRATE", "CRAZE"}, g.getCandidates());
+        assertArrayEquals(new WordleLogic.Tile[]{
+                WordleLogic.Tile.GREEN, WordleLogic.Tile.GREEN, WordleLogic.Tile.GREEN,
+                WordleLogic.Tile.GREY, WordleLogic.Tile.GREEN}, r.getTiles());
+        assertFalse(r.isGameWon());
+    }
+
+    @Test
+    void avoidsTheWinningGroup_untilItIsTheOnlyOne() {
+        AbsurdleLogic g = new AbsurdleLogic(new String[]{"ABCD", "EFGH"});
+
+        // Both groups have one word; the host must not hand out the win
+        AbsurdleLogic.TurnResult r1 = g.submitGuess("ABCD");
+        assertArrayEquals(new String[]{"EFGH"}, g.getCandidates());
+        assertFalse(r1.isGameWon());
+
+        AbsurdleLogic.TurnResult r2 = g.submitGuess("EFGH");
+        assertTrue(r2.isGameWon());
+        assertTrue(g.isGameOver());
+        assertEquals(2, g.getTries());
+    }
+
+    @Test
+    void tieGoesToTheGroupWithFewerClues() {
+        AbsurdleLogic g = new AbsurdleLogic(new String[]{"ABCD", "WXYZ", "ABCE", "ABDC"});
+
+        // Groups of size 1 each (except the win): WXYZ reveals nothing
+        g.submitGuess("ABCD");
+        assertArrayEquals(new String[]{"WXYZ"}, g.getCandidates());
+    }
+
+    @Test
+    void rejectsWrongLengthAndNonLetters() {
+        AbsurdleLogic g = new AbsurdleLogic(new String[]{"CRANE", "SLATE"});
+
+        assertThrows(IllegalArgumentException.class, () -> g.submitGuess("CRAN"));
+        assertThrows(IllegalArgumentException.class, () -> g.submitGuess("CR4NE"));
+        assertEquals(0, g.getTries());
+        assertEquals(2, g.getCandidateCount());
+    }
+
+    @Test
+    void rejectsMixedLengthLists() {
+        assertThrows(IllegalArgumentException.class, () -> new AbsurdleLogic(new String[]{"CRANE", "CAT"}));
+        assertThrows(IllegalArgumentException.class, () -> new AbsurdleLogic(new String[0]));
+    }
+
+    @Test
+    void remainingWordsFitEveryFeedback_andMatchReferencePartition() {
+        String[] words = new Language("en").getWordList(5);
+        AbsurdleLogic g = new AbsurdleLogic(5, new Language("en"));
+        Random random = new Random(7);
+
+        String[] before = words;
+        for (int turn = 0; turn < 4 && !g.isGameOver(); turn++) {
+            String guess = words[random.nextInt(words.length)];
+            AbsurdleLogic.TurnResult r = g.submitGuess(guess);
+
+            int[] expected = new int[5];
+            for (int i = 0; i < 5; i++) {
+                expected[i] = r.getTiles()[i].ordinal();
+            }
+
+            // The kept group is exactly the words of the previous turn with this feedback...
+            String[] group = Arrays.stream(before)
+                    .filter(w -> Arrays.equals(expected, WordleLogic.scoreWordle(w, guess)))
+                    .toArray(String[]::new);
+            assertArrayEquals(group, g.getCandidates());
+
+            // ...and no other feedback has a bigger group
+            for (String w : before) {
+                int[] status = WordleLogic.scoreWordle(w, guess);
+                long size = Arrays.stream(before)
+                        .filter(x -> Arrays.equals(status, WordleLogic.scoreWordle(x, guess)))
+                        .count();
+                if (!w.equals(guess)) {
+                    assertTrue(size <= group.length, "bigger group for " + w);
+                }
+            }
+            before = group;
+        }
+    }
+}
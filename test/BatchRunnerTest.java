@@ -0,0 +1,83 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchRunnerTest {
+
+    @Test
+    void fixedWordleGame_isReplayed() {
+        assertEquals("wordle CRANE,SLATE won 2 ggggg,..g.g ggggg,ggggg",
+                BatchRunner.playLine("wordle en 2x5 =CRANE,SLATE CRANE SLATE"));
+    }
+
+    @Test
+    void rejectedGuess_isMarked_andGameStaysOpen() {
+        assertEquals("verticle HOUSE open 0 !",
+                BatchRunner.playLine("verticle en 5 =HOUSE HOU"));
+    }
+
+    @Test
+    void otherModes_givePerTileFeedback() {
+        assertEquals("xordle CRANE,MOIST open 1 ggggg",
+                BatchRunner.playLine("xordle en 5 =CRANE,MOIST CRANE"));
+        assertEquals("mathler 12+34 won 1 ggggg",
+                BatchRunner.playLine("mathler - 2 =12+34 12+34"));
+    }
+
+    @Test
+    void sameSeed_givesSameSecrets() {
+        String a = BatchRunner.playLine("wordle en 4x5 42");
+        String b = BatchRunner.playLine("wordle en 4x5 42");
+        assertEquals(a, b);
+        assertTrue(a.endsWith(" open 0"), a);
+
+        String[] xordle = BatchRunner.playLine("xordle en 5 7").split(" ")[1].split(",");
+        for (char c : xordle[0].toCharArray()) {
+            assertEquals(-1, xordle[1].indexOf(c), "Xordle words must share no letter");
+        }
+
+        assertEquals(BatchRunner.playLine("mathler - 3 9"), BatchRunner.playLine("mathler - 3 9"));
+    }
+
+    @Test
+    void malformedLine_givesError() {
+        assertTrue(BatchRunner.playLine("tetris en 5 1").startsWith("error Unknown mode"));
+        assertTrue(BatchRunner.playLine("wordle en 5 1").startsWith("error Wordle size"));
+        assertTrue(BatchRunner.playLine("wordle en").startsWith("error Expected"));
+        assertTrue(BatchRunner.playLine("mathler - 0 5").startsWith("error Size must be at least 1"));
+        assertTrue(BatchRunner.playLine("wordle en -1x5 3").startsWith("error Size must be at least 1"));
+        assertTrue(BatchRunner.playLine("wordle en 1x-5 3").startsWith("error Size must be at least 1"));
+
+        // = secrets must match the size on the line
+        assertTrue(BatchRunner.playLine("wordle en 2x5 =CRANE").startsWith("error Size 2x5"));
+        assertTrue(BatchRunner.playLine("wordle en 1x4 =CRANE").startsWith("error Secret CRANE"));
+        assertTrue(BatchRunner.playLine("xordle en 4 =CRANE,MOIST").startsWith("error Secret CRANE"));
+        assertTrue(BatchRunner.playLine("verticle en 4 =HOUSE").startsWith("error Secret HOUSE"));
+        assertTrue(BatchRunner.playLine("mathler - 3 =12+34").startsWith("error Equation 12+34"));
+    }
+
+    @Test
+    void parallelRun_keepsInputOrder() {
+        List<String> input = new ArrayList<>();
+        input.add("# comment");
+        input.add("");
+        IntStream.range(0, 200).forEach(i -> input.add("verticle en 5 " + i));
+
+        List<String> output = new ArrayList<>();
+        BatchRunner.run(input.stream(), output::add);
+
+        assertEquals(200, output.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(BatchRunner.playLine("verticle en 5 " + i), output.get(i));
+        }
+
+        List<String> again = new ArrayList<>();
+        BatchRunner.run(Stream.of("wordle en 1x5 =CRANE CRANE # solved"), again::add);
+        assertEquals(List.of("wordle CRANE won 1 ggggg"), again);
+    }
+}
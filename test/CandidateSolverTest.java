@@ -0,0 +1,132 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CandidateSolverTest {
+
+    private static final String[] WORDS = {
+            "APPLE", "PAPER", "LEVEL", "ALLEY", "SPOON", "LLAMA", "EERIE", "CRANE", "TRACE", "REACT"
+    };
+
+    @Test
+    void wordlePackedScoreMatchesSubmitGuess() {
+        for (String secret : WORDS) {
+            for (String guess : WORDS) {
+                WordleLogic g = new WordleLogic(secret);
+                WordleLogic.TurnResult r = g.submitGuess(guess);
+
+                assertEquals(WordleLogic.packTiles(r.getTilesByWord()[0]), WordleLogic.scorePacked(secret, guess),
+                        secret + " / " + guess);
+            }
+        }
+    }
+
+    @Test
+    void verticlePackedScoreMatchesSubmitGuess() {
+        for (String secret : WORDS) {
+            for (String guess : WORDS) {
+                for (int tryIndex = 0; tryIndex < secret.length(); tryIndex++) {
+                    VerticleLogic g = new VerticleLogic(secret);
+                    for (int t = 0; t < tryIndex; t++) {
+                        g.submitGuess("QQQQQ");
+                    }
+                    VerticleLogic.TurnResult r = g.submitGuess(guess);
+
+                    assertEquals(VerticleLogic.packTiles(r.getTiles()),
+                            VerticleLogic.scorePacked(secret, guess, tryIndex),
+                            secret + " / " + guess + " @ " + tryIndex);
+                }
+            }
+        }
+    }
+
+    @Test
+    void candidatesShrinkAndKeepSecret() {
+        CandidateSolver solver = new CandidateSolver(WORDS, DifficultyRatings.scorer(DifficultyRatings.WORDLE));
+
+        solver.apply("CRANE", WordleLogic.scorePacked("TRACE", "CRANE"));
+
+        assertTrue(solver.getCandidateCount() < WORDS.length);
+        assertTrue(Arrays.asList(solver.getCandidates()).contains("TRACE"));
+        assertEquals(1, solver.getTurn());
+    }
+
+    @Test
+    void ratingsSolveEveryWord() {
+        Map<String, String> decisions = new ConcurrentHashMap<>();
+        for (String mode : new String[]{DifficultyRatings.WORDLE, DifficultyRatings.VERTICLE}) {
+            decisions.clear();
+            CandidateSolver.Scorer scorer = DifficultyRatings.scorer(mode);
+
+            for (int i = 0; i < WORDS.length; i++) {
+                int rating = DifficultyRatings.rateWord(WORDS, scorer, WORDS.length, decisions, i);
+                assertTrue(rating >= 1 && rating <= WORDS.length, mode + " " + WORDS[i] + " took " + rating);
+            }
+        }
+    }
+
+    @Test
+    void verticleRatingsStopAtTheLastColumn() {
+        // en_4 has secrets (e.g. BABE, BANG) the solver cannot find within four columns
+        String[] words = new Language("en").getWordList(4);
+        CandidateSolver.Scorer scorer = DifficultyRatings.scorer(DifficultyRatings.VERTICLE);
+        int maxGuesses = DifficultyRatings.maxGuesses(DifficultyRatings.VERTICLE, 4);
+        Map<String, String> decisions = new ConcurrentHashMap<>();
+
+        assertEquals(4, maxGuesses);
+        int failed = 0;
+        for (int i = 0; i < words.length; i++) {
+            int rating = DifficultyRatings.rateWord(words, scorer, maxGuesses, decisions, i);
+            assertTrue(rating >= 1 && rating <= maxGuesses + 1, words[i] + " rated " + rating);
+            if (rating == maxGuesses + 1) {
+                failed++;
+            }
+        }
+        assertTrue(failed > 0, "expected some unsolved secrets on en_4");
+    }
+
+    @Test
+    void bandSelectionFallsBackWithoutRatings() {
+        Language en = new Language("en");
+        int size = en.getWordList(5).length;
+
+        assertEquals(size, DifficultyRatings.pool(DifficultyRatings.WORDLE, en, 5, null, 1).length);
+        assertEquals(5, DifficultyRatings.xordleRating(4, 2));
+        assertTrue(DifficultyBand.MEDIUM.contains(4));
+        assertFalse(DifficultyBand.EASY.contains(4));
+    }
+
+    @Test
+    void xordlePairRatingsComeFromPlayingThePair() {
+        String[] words = {"CRANE", "BUILT", "MOIST", "FUZZY", "GHOST", "PLUMB", "DWARF", "JOLLY", "SWIFT", "BRICK"};
+        XordlePairIndex index = new XordlePairIndex(words);
+        int chances = new XordleLogic("CRANE", "BUILT").getChances();
+
+        for (int k = 0; k < index.getPairCount(); k++) {
+            int rating = DifficultyRatings.rateXordlePair(
+                    new XordleSolver(words), words[index.first(k)], words[index.second(k)]);
+            assertTrue(rating >= 2 && rating <= chances + 1, "rating " + rating);
+        }
+
+        int count = DifficultyRatings.xordlePairsRated(index);
+        assertEquals(0, DifficultyRatings.sampledPair(index, count, 0));
+        assertTrue(DifficultyRatings.sampledPair(index, count, count - 1) < index.getPairCount());
+    }
+
+    @Test
+    void heuristicGuessIsAlwaysACandidate() {
+        CandidateSolver solver = new CandidateSolver(WORDS, DifficultyRatings.scorer(DifficultyRatings.WORDLE));
+        String secret = "REACT";
+
+        while (solver.getCandidateCount() > 1) {
+            String guess = solver.nextHeuristicGuess();
+            assertTrue(Arrays.asList(solver.getCandidates()).contains(guess));
+            solver.apply(guess, WordleLogic.scorePacked(secret, guess));
+        }
+        assertEquals(secret, solver.nextHeuristicGuess());
+    }
+}
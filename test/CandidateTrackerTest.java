@@ -0,0 +1,148 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CandidateTrackerTest {
+
+    @Test
+    void countsPerBoard_followFeedbackAndPrefix() {
+        String[] words = {"CRANE", "CRATE", "SLATE", "SLANT", "PLANT"};
+        WordleLogic game = new WordleLogic("CRATE", "PLANT");
+        CandidateTracker tracker = new CandidateTracker(new PrefixTrie(words), 2);
+
+        assertArrayEquals(new int[]{5, 5}, tracker.count("").counts());
+        assertArrayEquals(new int[]{2, 2}, tracker.count("SL").counts());
+
+        tracker.addTurn(game.submitGuess("SLATE"));
+
+        // Board 1 (CRATE): only words scoring like CRATE against SLATE (..ggg) stay
+        CandidateTracker.Counts counts = tracker.count("");
+        assertTrue(counts.validPrefix());
+        assertArrayEquals(new int[]{1, 1}, counts.counts());
+        assertArrayEquals(new int[]{1, 0}, tracker.count("C").counts());
+
+        assertFalse(tracker.count("Q").validPrefix());
+    }
+
+    @Test
+    void solvedBoardsReportMinusOne() {
+        WordleLogic game = new WordleLogic("CRATE", "PLANT");
+        CandidateTracker tracker = new CandidateTracker(new PrefixTrie(new String[]{"CRATE", "PLANT"}), 2);
+
+        tracker.addTurn(game.submitGuess("CRATE"));
+
+        assertArrayEquals(new int[]{-1, 1}, tracker.count("").counts());
+    }
+
+    @Test
+    void matchesReplayOfAllTurns_onRealList() {
+        String[] words = new Language("en").getWordList(5);
+        PrefixTrie trie = new PrefixTrie(words);
+        Random random = new Random(3);
+
+        String[] secrets = {words[random.nextInt(words.length)], words[random.nextInt(words.length)]};
+        WordleLogic game = new WordleLogic(secrets);
+        CandidateTracker tracker = new CandidateTracker(trie, 2);
+
+        String[] guesses = new String[3];
+        for (int t = 0; t < guesses.length; t++) {
+            guesses[t] = words[random.nextInt(words.length)];
+            tracker.addTurn(game.submitGuess(guesses[t]));
+        }
+
+        String prefix = secrets[1].substring(0, 1);
+        int[] counts = tracker.count(prefix).counts();
+        for (int b = 0; b < 2; b++) {
+            String secret = secrets[b];
+            long expected = Arrays.stream(words)
+                    .filter(w -> w.startsWith(prefix))
+                    .filter(w -> Arrays.stream(guesses)
+                            .allMatch(g -> WordleLogic.scorePacked(w, g) == WordleLogic.scorePacked(secret, g)))
+                    .count();
+            if (game.isSolved(b)) {
+                assertEquals(-1, counts[b]);
+            } else {
+                assertEquals(expected, counts[b], "board " + b);
+            }
+        }
+    }
+
+    @Test
+    void suggestion_comesFromTheSmallestUnsolvedBoard() {
+        String[] words = {"CRANE", "CRATE", "PLANT", "SLANT", "SLATE"}; // trie order, for ties
+        WordleLogic game = new WordleLogic("CRATE", "PLANT");
+        CandidateTracker tracker = new CandidateTracker(new PrefixTrie(words), 2);
+        WordListStats stats = WordListStats.of(words, 5);
+
+        assertEquals(stats.bestHeuristicGuess(words), tracker.suggest(stats, null, false));
+
+        // CRATE is solved, so only PLANT's board is left
+        tracker.addTurn(game.submitGuess("CRATE"));
+        assertEquals("PLANT", tracker.suggest(stats, null, false));
+
+        tracker.addTurn(game.submitGuess("PLANT"));
+        assertNull(tracker.suggest(stats, null, false));
+    }
+
+    @Test
+    void suggestion_takesTheFirstTwoGuessesFromTheBook() {
+        String[] words = new Language("en").getWordList(5);
+        OpeningBook book = OpeningBook.compute(words, DifficultyRatings.scorer(DifficultyRatings.WORDLE));
+        WordListStats stats = WordListStats.of(words, 5);
+        String secret = "PLANT";
+
+        WordleLogic game = new WordleLogic(secret);
+        CandidateTracker tracker = new CandidateTracker(new PrefixTrie(words), 1);
+        String first = tracker.suggest(stats, book, false);
+        assertEquals(book.firstGuess(), first);
+
+        tracker.addTurn(game.submitGuess(first));
+        String second = book.secondGuess(first, WordleLogic.scorePacked(secret, first));
+        assertEquals(second, tracker.suggest(stats, book, false));
+
+        // Hard mode only takes the book's word if it still fits, else falls back to a candidate
+        String hard = tracker.suggest(stats, book, true);
+        assertEquals(WordleLogic.scorePacked(secret, first), WordleLogic.scorePacked(hard, first));
+
+        // Several boards have no book: the heuristic over the whole (sorted) list
+        PrefixTrie trie = new PrefixTrie(words);
+        String[] sorted = new String[trie.getWordsCount()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = trie.getWord(i);
+        }
+        CandidateTracker two = new CandidateTracker(trie, 2);
+        assertEquals(stats.bestHeuristicGuess(sorted), two.suggest(stats, book, false));
+    }
+
+    @Test
+    void trieIsBuiltByTheFirstCount_notByTheConstructor() {
+        String[] words = {"CRANE", "CRATE", "SLATE"};
+        AtomicInteger built = new AtomicInteger();
+        CandidateTracker tracker = new CandidateTracker(() -> {
+            built.incrementAndGet();
+            return new PrefixTrie(words);
+        }, 1);
+
+        tracker.addTurn(new WordleLogic("CRATE").submitGuess("SLATE"));
+        assertEquals(0, built.get());
+
+        // Only CRATE scores ..ggg against SLATE
+        assertArrayEquals(new int[]{1}, tracker.count("CR").counts());
+        assertArrayEquals(new int[]{1}, tracker.count("").counts());
+        assertEquals(1, built.get());
+    }
+
+    @Test
+    void countRange_handlesBlockEdges() {
+        long[] bits = {-1L, -1L, -1L};
+        assertEquals(0, CandidateTracker.countRange(bits, 5, 5));
+        assertEquals(1, CandidateTracker.countRange(bits, 63, 64));
+        assertEquals(2, CandidateTracker.countRange(bits, 63, 65));
+        assertEquals(192, CandidateTracker.countRange(bits, 0, 192));
+        assertEquals(70, CandidateTracker.countRange(bits, 60, 130));
+    }
+}
@@ -0,0 +1,129 @@
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+/**
+ * Compares printing a 32-word Wordle turn tile by tile (one flushed print per tile,
+ * as {@code IO.print} does) with building it in a {@link ConsoleRenderer} and writing
+ * it once. Output goes to a temporary file, so every flush is a real write call.
+ * Not a unit test: run with {@code java ConsoleRendererBenchmark [words] [turns]}.
+ */
+public class ConsoleRendererBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int wordsCount = (args.length > 0) ? Integer.parseInt(args[0]) : 32;
+        int turns = (args.length > 1) ? Integer.parseInt(args[1]) : 2000;
+
+        String[] words = new Language("en").getWordList(5);
+        Random random = new Random(42);
+        String[] secrets = new String[wordsCount];
+        for (int w = 0; w < wordsCount; w++) {
+            secrets[w] = words[random.nextInt(words.length)];
+        }
+
+        File file = File.createTempFile("console", ".txt");
+        file.deleteOnExit();
+
+        for (int round = 0; round < 2; round++) {
+            // Round 0 only warms up the JIT
+            CountingStream oldCount = new CountingStream(new FileOutputStream(file));
+            long oldNanos;
+            try (PrintStream out = new PrintStream(new BufferedOutputStream(oldCount), false)) {
+                long t0 = System.nanoTime();
+                for (int t = 0; t < turns; t++) {
+                    printTileByTile(out, secrets, words[t % words.length]);
+                }
+                oldNanos = System.nanoTime() - t0;
+            }
+
+            CountingStream newCount = new CountingStream(new FileOutputStream(file));
+            long newNanos;
+            try (PrintStream out = new PrintStream(new BufferedOutputStream(newCount), false)) {
+                ConsoleRenderer screen = new ConsoleRenderer(out);
+                long t0 = System.nanoTime();
+                for (int t = 0; t < turns; t++) {
+                    render(screen, secrets, words[t % words.length]);
+                }
+                newNanos = System.nanoTime() - t0;
+            }
+
+            if (round == 1) {
+                IO.println(String.format("%d words, %d turns", wordsCount, turns));
+                IO.println(String.format("tile by tile: %8.1f us/turn  %6d writes/turn  %6d bytes/turn",
+                        oldNanos / 1e3 / turns, oldCount.writes / turns, oldCount.bytes / turns));
+                IO.println(String.format("renderer:     %8.1f us/turn  %6d writes/turn  %6d bytes/turn",
+                        newNanos / 1e3 / turns, newCount.writes / turns, newCount.bytes / turns));
+            }
+        }
+    }
+
+    /**
+     * The console games' old output path: one concatenated, flushed print per tile.
+     */
+    private static void printTileByTile(PrintStream out, String[] secrets, String guess) {
+        for (String secret : secrets) {
+            out.print(" | ");
+            out.flush();
+            int code = WordleLogic.scorePacked(secret, guess);
+            for (int i = 0; i < guess.length(); i++) {
+                out.print(ConsoleRenderer.statusColor(code % 3) + guess.charAt(i) + ConsoleColors.RESET + " ");
+                out.flush();
+                code /= 3;
+            }
+            out.print(" | ");
+            out.flush();
+        }
+        out.println(" Remaining guesses: 9");
+        out.flush();
+    }
+
+    private static void render(ConsoleRenderer screen, String[] secrets, String guess) {
+        for (String secret : secrets) {
+            screen.text(" | ");
+            int code = WordleLogic.scorePacked(secret, guess);
+            for (int i = 0; i < guess.length(); i++) {
+                screen.tile(code % 3, guess.charAt(i));
+                code /= 3;
+            }
+            screen.text(" | ");
+        }
+        screen.line(" Remaining guesses: 9").flush();
+    }
+
+    /**
+     * Counts the write calls that reach the file.
+     */
+    private static final class CountingStream extends OutputStream {
+
+        private final OutputStream target;
+        private long writes;
+        private long bytes;
+
+        CountingStream(OutputStream targetValue) {
+            this.target = targetValue;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            writes++;
+            bytes++;
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writes++;
+            bytes += len;
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            target.close();
+        }
+    }
+}
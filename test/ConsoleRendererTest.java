@@ -0,0 +1,44 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConsoleRendererTest {
+
+    private static final String G = ConsoleColors.GREEN_BACKGROUND;
+    private static final String Y = ConsoleColors.YELLOW_BACKGROUND;
+    private static final String R = ConsoleColors.RESET;
+
+    @Test
+    void sameColourTilesShareOneRun() {
+        ConsoleRenderer screen = new ConsoleRenderer(new PrintStream(new ByteArrayOutputStream()));
+
+        screen.tile(2, 'A').tile(2, 'B').tile(1, 'C').text("|");
+
+        assertEquals(G + "A B" + R + " " + Y + "C" + R + " |", screen.peek());
+    }
+
+    @Test
+    void runIsClosedAtLineEnd() {
+        ConsoleRenderer screen = new ConsoleRenderer(new PrintStream(new ByteArrayOutputStream()));
+
+        screen.tile(0, 'X').newline();
+
+        assertEquals(ConsoleColors.BLACK_BACKGROUND + "X" + R + " " + System.lineSeparator(), screen.peek());
+    }
+
+    @Test
+    void flushWritesFrameOnceAndStartsOver() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ConsoleRenderer screen = new ConsoleRenderer(new PrintStream(bytes));
+
+        screen.text("one ").tile(2, 'A').flush();
+        assertEquals("one " + G + "A" + R + " ", bytes.toString());
+        assertEquals("", screen.peek());
+
+        screen.line("two").flush();
+        assertEquals("one " + G + "A" + R + " two" + System.lineSeparator(), bytes.toString());
+    }
+}
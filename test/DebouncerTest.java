@@ -0,0 +1,47 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DebouncerTest {
+
+    @Test
+    void onlyTheLastOfQuickSubmitsRuns() throws Exception {
+        Debouncer debouncer = new Debouncer(50, Runnable::run);
+        AtomicInteger runs = new AtomicInteger();
+        List<String> answers = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        for (String prefix : new String[]{"C", "CR", "CRA"}) {
+            debouncer.submit(() -> {
+                runs.incrementAndGet();
+                return prefix;
+            }, answer -> {
+                answers.add(answer);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(List.of("CRA"), answers);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void cancelDropsPendingWork() throws Exception {
+        Debouncer debouncer = new Debouncer(30, Runnable::run);
+        List<String> answers = new CopyOnWriteArrayList<>();
+
+        debouncer.submit(() -> "X", answers::add);
+        debouncer.cancel();
+
+        Thread.sleep(150);
+        assertTrue(answers.isEmpty());
+    }
+}
@@ -0,0 +1,51 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameTimerTest {
+
+    @AfterEach
+    void cleanUp() {
+        FrameTimer.setListener(null);
+        FrameTimer.reset();
+    }
+
+    @Test
+    void recordsCountMaxAndOverBudget() {
+        FrameTimer.reset();
+
+        FrameTimer.record(2_000_000L);
+        FrameTimer.record(FrameTimer.BUDGET_NANOS + 1);
+        FrameTimer.record(5_000_000L);
+
+        assertEquals(3, FrameTimer.getCount());
+        assertEquals(1, FrameTimer.getOverBudget());
+        assertEquals(FrameTimer.BUDGET_NANOS + 1, FrameTimer.getMaxNanos());
+
+        FrameTimer.reset();
+        assertEquals(0, FrameTimer.getCount());
+        assertEquals(0, FrameTimer.getMaxNanos());
+    }
+
+    @Test
+    void listenerGetsEveryFrameTime() {
+        List<Long> seen = new ArrayList<>();
+        FrameTimer.setListener(seen::add);
+
+        FrameTimer.record(1L);
+        FrameTimer.record(2L);
+
+        assertEquals(List.of(1L, 2L), seen);
+    }
+
+    @Test
+    void keystrokeWithoutSceneIsIgnored() {
+        FrameTimer.setListener(_ -> fail("no frame expected"));
+        FrameTimer.keystroke(null);
+        assertEquals(0, FrameTimer.getCount());
+    }
+}
@@ -0,0 +1,63 @@
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void recordingWithProfileHoldsGameEvents() throws Exception {
+        Path file = tempDir.resolve("test.jfr");
+
+        try (Recording recording = new Recording(Configuration.create(Path.of("clusterle.jfc")))) {
+            recording.start();
+
+            new Language("en").getWordList(4);
+            new WordleLogic("CRANE").submitGuess("REACT");
+            HunspellChecker.isValidWord("en", "CRANE");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        RecordedEvent load = find(events, "clusterle.WordListLoad");
+        assertEquals("en", load.getString("language"));
+        assertEquals(4, load.getInt("letters"));
+        assertTrue(load.getInt("words") > 0);
+
+        RecordedEvent guess = find(events, "clusterle.Guess");
+        assertEquals("wordle", guess.getString("mode"));
+        assertEquals("REACT", guess.getString("guess"));
+        assertFalse(guess.getDuration().isNegative());
+
+        RecordedEvent validation = find(events, "clusterle.Validation");
+        assertEquals("CRANE", validation.getString("word"));
+        assertTrue(validation.getBoolean("valid"));
+    }
+
+    @Test
+    void eventsAreNotRecordedWithoutRecording() {
+        GameEvents.Guess event = new GameEvents.Guess();
+        event.begin();
+        assertFalse(event.shouldCommit());
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event in the recording"));
+    }
+}
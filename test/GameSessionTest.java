@@ -0,0 +1,120 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSessionTest {
+
+    /**
+     * Records every event as text.
+     */
+    private static <R> List<String> record(GameSession<R> session) {
+        List<String> events = new ArrayList<>();
+        session.addListener(new GameSession.Listener<>() {
+            @Override
+            public void onTurn(R result) {
+                events.add("turn");
+            }
+
+            @Override
+            public void onRejected(String guess, String reason) {
+                events.add("rejected " + guess + ": " + reason);
+            }
+
+            @Override
+            public void onEnd(GameSession.State state) {
+                events.add("end " + state);
+            }
+        });
+        return events;
+    }
+
+    @Test
+    void rejectedGuesses_doNotUseATry() {
+        GameSession<WordleLogic.TurnResult> session =
+                GameSession.wordle(new WordleLogic("CRANE"), w -> !w.equalsIgnoreCase("ZZZZZ"));
+        List<String> events = record(session);
+        long rejectedBefore = Metrics.counter(Metrics.GUESS_REJECTED).get();
+
+        assertNull(session.submit("CRA"));
+        assertNull(session.submit("zzzzz"));
+        assertNotNull(session.submit("SLATE"));
+        assertEquals(rejectedBefore + 2, Metrics.counter(Metrics.GUESS_REJECTED).get());
+
+        assertEquals(List.of(
+                "rejected CRA: Your guess must be 5 letters long.",
+                "rejected zzzzz: Not a valid word.",
+                "turn"), events);
+        assertEquals(1, session.getTurns());
+        assertEquals(GameSession.State.PLAYING, session.getState());
+    }
+
+    @Test
+    void winningGuess_endsGame_andLaterGuessesAreRejected() {
+        GameSession<XordleLogic.TurnResult> session = GameSession.xordle(new XordleLogic("CRANE", "MOIST"), null);
+        List<String> events = record(session);
+
+        session.submit("CRANE");
+        session.submit("MOIST");
+        assertNull(session.submit("PLUMB"));
+
+        assertEquals(List.of("turn", "turn", "end WON", "rejected PLUMB: The game is over."), events);
+        assertEquals(GameSession.State.WON, session.getState());
+    }
+
+    @Test
+    void lastGuess_losesGame() {
+        VerticleLogic game = new VerticleLogic("ABCD");
+        GameSession<VerticleLogic.TurnResult> session = GameSession.verticle(game, null);
+        List<String> events = record(session);
+
+        for (int i = 0; i < game.getChances(); i++) {
+            session.submit("WXYZ");
+        }
+
+        assertEquals(GameSession.State.LOST, session.getState());
+        assertEquals("end LOST", events.getLast());
+    }
+
+    @Test
+    void giveUp_endsOnce() {
+        GameSession<MathlerLogic.TurnResult> session = GameSession.mathler(new MathlerLogic("12+34"));
+        List<String> events = record(session);
+
+        session.giveUp();
+        session.giveUp();
+
+        assertEquals(List.of("end GAVE_UP"), events);
+        assertFalse(session.isPlaying());
+    }
+
+    @Test
+    void terminal_feedsLinesUntilGameEnds() {
+        GameSession<WordleLogic.TurnResult> session = GameSession.wordle(new WordleLogic("CRANE"), null);
+        List<String> events = record(session);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Terminal terminal = new Terminal(
+                new ByteArrayInputStream("SLATE\nCRANE\nNEVER READ\n".getBytes(StandardCharsets.UTF_8)), out);
+
+        terminal.play(session, turn -> "Guess " + turn + ": ");
+
+        assertEquals(List.of("turn", "turn", "end WON"), events);
+        assertEquals("Guess 1: Guess 2: ", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void terminal_endOfInput_stopsGame() {
+        GameSession<WordleLogic.TurnResult> session = GameSession.wordle(new WordleLogic("CRANE"), null);
+        Terminal terminal = new Terminal(new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream());
+
+        assertThrows(UncheckedIOException.class, () -> terminal.play(session, _ -> "> "));
+        assertTrue(session.isPlaying());
+    }
+}
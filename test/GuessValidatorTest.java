@@ -0,0 +1,143 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuessValidatorTest {
+
+    /**
+     * Stand-in for the FX thread: callbacks queue up until {@link #drain()} runs them.
+     */
+    private static final class UiQueue implements java.util.concurrent.Executor {
+        private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void drain() {
+            Runnable r;
+            while ((r = tasks.poll()) != null) {
+                r.run();
+            }
+        }
+    }
+
+    @Test
+    void answerArrivesThroughPublisher() throws Exception {
+        UiQueue ui = new UiQueue();
+        GuessValidator v = new GuessValidator(w -> w.equals("CRANE"), ui);
+        List<Boolean> answers = new ArrayList<>();
+
+        v.validate("crane", answers::add);
+        v.validate("QQQQQ", answers::add);
+
+        // A stale callback of the first request may be queued too: drain until the answer is in
+        long deadline = System.currentTimeMillis() + 5000;
+        while (answers.isEmpty() && System.currentTimeMillis() < deadline) {
+            waitForQueue(ui, 1);
+            ui.drain();
+        }
+
+        // The first request was superseded by the second one
+        assertEquals(List.of(false), answers);
+    }
+
+    @Test
+    void sameWordIsCheckedOnlyOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        UiQueue ui = new UiQueue();
+        GuessValidator v = new GuessValidator(w -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }, ui);
+        List<Boolean> answers = new ArrayList<>();
+
+        v.prefetch("CRANE");
+        v.validate("CRANE", answers::add);
+        v.validate("CRANE", answers::add);
+        release.countDown();
+        waitForQueue(ui, 2);
+        ui.drain();
+
+        assertEquals(1, calls.get());
+        assertEquals(List.of(true), answers);
+
+        // Known answers don't start a new check
+        long hitsBefore = Metrics.counter(Metrics.VALIDATION_CACHE_HIT).get();
+        v.validate("CRANE", answers::add);
+        waitForQueue(ui, 1);
+        ui.drain();
+        assertEquals(1, calls.get());
+        assertEquals(hitsBefore + 1, Metrics.counter(Metrics.VALIDATION_CACHE_HIT).get());
+    }
+
+    @Test
+    void cancelDropsPendingAnswer() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        UiQueue ui = new UiQueue();
+        GuessValidator v = new GuessValidator(w -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }, ui);
+        List<Boolean> answers = new ArrayList<>();
+
+        v.validate("CRANE", answers::add);
+        v.cancel();
+        release.countDown();
+        Thread.sleep(100);
+        ui.drain();
+
+        assertTrue(answers.isEmpty());
+    }
+
+    @Test
+    void interruptedCheckIsNotRemembered() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        UiQueue ui = new UiQueue();
+        GuessValidator v = new GuessValidator(w -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new CancellationException("interrupted");
+            }
+            return false;
+        }, ui);
+        List<Boolean> answers = new ArrayList<>();
+
+        v.validate("QQQQQ", answers::add);
+        Thread.sleep(100);
+        ui.drain();
+        assertTrue(answers.isEmpty());
+
+        // No answer was cached, so the word is checked again
+        v.validate("QQQQQ", answers::add);
+        waitForQueue(ui, 1);
+        ui.drain();
+        assertEquals(2, calls.get());
+        assertEquals(List.of(false), answers);
+    }
+
+    private static void waitForQueue(UiQueue ui, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (ui.tasks.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
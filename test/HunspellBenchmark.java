@@ -0,0 +1,52 @@
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares serialised access to one native Hunspell instance with a pool of
+ * instances, for several checking threads. Not a unit test: run from the project
+ * folder with {@code java HunspellBenchmark [threads] [seconds]}.
+ */
+public class HunspellBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int threads = (args.length > 0) ? Integer.parseInt(args[0]) : 4;
+        int seconds = (args.length > 1) ? Integer.parseInt(args[1]) : 3;
+
+        String base = System.getProperty("user.dir") + "/resources/hunspell/";
+        String[] words = new Language("en").getWordList(5);
+
+        IO.println("cores: " + Runtime.getRuntime().availableProcessors() + ", threads: " + threads);
+
+        for (int pool : new int[]{1, threads}) {
+            try (HunspellDictionary d = HunspellDictionary.open("en", base + "en_US.dic", base + "en_US.aff", pool)) {
+                run(d, words, threads, 1);          // warm-up
+                long checks = run(d, words, threads, seconds);
+
+                IO.println(String.format("pool %d: %,d checks/s, ~%d MB",
+                        pool, checks / seconds, d.getMemoryBytes() / (1024 * 1024)));
+            }
+        }
+    }
+
+    private static long run(HunspellDictionary d, String[] words, int threads, int seconds)
+            throws InterruptedException {
+        LongAdder checks = new LongAdder();
+        CountDownLatch done = new CountDownLatch(threads);
+        long end = System.nanoTime() + seconds * 1_000_000_000L;
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t * 97;
+            Thread.ofPlatform().start(() -> {
+                int i = offset;
+                while (System.nanoTime() < end) {
+                    d.spell(words[i++ % words.length]);
+                    checks.increment();
+                }
+                done.countDown();
+            });
+        }
+
+        done.await();
+        return checks.sum();
+    }
+}
@@ -0,0 +1,97 @@
+import com.nikialeksey.hunspell.Hunspell;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HunspellDictionaryTest {
+
+    private static final String BASE = System.getProperty("user.dir") + "/resources/hunspell/";
+
+    @Test
+    void checksWordsInAnyCase() {
+        try (HunspellDictionary d = HunspellDictionary.open("en", BASE + "en_US.dic", BASE + "en_US.aff", 1)) {
+            assertTrue(d.spell("HOUSE"));
+            assertTrue(d.spell("house"));
+            assertFalse(d.spell("QXZQX"));
+            assertTrue(d.getMemoryBytes() > 0);
+        }
+    }
+
+    @Test
+    void closedDictionaryRejectsChecks() {
+        HunspellDictionary d = HunspellDictionary.open("en", BASE + "en_US.dic", BASE + "en_US.aff", 2);
+        d.close();
+
+        assertTrue(d.isClosed());
+        assertThrows(IllegalStateException.class, () -> d.spell("HOUSE"));
+    }
+
+    @Test
+    void closeWakesWaitingChecks() throws Exception {
+        HunspellDictionary d = HunspellDictionary.open("en", BASE + "en_US.dic", BASE + "en_US.aff", 1);
+        Hunspell held = d.borrow();
+
+        AtomicReference<Throwable> checkError = new AtomicReference<>();
+        Thread check = Thread.ofPlatform().start(() -> {
+            try {
+                d.spell("HOUSE");
+            } catch (RuntimeException e) {
+                checkError.set(e);
+            }
+        });
+        waitUntilWaiting(check);
+
+        Thread closer = Thread.ofPlatform().start(d::close);
+        waitUntilWaiting(closer);
+
+        d.giveBack(held);
+        check.join(5000);
+        closer.join(5000);
+
+        assertFalse(check.isAlive());
+        assertFalse(closer.isAlive());
+        assertInstanceOf(IllegalStateException.class, checkError.get());
+        assertThrows(IllegalStateException.class, () -> d.spell("HOUSE"));
+    }
+
+    @Test
+    void missingFilesAreReported() {
+        assertThrows(IllegalStateException.class,
+                () -> HunspellDictionary.open("xx", BASE + "xx_XX.dic", BASE + "xx_XX.aff", 1));
+    }
+
+    @Test
+    void interruptedCheckHasNoAnswer() {
+        HunspellChecker.isValidWord("en", "CRANE");
+
+        // An interrupted thread gets no answer rather than the "dictionary closed" fail-safe
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> HunspellChecker.isValidWord("en", "QXZQX"));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void registryReloadsAfterUnload() {
+        assertTrue(HunspellChecker.isValidWord("en", "CRANE"));
+        assertTrue(HunspellChecker.memoryBytes("en") > 0);
+
+        HunspellChecker.unload("en");
+        assertEquals(-1, HunspellChecker.memoryBytes("en"));
+
+        assertFalse(HunspellChecker.isValidWord("en", "QXZQX"));
+        assertTrue(HunspellChecker.isReady("en"));
+    }
+
+    private static void waitUntilWaiting(Thread t) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (t.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
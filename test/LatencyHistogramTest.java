@@ -0,0 +1,59 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void bucketsCoverEveryValueWithinSixPercent() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1000, 123_456, 16_000_000L, 1L << 40, Long.MAX_VALUE};
+        for (long v : values) {
+            int b = LatencyHistogram.bucketOf(v);
+            long upper = LatencyHistogram.upperBound(b);
+            assertTrue(upper >= v, "upper bound below value " + v);
+            assertTrue(upper - v <= Math.max(1, v / 16), "bucket too wide for " + v);
+            if (b > 0) {
+                assertTrue(LatencyHistogram.upperBound(b - 1) < v, "value " + v + " belongs to an earlier bucket");
+            }
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void percentilesCountMeanAndMax() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.percentile(50));
+
+        for (int i = 1; i <= 100; i++) {
+            h.record(i * 1000L);
+        }
+
+        assertEquals(100, h.getCount());
+        assertEquals(100_000L, h.getMax());
+        assertEquals(50_500.0, h.getMean(), 1e-9);
+
+        long p50 = h.percentile(50);
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 * 17 / 16, "p50 = " + p50);
+        assertEquals(100_000L, h.percentile(100));
+        assertThrows(IllegalArgumentException.class, () -> h.percentile(101));
+
+        h.record(-5);
+        assertEquals(101, h.getCount());
+        assertEquals(0, h.percentile(0.5));
+    }
+
+    @Test
+    void concurrentRecordingLosesNothing() {
+        LatencyHistogram h = new LatencyHistogram();
+        IntStream.range(0, 100_000).parallel().forEach(i -> h.record(i % 1000));
+
+        assertEquals(100_000, h.getCount());
+        assertEquals(999, h.getMax());
+
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getMax());
+    }
+}
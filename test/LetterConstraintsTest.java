@@ -0,0 +1,75 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LetterConstraintsTest {
+
+    /** Packs statuses given as a string of digits (position 0 first), as scorePacked does. */
+    private static int pack(String statuses) {
+        int code = 0;
+        int pow = 1;
+        for (int i = 0; i < statuses.length(); i++) {
+            code += (statuses.charAt(i) - '0') * pow;
+            pow *= 3;
+        }
+        return code;
+    }
+
+    @Test
+    void greensAndYellowsBecomeRequirements() {
+        LetterConstraints c = new LetterConstraints(5);
+        c.addPresence("CRANE", pack("21000"));
+        c.fix(0, 'C');
+
+        assertEquals('C', c.getFixed(0));
+        assertEquals(0, c.getFixed(1));
+        assertEquals(1, c.getMinCount('R'));
+        assertTrue(c.isExcluded('A'));
+        assertTrue(c.isExcluded('N'));
+        assertFalse(c.isExcluded('R'));
+
+        assertNull(c.check("CHORD"));
+        assertEquals("Letter 1 must be C.", c.check("SCRUB"));
+        assertEquals("Your guess must contain R.", c.check("CLOTH"));
+    }
+
+    @Test
+    void duplicateLettersNeedEnoughCopies() {
+        LetterConstraints c = new LetterConstraints(5);
+        // Both E of GEESE yellow/green, the third one grey: the word has at least two E
+        c.addPresence("GEESE", pack("01200"));
+
+        assertEquals(2, c.getMinCount('E'));
+        assertFalse(c.isExcluded('E'), "an E that is also yellow is not excluded");
+        assertEquals("Your guess must contain E 2 times.", c.check("STEAM"));
+        assertNull(c.check("THEME"));
+    }
+
+    @Test
+    void minimumOnlyGrows() {
+        LetterConstraints c = new LetterConstraints(5);
+        c.addPresence("EERIE", pack("11000"));
+        c.addPresence("STEAK", pack("00100"));
+
+        assertEquals(2, c.getMinCount('E'));
+    }
+
+    @Test
+    void excludedLettersAreReported() {
+        LetterConstraints c = new LetterConstraints(4);
+        c.addPresence("WXYZ", pack("0000"));
+
+        assertEquals("Y was already ruled out.", c.checkExcluded("ABYC"));
+        assertNull(c.checkExcluded("ABCD"));
+    }
+
+    @Test
+    void otherCharactersAreIgnored() {
+        LetterConstraints c = new LetterConstraints(4);
+        c.addPresence("AB-Ä", pack("1000"));
+
+        assertEquals(1, c.getMinCount('A'));
+        assertFalse(c.isExcluded('-'));
+        assertNull(c.check("Ä-AB"));
+    }
+}
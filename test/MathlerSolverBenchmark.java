@@ -0,0 +1,40 @@
+import java.util.Arrays;
+
+/**
+ * Measures the first {@link MathlerSolver#nextGuess} of a game (the slowest hint:
+ * nothing is known yet, so the candidate search is capped and sampled).
+ * The default time budget is the one the in-game hint uses.
+ * Not a unit test: run with {@code java MathlerSolverBenchmark [numbers] [games] [budget ms, 0 = none]}.
+ */
+public class MathlerSolverBenchmark {
+
+    public static void main(String[] args) {
+        int numbers = (args.length > 0) ? Integer.parseInt(args[0]) : 4;
+        int games = (args.length > 1) ? Integer.parseInt(args[1]) : 50;
+        long budget = (args.length > 2) ? Long.parseLong(args[2]) : 60;
+
+        long[] times = new long[games];
+        long checksum = 0;
+
+        for (int round = 0; round < 2; round++) {
+            // Round 0 only warms up the JIT
+            for (int game = 0; game < games; game++) {
+                MathlerLogic g = new MathlerLogic(numbers);
+                MathlerSolver solver = new MathlerSolver(numbers, g.getEquationLength(), g.getTarget());
+                solver.setTimeBudget(budget);
+
+                long t0 = System.nanoTime();
+                String guess = solver.nextGuess();
+                times[game] = System.nanoTime() - t0;
+
+                checksum += (guess != null) ? guess.length() : 0;
+            }
+        }
+
+        Arrays.sort(times);
+        IO.println(numbers + " numbers: " + games + " first hints, budget " + budget + " ms");
+        IO.println(String.format("median: %8.3f ms/hint", times[games / 2] / 1e6));
+        IO.println(String.format("p95:    %8.3f ms/hint", times[(int) (games * 0.95)] / 1e6));
+        IO.println(String.format("worst:  %8.3f ms/hint (checksum %d)", times[games - 1] / 1e6, checksum));
+    }
+}
@@ -0,0 +1,91 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MathlerSolverTest {
+
+    @Test
+    void evaluatorMatchesPrecedence() {
+        assertEquals(14, MathlerLogic.evaluate("2+3*4".toCharArray(), 5));
+        assertEquals(12, MathlerLogic.evaluate("8/2*3".toCharArray(), 5));
+        assertEquals(-5, MathlerLogic.evaluate("10-3*5".toCharArray(), 6));
+        assertEquals(MathlerLogic.INVALID, MathlerLogic.evaluate("12+".toCharArray(), 3));
+        assertEquals(MathlerLogic.INVALID, MathlerLogic.evaluate("4/0".toCharArray(), 3));
+    }
+
+    @Test
+    void packedScoreMatchesSubmitGuess() {
+        MathlerLogic g = new MathlerLogic("12+3");
+        MathlerLogic.TurnResult r = g.submitGuess("21+3");
+
+        int code = MathlerLogic.scorePacked("12+3".toCharArray(), "21+3".toCharArray(), 4);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(r.getTiles()[i].ordinal(), code % 3);
+            code /= 3;
+        }
+    }
+
+    @Test
+    void candidatesContainSecretAndShrink() {
+        MathlerLogic g = new MathlerLogic("12+34");
+        MathlerSolver solver = new MathlerSolver(2, 5, 46);
+
+        List<String> before = solver.candidates();
+        assertTrue(before.contains("12+34"));
+
+        solver.apply(g.submitGuess("10+36"));
+        List<String> after = solver.candidates();
+
+        assertTrue(after.contains("12+34"));
+        assertTrue(after.size() < before.size());
+        assertFalse(after.contains("10+36"));
+    }
+
+    @Test
+    void smallSpacesAreFoundCompletely() {
+        // Every 2-number equation of length 5 for 46: far fewer than the candidate cap
+        MathlerSolver solver = new MathlerSolver(2, 5, 46);
+
+        List<String> all = solver.candidates();
+
+        assertFalse(solver.isSampled());
+        assertEquals(all.size(), new HashSet<>(all).size());
+        for (String eq : all) {
+            assertEquals(46, MathlerLogic.evaluate(eq.toCharArray(), 5), eq);
+        }
+    }
+
+    @Test
+    void timeBudgetStillFindsEnoughToRank() {
+        MathlerLogic g = new MathlerLogic(4);
+        MathlerSolver solver = new MathlerSolver(4, g.getEquationLength(), g.getTarget());
+        solver.setTimeBudget(1);
+
+        List<String> sample = solver.candidates();
+
+        assertFalse(sample.isEmpty());
+        for (String eq : sample) {
+            assertEquals(g.getTarget(), MathlerLogic.evaluate(eq.toCharArray(), eq.length()), eq);
+        }
+        assertNotNull(solver.nextGuess());
+    }
+
+    @Test
+    void solvesRandomEquationsWithinChances() {
+        for (int numbers = 2; numbers <= 4; numbers++) {
+            MathlerLogic g = new MathlerLogic(numbers);
+            MathlerSolver solver = new MathlerSolver(numbers, g.getEquationLength(), g.getTarget());
+
+            while (!g.isGameOver()) {
+                String guess = solver.nextGuess();
+                assertNotNull(guess, "Secret must stay among the candidates: " + g.getEquation());
+                solver.apply(g.submitGuess(guess));
+            }
+
+            assertTrue(g.isGameWon(), "Solver failed on " + g.getEquation());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsTest {
+
+    @Test
+    void sameNameGivesSameMetric() {
+        assertSame(Metrics.histogram("test.same"), Metrics.histogram("test.same"));
+        assertSame(Metrics.counter("test.same"), Metrics.counter("test.same"));
+        assertSame(Metrics.submitGuess("test"), Metrics.histogram("submitGuess.test"));
+    }
+
+    @Test
+    void dumpListsRecordedMetrics() {
+        Metrics.histogram("test.dump").record(2_000_000L);
+        Metrics.histogram("test.empty");
+        Metrics.counter("test.counter").add(3);
+
+        String dump = Metrics.dump();
+        assertTrue(dump.contains("test.dump"), dump);
+        assertTrue(dump.contains("max=   2.000 ms"), dump);
+        assertTrue(dump.contains("test.counter"), dump);
+        assertFalse(dump.contains("test.empty"), dump);
+    }
+
+    @Test
+    void submitGuessIsTimedPerMode() {
+        LatencyHistogram wordle = Metrics.submitGuess("wordle");
+        long before = wordle.getCount();
+
+        new WordleLogic("CRANE").submitGuess("REACT");
+
+        assertEquals(before + 1, wordle.getCount());
+    }
+
+    @Test
+    void allocationRateNeedsTwoSamples() {
+        Metrics.allocationRate();
+        byte[][] garbage = new byte[100][];
+        for (int i = 0; i < garbage.length; i++) {
+            garbage[i] = new byte[10_000];
+        }
+        double rate = Metrics.allocationRate();
+        if (Metrics.allocatedBytes() >= 0) {
+            assertTrue(rate > 0, "rate = " + rate);
+        }
+        assertEquals(100, garbage.length);
+    }
+}
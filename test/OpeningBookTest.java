@@ -0,0 +1,108 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OpeningBookTest {
+
+    private static final String[] WORDS = {
+            "APPLE", "PAPER", "LEVEL", "ALLEY", "SPOON", "LLAMA", "EERIE", "CRANE", "TRACE", "REACT"
+    };
+
+    private static final String[] XORDLE_WORDS = {
+            "CRANE", "BUILT", "MOIST", "FUZZY", "GHOST", "PLUMB", "DWARF", "JOLLY", "SWIFT", "BRICK", "LUNCH", "EMPTY"
+    };
+
+    @Test
+    void bookMatchesTheSolver() {
+        for (String mode : new String[]{DifficultyRatings.WORDLE, DifficultyRatings.VERTICLE}) {
+            CandidateSolver.Scorer scorer = DifficultyRatings.scorer(mode);
+            OpeningBook book = OpeningBook.compute(WORDS, scorer);
+
+            String first = new CandidateSolver(WORDS, scorer).nextGuess();
+            assertEquals(first, book.firstGuess(), mode);
+
+            for (String secret : WORDS) {
+                int code = scorer.score(secret, first, 0);
+                CandidateSolver solver = new CandidateSolver(WORDS, scorer);
+                solver.apply(first, code);
+                assertEquals(solver.nextGuess(), book.secondGuess(first, code), mode + " " + secret);
+            }
+        }
+    }
+
+    @Test
+    void otherFirstGuessOrUnknownCodeIsNotCovered() {
+        OpeningBook book = OpeningBook.compute(WORDS, DifficultyRatings.scorer(DifficultyRatings.WORDLE));
+        String other = book.firstGuess().equals("LLAMA") ? "EERIE" : "LLAMA";
+
+        assertNull(book.secondGuess(other, book.getCodes()[0]));
+        assertNull(book.secondGuess(book.firstGuess(), -1));
+    }
+
+    @Test
+    void xordleBookMatchesTheSolver() {
+        XordlePairIndex index = new XordlePairIndex(XORDLE_WORDS);
+        OpeningBook book = OpeningBook.computeXordle(XORDLE_WORDS, index);
+        String first = book.firstGuess();
+
+        for (int k = 0; k < index.getPairCount(); k++) {
+            XordleLogic game = new XordleLogic(XORDLE_WORDS[index.first(k)], XORDLE_WORDS[index.second(k)]);
+            XordleLogic.TurnResult result = game.submitGuess(first);
+
+            XordleSolver solver = new XordleSolver(XORDLE_WORDS, index);
+            solver.apply(result);
+            String expected = solver.nextGuess();
+
+            XordleSolver coded = new XordleSolver(XORDLE_WORDS, index);
+            int[] codes = coded.feedbackCodes(first);
+            boolean found = false;
+            for (int code : codes) {
+                XordleSolver probe = new XordleSolver(XORDLE_WORDS, index);
+                probe.apply(first, code);
+                if (probe.getCandidatePairCount() == solver.getCandidatePairCount()
+                        && expected.equals(book.secondGuess(first, code))) {
+                    found = true;
+                }
+            }
+            assertTrue(found, "pair " + k);
+        }
+    }
+
+    @Test
+    void fileRoundTrip_andStaleListIsRejected(@TempDir Path dir) throws Exception {
+        OpeningBook book = OpeningBook.compute(WORDS, DifficultyRatings.scorer(DifficultyRatings.WORDLE));
+        Path file = dir.resolve("book.bin");
+        OpeningBook.write(file, book, DiskCache.listHash(WORDS));
+
+        OpeningBook read = OpeningBook.read(file, WORDS);
+        assertNotNull(read);
+        assertEquals(book.firstGuess(), read.firstGuess());
+        assertArrayEquals(book.getCodes(), read.getCodes());
+        for (int code : book.getCodes()) {
+            assertEquals(book.secondGuess(book.firstGuess(), code), read.secondGuess(read.firstGuess(), code));
+        }
+
+        String[] changed = WORDS.clone();
+        changed[0] = "ANGLE";
+        assertNull(OpeningBook.read(file, changed));
+        assertNull(OpeningBook.read(dir.resolve("missing.bin"), WORDS));
+    }
+
+    @Test
+    void seededDecisionsGiveTheSameRatings() {
+        CandidateSolver.Scorer scorer = DifficultyRatings.scorer(DifficultyRatings.WORDLE);
+        Map<String, String> seeded = new ConcurrentHashMap<>();
+        CandidateSolver.addOpenings(seeded, OpeningBook.compute(WORDS, scorer));
+        Map<String, String> plain = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < WORDS.length; i++) {
+            assertEquals(DifficultyRatings.rateWord(WORDS, scorer, WORDS.length, plain, i),
+                    DifficultyRatings.rateWord(WORDS, scorer, WORDS.length, seeded, i), WORDS[i]);
+        }
+    }
+}
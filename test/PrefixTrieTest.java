@@ -0,0 +1,48 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrefixTrieTest {
+
+    @Test
+    void prefixesMapToSortedRanges() {
+        PrefixTrie trie = new PrefixTrie(new String[]{"crane", "CRATE", "apple", "CRANE", "BLOOM"});
+
+        assertEquals(4, trie.getWordsCount(), "sorted, uppercase, without duplicates");
+        assertEquals("APPLE", trie.getWord(0));
+
+        int cra = trie.find("cra");
+        assertEquals(2, trie.rangeEnd(cra) - trie.rangeStart(cra));
+        assertEquals("CRANE", trie.getWord(trie.rangeStart(cra)));
+
+        int root = trie.find("");
+        assertEquals(0, trie.rangeStart(root));
+        assertEquals(4, trie.rangeEnd(root));
+
+        assertTrue(trie.hasPrefix("BLOO"));
+        assertFalse(trie.hasPrefix("CRX"));
+        assertFalse(trie.hasPrefix("C-"));
+    }
+
+    @Test
+    void nodeCountIsExact() {
+        // APPLE (5) + BLOOM (5) + CRANE (5) + CRATE (T, E after the shared CRA): 17 plus the root
+        PrefixTrie trie = new PrefixTrie(new String[]{"CRANE", "CRATE", "APPLE", "BLOOM"});
+        assertEquals(18, trie.getNodeCount());
+    }
+
+    @Test
+    void rangesMatchLinearScan_onRealList() {
+        String[] words = new Language("en").getWordList(5);
+        PrefixTrie trie = new PrefixTrie(words);
+
+        for (String prefix : new String[]{"", "S", "ST", "STA", "STAR", "XQ", "QU"}) {
+            long expected = Arrays.stream(words).filter(w -> w.startsWith(prefix)).count();
+            int node = trie.find(prefix);
+            int actual = (node < 0) ? 0 : trie.rangeEnd(node) - trie.rangeStart(node);
+            assertEquals(expected, actual, prefix);
+        }
+    }
+}
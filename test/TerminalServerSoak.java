@@ -0,0 +1,83 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opens many simultaneous connections to a {@link TerminalServer} in this JVM, brings
+ * every session to a waiting prompt and reports the heap used per session (client
+ * sockets included, so this is an upper bound). Needs about two file descriptors per
+ * connection ({@code ulimit -n}). Not a unit test: run with
+ * {@code java TerminalServerSoak [connections]}.
+ */
+public class TerminalServerSoak {
+
+    public static void main(String[] args) throws Exception {
+        int connections = (args.length > 0) ? Integer.parseInt(args[0]) : 2000;
+
+        try (TerminalServer server = new TerminalServer(0)) {
+            // Warm up: one full session loads the word lists every session shares
+            try (Socket s = open(server)) {
+                s.getOutputStream().write("en\nwordle\n1\n5\nn\n".getBytes(StandardCharsets.UTF_8));
+                awaitText(s, "Word: 1");
+            }
+
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            long before = usedHeap(memory);
+            long start = System.nanoTime();
+
+            List<Socket> sockets = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                Socket s = open(server);
+                s.getOutputStream().write("en\nwordle\n1\n5\nn\n".getBytes(StandardCharsets.UTF_8));
+                sockets.add(s);
+            }
+            for (Socket s : sockets) {
+                awaitText(s, "Guess the word");
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            long after = usedHeap(memory);
+            IO.println(String.format("%d sessions open (%d on server) in %d ms", connections,
+                    server.getSessionCount(), millis));
+            IO.println(String.format("heap: %d MB -> %d MB, %.1f KB per session", before >> 20, after >> 20,
+                    (after - before) / 1024.0 / connections));
+
+            for (Socket s : sockets) {
+                s.close();
+            }
+        }
+    }
+
+    private static Socket open(TerminalServer server) throws IOException {
+        Socket s = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        s.setSoTimeout(30_000);
+        return s;
+    }
+
+    private static void awaitText(Socket s, String text) throws IOException {
+        InputStream in = s.getInputStream();
+        StringBuilder seen = new StringBuilder();
+        byte[] buf = new byte[4096];
+        while (seen.indexOf(text) < 0) {
+            int n = in.read(buf);
+            if (n < 0) {
+                throw new IOException("Closed before \"" + text + "\": " + seen);
+            }
+            seen.append(new String(buf, 0, n, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static long usedHeap(MemoryMXBean memory) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
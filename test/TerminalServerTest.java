@@ -0,0 +1,78 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TerminalServerTest {
+
+    @Test
+    void sessionsPlayIndependently() throws Exception {
+        try (TerminalServer server = new TerminalServer(0);
+             Socket a = connect(server);
+             Socket b = connect(server)) {
+
+            send(a, "en\nverticle\n5\nn\n");
+            send(b, "de\nwordle\n1\n4\nn\n");
+
+            send(a, "ABC\n");
+            assertTrue(readUntil(a, "must be 5 letters").contains("Guess the word (column 1)"));
+
+            send(b, "ABCDEFG\n");
+            assertTrue(readUntil(b, "must be 4 letters").contains("Word: 1"));
+
+            assertEquals(2, server.getSessionCount());
+        }
+    }
+
+    @Test
+    void disconnectEndsSession() throws Exception {
+        try (TerminalServer server = new TerminalServer(0)) {
+            try (Socket s = connect(server)) {
+                readUntil(s, "Which language");
+                assertEquals(1, server.getSessionCount());
+            }
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (server.getSessionCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, server.getSessionCount());
+        }
+    }
+
+    private static Socket connect(TerminalServer server) throws IOException {
+        Socket s = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        s.setSoTimeout(10_000);
+        return s;
+    }
+
+    private static void send(Socket s, String text) throws IOException {
+        OutputStream out = s.getOutputStream();
+        out.write(text.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * Reads output until it contains the text and returns everything read.
+     */
+    private static String readUntil(Socket s, String text) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+        StringBuilder seen = new StringBuilder();
+        char[] buf = new char[1024];
+        while (seen.indexOf(text) < 0) {
+            int n = in.read(buf);
+            if (n < 0) {
+                fail("Connection closed before \"" + text + "\"; got: " + seen);
+            }
+            seen.append(buf, 0, n);
+        }
+        return seen.toString();
+    }
+}
@@ -101,4 +101,21 @@ public class VerticleLogicTest {
         assertTrue(hasYellow);
     }
 
+    @Test
+    void hardMode_keepsFoundLettersAndRevealedLetters() {
+        VerticleLogic g = new VerticleLogic("CATS");
+        g.setHardMode(true);
+
+        // Column 1 looks for C: C green, A and T yellow
+        g.submitGuess("ACTX");
+        assertEquals('C', g.getConstraints().getFixed(0));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> g.submitGuess("ATCS"));
+        assertEquals("Hard mode: Letter 1 must be C.", ex.getMessage());
+        ex = assertThrows(IllegalArgumentException.class, () -> g.submitGuess("CASH"));
+        assertEquals("Hard mode: Your guess must contain T.", ex.getMessage());
+
+        assertEquals(1, g.getTries());
+        assertTrue(g.submitGuess("CATS").isGameWon());
+    }
 }
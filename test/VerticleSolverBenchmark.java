@@ -0,0 +1,84 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the bitset filter of {@link VerticleSolver} with a naive rescan of
+ * {@link Language#getWordList} that re-scores every word against the whole history.
+ * Not a unit test: run with {@code java VerticleSolverBenchmark [lang] [letters] [games]}.
+ */
+public class VerticleSolverBenchmark {
+
+    public static void main(String[] args) {
+        String code = (args.length > 0) ? args[0] : "en";
+        int letters = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+        int games = (args.length > 2) ? Integer.parseInt(args[2]) : 2000;
+
+        Language lang = new Language(code);
+        String[] words = lang.getWordList(letters);
+        Random random = new Random(42);
+
+        // ----- Play the same random games with both filters -----
+        long bitsetNanos = 0;
+        long rescanNanos = 0;
+        long columns = 0;
+        long checksum = 0;
+
+        for (int round = 0; round < 2; round++) {
+            // Round 0 only warms up the JIT
+            bitsetNanos = 0;
+            rescanNanos = 0;
+            columns = 0;
+
+            for (int game = 0; game < games; game++) {
+                VerticleLogic g = new VerticleLogic(words[random.nextInt(words.length)]);
+                VerticleSolver solver = new VerticleSolver(words);
+                List<VerticleLogic.TurnResult> history = new ArrayList<>();
+
+                while (!g.isGameOver()) {
+                    VerticleLogic.TurnResult r = g.submitGuess(words[random.nextInt(words.length)]);
+                    history.add(r);
+
+                    long t0 = System.nanoTime();
+                    solver.apply(r);
+                    int fast = solver.getCandidateCount();
+                    long t1 = System.nanoTime();
+                    int slow = rescan(lang, letters, history);
+                    long t2 = System.nanoTime();
+
+                    if (fast != slow) {
+                        throw new IllegalStateException("Filters disagree on " + g.getWord());
+                    }
+
+                    bitsetNanos += t1 - t0;
+                    rescanNanos += t2 - t1;
+                    columns++;
+                    checksum += fast;
+                }
+            }
+        }
+
+        IO.println(code + "_" + letters + ": " + words.length + " words, " + columns + " columns");
+        IO.println(String.format("bitset filter: %8.2f us/column", bitsetNanos / 1000.0 / columns));
+        IO.println(String.format("naive rescan:  %8.2f us/column", rescanNanos / 1000.0 / columns));
+        IO.println(String.format("speed-up:      %8.1fx (checksum %d)", (double) rescanNanos / bitsetNanos, checksum));
+    }
+
+    private static int rescan(Language lang, int letters, List<VerticleLogic.TurnResult> history) {
+        int count = 0;
+        for (String w : lang.getWordList(letters)) {
+            boolean ok = true;
+            for (VerticleLogic.TurnResult r : history) {
+                int code = VerticleLogic.packTiles(r.getTiles());
+                if (VerticleLogic.scorePacked(w, r.getGuess(), r.getTryIndex()) != code) {
+                    ok = false;
+                    break;
+                }
+            }
+            if (ok) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
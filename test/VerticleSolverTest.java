@@ -0,0 +1,88 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerticleSolverTest {
+
+    @Test
+    void bitsetFilterMatchesRescan() {
+        String[] words = new Language("en").getWordList(5);
+        Random random = new Random(7);
+
+        for (int game = 0; game < 30; game++) {
+            String secret = words[random.nextInt(words.length)];
+            VerticleLogic g = new VerticleLogic(secret);
+            VerticleSolver solver = new VerticleSolver(words);
+            List<VerticleLogic.TurnResult> history = new ArrayList<>();
+
+            while (!g.isGameOver()) {
+                VerticleLogic.TurnResult r = g.submitGuess(words[random.nextInt(words.length)]);
+                history.add(r);
+                solver.apply(r);
+
+                assertArrayEquals(rescan(words, history), solver.getCandidates(), "secret " + secret);
+                assertTrue(Arrays.asList(solver.getCandidates()).contains(secret));
+            }
+        }
+    }
+
+    @Test
+    void exactMatchLeavesOnlyTheSecret() {
+        String[] words = {"CRANE", "TRACE", "REACT", "CATER"};
+        VerticleLogic g = new VerticleLogic("TRACE");
+        VerticleSolver solver = new VerticleSolver(words);
+
+        solver.apply(g.submitGuess("TRACE"));
+
+        assertArrayEquals(new String[]{"TRACE"}, solver.getCandidates());
+    }
+
+    @Test
+    void solverKeepsSecretAndUsuallyWins() {
+        String[] words = new Language("en").getWordList(5);
+        Random random = new Random(11);
+        int won = 0;
+
+        for (int game = 0; game < 20; game++) {
+            VerticleLogic g = new VerticleLogic(words[random.nextInt(words.length)]);
+            VerticleSolver solver = new VerticleSolver(words);
+
+            while (!g.isGameOver()) {
+                String guess = solver.nextGuess();
+                assertNotNull(guess, "Secret must stay among the candidates: " + g.getWord());
+                solver.apply(g.submitGuess(guess));
+            }
+            if (g.isGameWon()) {
+                won++;
+            }
+        }
+
+        assertTrue(won >= 15, "Won only " + won + " of 20");
+    }
+
+    /**
+     * Reference filter: re-scores every word of the list against the whole history.
+     */
+    static String[] rescan(String[] words, List<VerticleLogic.TurnResult> history) {
+        List<String> out = new ArrayList<>();
+        for (String w : words) {
+            boolean ok = true;
+            for (VerticleLogic.TurnResult r : history) {
+                int code = VerticleLogic.packTiles(r.getTiles());
+                if (VerticleLogic.scorePacked(w, r.getGuess(), r.getTryIndex()) != code) {
+                    ok = false;
+                    break;
+                }
+            }
+            if (ok) {
+                out.add(w);
+            }
+        }
+        return out.toArray(new String[0]);
+    }
+}
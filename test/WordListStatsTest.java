@@ -0,0 +1,131 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordListStatsTest {
+
+    private static final String[] WORDS = {"CRANE", "REACT", "TRACE", "LEVEL", "APPLE", "LLAMA"};
+
+    @Test
+    void letterCountsMatchBruteForce() {
+        WordListStats stats = WordListStats.of(WORDS, 5);
+
+        assertEquals(6, stats.getWordCount());
+        for (char c = 'A'; c <= 'Z'; c++) {
+            int total = 0;
+            int words = 0;
+            for (String w : WORDS) {
+                if (w.indexOf(c) >= 0) {
+                    words++;
+                }
+                for (char x : w.toCharArray()) {
+                    if (x == c) {
+                        total++;
+                    }
+                }
+            }
+            assertEquals(total, stats.letterCount(c), "count " + c);
+            assertEquals(words, stats.wordsWith(c), "words " + c);
+        }
+
+        assertEquals(5, stats.letterCount('L'));
+        assertEquals(5, stats.wordsWith('e'));
+    }
+
+    @Test
+    void positionalAndCoOccurrence() {
+        WordListStats stats = WordListStats.of(WORDS, 5);
+
+        assertEquals(2, stats.positionCount(0, 'L'));
+        assertEquals(1, stats.positionCount(0, 'C'));
+        assertEquals(3, stats.positionCount(4, 'E'));
+
+        // CRANE, REACT, TRACE
+        assertEquals(3, stats.coOccurrence('C', 'R'));
+        assertEquals(stats.coOccurrence('C', 'R'), stats.coOccurrence('R', 'C'));
+        assertEquals(stats.wordsWith('A'), stats.coOccurrence('A', 'A'));
+        assertEquals(0, stats.coOccurrence('Z', 'A'));
+
+        assertThrows(IllegalArgumentException.class, () -> stats.positionCount(5, 'A'));
+        assertThrows(IllegalArgumentException.class, () -> stats.wordsWith('?'));
+    }
+
+    @Test
+    void maskDistributionGroupsAnagrams() {
+        WordListStats stats = WordListStats.of(WORDS, 5);
+
+        // REACT and TRACE share a letter set, CRANE has N instead of T
+        assertEquals(2, stats.wordsWithMask(XordlePairIndex.mask("REACT")));
+        assertEquals(1, stats.wordsWithMask(XordlePairIndex.mask("CRANE")));
+        assertEquals(0, stats.wordsWithMask(XordlePairIndex.mask("FUZZY")));
+
+        int total = 0;
+        for (int i = 0; i < stats.getDistinctMaskCount(); i++) {
+            total += stats.maskCountAt(i);
+            if (i > 0) {
+                assertTrue(stats.maskAt(i - 1) < stats.maskAt(i));
+            }
+        }
+        assertEquals(WORDS.length, total);
+
+        // LEVEL and LLAMA have 3 distinct letters, APPLE 4, the rest 5
+        assertArrayEquals(new int[]{0, 0, 0, 2, 1, 3}, stats.distinctLetterHistogram());
+    }
+
+    @Test
+    void parallelPassMatchesOnLargeList() {
+        String[] words = new String[6000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = WORDS[i % WORDS.length];
+        }
+
+        WordListStats small = WordListStats.of(WORDS, 5);
+        WordListStats big = WordListStats.of(words, 5);
+        int factor = words.length / WORDS.length;
+
+        for (char c = 'A'; c <= 'Z'; c++) {
+            assertEquals(small.letterCount(c) * factor, big.letterCount(c));
+            assertEquals(small.positionCount(2, c) * factor, big.positionCount(2, c));
+            assertEquals(small.coOccurrence(c, 'E') * factor, big.coOccurrence(c, 'E'));
+        }
+    }
+
+    @Test
+    void heuristicPrefersCommonLetters() {
+        WordListStats stats = WordListStats.of(WORDS, 5);
+
+        assertTrue(stats.heuristicScore("TRACE") > stats.heuristicScore("LLAMA"));
+        assertEquals("CRANE", stats.bestHeuristicGuess(new String[]{"LLAMA", "CRANE", "APPLE"}));
+        assertNull(stats.bestHeuristicGuess(new String[0]));
+    }
+
+    @Test
+    void diskRoundTripKeepsEverything() throws IOException {
+        WordListStats stats = WordListStats.of(WORDS, 5);
+        Path file = Files.createTempFile("stats", ".bin");
+        try {
+            stats.write(file, 42L);
+
+            assertNull(WordListStats.read(file, 5, WORDS.length, 43L));
+            assertNull(WordListStats.read(file, 5, WORDS.length + 1, 42L));
+
+            WordListStats read = WordListStats.read(file, 5, WORDS.length, 42L);
+            assertNotNull(read);
+            assertEquals(stats.getDistinctMaskCount(), read.getDistinctMaskCount());
+            for (char c = 'A'; c <= 'Z'; c++) {
+                assertEquals(stats.letterCount(c), read.letterCount(c));
+                assertEquals(stats.wordsWith(c), read.wordsWith(c));
+                assertEquals(stats.positionCount(4, c), read.positionCount(4, c));
+                assertEquals(stats.coOccurrence(c, 'R'), read.coOccurrence(c, 'R'));
+            }
+            assertEquals(stats.wordsWithMask(XordlePairIndex.mask("REACT")),
+                    read.wordsWithMask(XordlePairIndex.mask("REACT")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+import java.util.Random;
+
+/**
+ * Times {@link WordSearch} queries (pattern, contains, excludes, count, first page)
+ * against a linear scan of the words. Not a unit test: run with
+ * {@code java WordSearchBenchmark [lang] [letters] [queries]}.
+ */
+public class WordSearchBenchmark {
+
+    public static void main(String[] args) {
+        String code = (args.length > 0) ? args[0] : "en";
+        int letters = (args.length > 1) ? Integer.parseInt(args[1]) : 7;
+        int queries = (args.length > 2) ? Integer.parseInt(args[2]) : 20000;
+
+        Language lang = new Language(code);
+        String[] words = lang.getWordList(letters);
+
+        long t0 = System.nanoTime();
+        WordSearch search = WordSearch.of(lang, letters);
+        long buildNanos = System.nanoTime() - t0;
+
+        long indexNanos = 0;
+        long scanNanos = 0;
+        long worst = 0;
+        long checksum = 0;
+
+        for (int round = 0; round < 2; round++) {
+            // Round 0 only warms up the JIT
+            Random random = new Random(42);
+            indexNanos = 0;
+            scanNanos = 0;
+            worst = 0;
+
+            for (int q = 0; q < queries; q++) {
+                String word = words[random.nextInt(words.length)];
+                int pos = random.nextInt(letters);
+                char in = word.charAt(random.nextInt(letters));
+                char out = (char) ('A' + random.nextInt(26));
+
+                long a = System.nanoTime();
+                WordSearch.Query query = search.query().letterAt(pos, word.charAt(pos))
+                        .contains(String.valueOf(in)).excludes(String.valueOf(out));
+                int fast = query.count();
+                checksum += query.page(0, 20).size();
+                long b = System.nanoTime();
+                int slow = scan(words, pos, word.charAt(pos), in, out);
+                long c = System.nanoTime();
+
+                if (fast != slow) {
+                    throw new IllegalStateException("Search and scan disagree on " + word);
+                }
+                indexNanos += b - a;
+                scanNanos += c - b;
+                worst = Math.max(worst, b - a);
+                checksum += fast;
+            }
+        }
+
+        IO.println(code + "_" + letters + ": " + words.length + " words, index built in "
+                + String.format("%.2f ms", buildNanos / 1e6));
+        IO.println(String.format("bitset query: %8.2f us/query (worst %.1f us)", indexNanos / 1000.0 / queries,
+                worst / 1000.0));
+        IO.println(String.format("linear scan:  %8.2f us/query (checksum %d)", scanNanos / 1000.0 / queries, checksum));
+    }
+
+    private static int scan(String[] words, int pos, char at, char in, char out) {
+        int count = 0;
+        for (String w : words) {
+            if (w.charAt(pos) == at && w.indexOf(in) >= 0 && w.indexOf(out) < 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,103 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordSearchTest {
+
+    private static final String[] WORDS = {"APPLE", "AMPLE", "ANGLE", "EAGLE", "SPOON", "LEVEL", "ALPHA"};
+
+    @Test
+    void patternWithWildcards() {
+        WordSearch search = new WordSearch(WORDS);
+
+        assertEquals(List.of("APPLE", "AMPLE"), search.query().pattern("A?P?E").stream().toList());
+        assertEquals(List.of("APPLE", "AMPLE", "ANGLE"), search.query().pattern("a...e").stream().toList());
+        assertThrows(IllegalArgumentException.class, () -> search.query().pattern("A?P"));
+    }
+
+    @Test
+    void containsExcludesAndCounts() {
+        WordSearch search = new WordSearch(WORDS);
+
+        assertEquals(List.of("APPLE", "ALPHA"), search.query().contains("PA").excludes("M").excludes("G")
+                .count('P', 1, 2).page(0, 10));
+        assertEquals(List.of("LEVEL"), search.query().contains("LL").contains("EE").page(0, 10));
+        assertEquals(List.of("APPLE"), search.query().count('P', 2, 2).page(0, 10));
+        assertEquals(List.of("SPOON", "ALPHA"), search.query().count('E', 0, 0).page(0, 10));
+        assertEquals(0, search.query().contains("PPPPPP").count());
+    }
+
+    @Test
+    void regexOnlyFiltersTheOtherResults() {
+        WordSearch search = new WordSearch(WORDS);
+
+        WordSearch.Query q = search.query().contains("L").regex(".*GLE");
+        assertEquals(List.of("ANGLE", "EAGLE"), q.stream().toList());
+        assertEquals(2, q.count());
+        assertEquals(List.of("EAGLE"), q.page(1, 5));
+    }
+
+    @Test
+    void parsedQuery() {
+        WordSearch search = new WordSearch(WORDS);
+
+        assertEquals(List.of("ALPHA"), search.parse("A???? -E +P").page(0, 10));
+        assertEquals(List.of("LEVEL"), search.parse("L:2 E:2").page(0, 10));
+        assertEquals(List.of("ANGLE", "EAGLE"), search.parse("/.*GLE/").page(0, 10));
+        assertEquals(List.of("APPLE", "AMPLE"), search.parse("P:1-2 -H +E").page(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> search.parse("E:x"));
+    }
+
+    @Test
+    void constraintsFromFeedback() {
+        LetterConstraints c = new LetterConstraints(5);
+        c.fix(0, 'A');
+        c.addPresence("ANGLE", WordleLogic.scorePacked("APPLE", "ANGLE"));
+
+        // A and L E green in APPLE's feedback; N and G are absent
+        assertEquals(List.of("APPLE", "AMPLE"), new WordSearch(WORDS).query().matching(c).page(0, 10));
+    }
+
+    @Test
+    void pagesCoverTheResultInOrder() {
+        String[] words = new Language("en").getWordList(5);
+        WordSearch search = new WordSearch(words);
+        WordSearch.Query q = search.query().contains("E");
+
+        List<String> all = q.stream().toList();
+        assertEquals(all.size(), q.count());
+        for (int offset = 0; offset < all.size(); offset += 37) {
+            assertEquals(all.subList(offset, Math.min(all.size(), offset + 37)), q.page(offset, 37));
+        }
+        assertEquals(List.of(), q.page(all.size(), 10));
+    }
+
+    @Test
+    void matchesLinearScan_onRandomQueries() {
+        String[] words = new Language("en").getWordList(6);
+        WordSearch search = WordSearch.of(new Language("en"), 6);
+        Random random = new Random(5);
+
+        for (int round = 0; round < 300; round++) {
+            String word = words[random.nextInt(words.length)];
+            char[] pattern = "??????".toCharArray();
+            pattern[random.nextInt(6)] = word.charAt(random.nextInt(6));
+            char in = word.charAt(random.nextInt(6));
+            char out = (char) ('A' + random.nextInt(26));
+            String p = new String(pattern);
+
+            List<String> expected = Arrays.stream(words)
+                    .filter(w -> Pattern.matches(p.replace('?', '.'), w))
+                    .filter(w -> w.indexOf(in) >= 0 && w.indexOf(out) < 0)
+                    .toList();
+            List<String> actual = search.query().pattern(p).contains(String.valueOf(in))
+                    .excludes(String.valueOf(out)).stream().toList();
+            assertEquals(expected, actual, p + " +" + in + " -" + out);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class WordleLogicTest {
@@ -78,6 +84,48 @@ public class WordleLogicTest {
         }
     }
 
+    @Test
+    void solvingShrinksActiveWords_beyond64Words() {
+        String[] words = Arrays.copyOf(new Language("en").getWordList(5), 100);
+        WordleLogic g = new WordleLogic(words);
+
+        g.submitGuess(words[70]);
+        g.submitGuess(words[3]);
+
+        assertTrue(g.isSolved(70));
+        assertTrue(g.isSolved(3));
+        assertFalse(g.isSolved(69));
+        assertEquals(98, g.getUnsolvedCount());
+
+        int[] active = g.getActiveIndices();
+        assertEquals(98, active.length);
+        assertEquals(2, active[2]);
+        assertEquals(4, active[3]);
+        assertEquals(71, active[69]);
+
+        WordleLogic.TurnResult r = g.submitGuess(words[99]);
+        assertTrue(r.isSolved(99));
+        assertTrue(r.isSolved(70));
+        assertFalse(r.isSolved(64));
+        assertEquals(WordleLogic.Tile.GREEN, r.getTilesByWord()[70][0]);
+        assertFalse(r.isGameWon());
+    }
+
+    @Test
+    void packedScore_matchesReference() {
+        String[] words = Arrays.copyOf(new Language("en").getWordList(5), 300);
+        for (String secret : words) {
+            for (String guess : new String[] {"EERIE", "LLAMA", "SASSY", "CRANE", words[0]}) {
+                int[] status = WordleLogic.scoreWordle(secret, guess);
+                int code = WordleLogic.scorePacked(secret, guess);
+                for (int s : status) {
+                    assertEquals(s, code % 3, secret + " / " + guess);
+                    code /= 3;
+                }
+            }
+        }
+    }
+
     @Test
     void allWordsMustBeSolvedToWin() {
         Language dummy = new Language("en"); // only used for constructor
@@ -87,4 +135,75 @@ public class WordleLogicTest {
         assertFalse(g.isGameWon());
     }
 
+    @Test
+    void hardMode_requiresRevealedLetters() {
+        WordleLogic g = new WordleLogic("CHORD");
+        g.setHardMode(true);
+
+        g.submitGuess("CRANE"); // C green, R yellow
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> g.submitGuess("SLOTH"));
+        assertEquals("Hard mode: Letter 1 must be C.", ex.getMessage());
+        ex = assertThrows(IllegalArgumentException.class, () -> g.submitGuess("CLOTH"));
+        assertEquals("Hard mode: Your guess must contain R.", ex.getMessage());
+
+        // A refused guess does not use a try
+        assertEquals(g.getChances() - 2, g.submitGuess("CHORD").getRemainingGuesses());
+        assertTrue(g.isGameWon());
+    }
+
+    @Test
+    void hardMode_multiWord_acceptsHintsOfAnyUnsolvedWord() {
+        WordleLogic g = new WordleLogic("CHORD", "SLATE");
+        g.setHardMode(true);
+
+        g.submitGuess("CRANE");
+
+        // Uses the hints of SLATE (A green, E green), not those of CHORD
+        assertDoesNotThrow(() -> g.submitGuess("PLATE"));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> g.submitGuess("MOIST"));
+        assertTrue(ex.getMessage().startsWith("Hard mode: Word 1: "));
+    }
+
+    @Test
+    void constraints_matchReplayOfAllTurns() {
+        String[] words = new Language("en").getWordList(5);
+        Random random = new Random(11);
+
+        for (int game = 0; game < 200; game++) {
+            WordleLogic g = new WordleLogic(words[random.nextInt(words.length)]);
+            List<WordleLogic.TurnResult> history = new ArrayList<>();
+
+            while (!g.isGameOver()) {
+                history.add(g.submitGuess(words[random.nextInt(words.length)]));
+
+                for (int probe = 0; probe < 20; probe++) {
+                    String guess = words[random.nextInt(words.length)];
+                    assertEquals(usesAllHints(guess, history), g.getConstraints(0).check(guess) == null, guess);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reference hard mode check: replays every turn (greens in place, green and yellow copies contained).
+     */
+    private static boolean usesAllHints(String guess, List<WordleLogic.TurnResult> history) {
+        for (WordleLogic.TurnResult r : history) {
+            WordleLogic.Tile[] tiles = r.getTilesByWord()[0];
+            for (int i = 0; i < tiles.length; i++) {
+                char c = r.getGuess().charAt(i);
+                if (tiles[i] == WordleLogic.Tile.GREEN && guess.charAt(i) != c) {
+                    return false;
+                }
+                long revealed = IntStream.range(0, tiles.length)
+                        .filter(j -> r.getGuess().charAt(j) == c && tiles[j] != WordleLogic.Tile.GREY)
+                        .count();
+                if (guess.chars().filter(x -> x == c).count() < revealed) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
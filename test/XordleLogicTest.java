@@ -51,4 +51,35 @@ public class XordleLogicTest {
         assertTrue(r2.isGameWon());
         assertTrue(r2.isGameOver());
     }
+
+    @Test
+    void hardMode_bansLettersGreyInBothWords_butNotOneWordHints() {
+        XordleLogic g = new XordleLogic("CRANE", "MOIST");
+        g.setHardMode(true);
+
+        g.submitGuess("CHUMP"); // H, U, P in neither word
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> g.submitGuess("PLUMB"));
+        assertEquals("Hard mode: P was already ruled out.", ex.getMessage());
+
+        // C was green for CRANE only: MOIST must still be playable
+        assertDoesNotThrow(() -> g.submitGuess("MOIST"));
+        assertEquals('C', g.getConstraints(0).getFixed(0));
+    }
+
+    @Test
+    void hardMode_keepsOnlyLettersShownBlue() {
+        XordleLogic g = new XordleLogic("CRANE", "CLOUT");
+        g.setHardMode(true);
+
+        XordleLogic.TurnResult r = g.submitGuess("CHUMP");
+        assertEquals(XordleLogic.Tile.BLUE, r.getTiles()[0]);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> g.submitGuess("SLATE"));
+        assertEquals("Hard mode: Letter 1 must be C.", ex.getMessage());
+
+        // L is green for CLOUT only, so the next guess may move it
+        assertEquals(XordleLogic.Tile.GREEN, g.submitGuess("CLEAR").getTiles()[1]);
+        assertDoesNotThrow(() -> g.submitGuess("CRANE"));
+    }
 }
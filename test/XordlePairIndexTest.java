@@ -0,0 +1,56 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class XordlePairIndexTest {
+
+    private static final String[] WORDS = {"CRANE", "BUILT", "MOIST", "FUZZY", "GHOST", "PLUMB", "DWARF"};
+
+    @Test
+    void maskHasOneBitPerDistinctLetter() {
+        assertEquals(1 | (1 << 1) | (1 << 2), XordlePairIndex.mask("CAB"));
+        assertEquals(XordlePairIndex.mask("LEVEL"), XordlePairIndex.mask("VEL"));
+        assertEquals(0, XordlePairIndex.mask("CRANE") & XordlePairIndex.mask("BUILT"));
+    }
+
+    @Test
+    void pairCountMatchesBruteForce() {
+        XordlePairIndex index = new XordlePairIndex(WORDS);
+
+        int expected = 0;
+        for (int i = 0; i < WORDS.length; i++) {
+            for (int j = i + 1; j < WORDS.length; j++) {
+                boolean shared = false;
+                for (char c : WORDS[i].toCharArray()) {
+                    if (WORDS[j].indexOf(c) >= 0) {
+                        shared = true;
+                    }
+                }
+                if (!shared) {
+                    expected++;
+                }
+            }
+        }
+
+        assertEquals(expected, index.getPairCount());
+    }
+
+    @Test
+    void samplesAreDisjointPairs() {
+        XordlePairIndex index = new XordlePairIndex(WORDS);
+
+        for (int k = 0; k < 200; k++) {
+            int[] pair = index.sample();
+            assertNotEquals(pair[0], pair[1]);
+            assertTrue(index.isDisjoint(pair[0], pair[1]), WORDS[pair[0]] + " / " + WORDS[pair[1]]);
+        }
+    }
+
+    @Test
+    void noDisjointPairGivesNull() {
+        XordlePairIndex index = new XordlePairIndex(new String[]{"APPLE", "PAPER", "LEAPT"});
+
+        assertEquals(0, index.getPairCount());
+        assertNull(index.sample());
+    }
+}
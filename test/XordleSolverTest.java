@@ -0,0 +1,72 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class XordleSolverTest {
+
+    private static final String[] WORDS = {
+            "CRANE", "BUILT", "MOIST", "FUZZY", "GHOST", "PLUMB", "DWARF", "JOLLY", "SWIFT", "BRICK", "LUNCH", "EMPTY"
+    };
+
+    @Test
+    void startsWithBothOrdersOfEveryDisjointPair() {
+        XordleSolver solver = new XordleSolver(WORDS);
+
+        assertEquals(2L * new XordlePairIndex(WORDS).getPairCount(), solver.getCandidatePairCount());
+    }
+
+    @Test
+    void keepsSecretPairAndShrinks() {
+        XordleLogic g = new XordleLogic("CRANE", "BUILT");
+        XordleSolver solver = new XordleSolver(WORDS);
+        long before = solver.getCandidatePairCount();
+
+        solver.apply(g.submitGuess("GHOST"));
+
+        assertTrue(solver.getCandidatePairCount() < before);
+        assertTrue(containsPair(solver.candidatePairs(Integer.MAX_VALUE), "CRANE", "BUILT"));
+    }
+
+    @Test
+    void solvedFlagsFixTheWordOrder() {
+        XordleLogic g = new XordleLogic("CRANE", "BUILT");
+        XordleSolver solver = new XordleSolver(WORDS);
+
+        solver.apply(g.submitGuess("BUILT"));
+
+        List<String[]> left = solver.candidatePairs(Integer.MAX_VALUE);
+        assertFalse(left.isEmpty());
+        for (String[] pair : left) {
+            assertEquals("BUILT", pair[1]);
+        }
+    }
+
+    @Test
+    void solvesEveryDisjointPairWithinChances() {
+        XordlePairIndex index = new XordlePairIndex(WORDS);
+
+        for (int k = 0; k < index.getPairCount(); k++) {
+            XordleLogic g = new XordleLogic(WORDS[index.second(k)], WORDS[index.first(k)]);
+            XordleSolver solver = new XordleSolver(WORDS);
+
+            while (!g.isGameOver()) {
+                String guess = solver.nextGuess();
+                assertNotNull(guess);
+                solver.apply(g.submitGuess(guess));
+            }
+
+            assertTrue(g.isGameWon(), "Solver failed on " + String.join("/", g.getWords()));
+        }
+    }
+
+    private static boolean containsPair(List<String[]> pairs, String first, String second) {
+        for (String[] p : pairs) {
+            if (p[0].equals(first) && p[1].equals(second)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}